@@ -0,0 +1,42 @@
+package br.com.wallet.domain.service;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.service.transaction.TransactionProcessor;
+import br.com.wallet.domain.service.transaction.processor.DepositProcessor;
+import br.com.wallet.domain.service.transaction.processor.TransferProcessor;
+import br.com.wallet.domain.service.transaction.processor.WithdrawProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcessorDispatchBenchmark {
+
+    @Param({"DEPOSIT", "WITHDRAW", "TRANSFER"})
+    private Transaction.TransactionType type;
+
+    private TransactionService transactionService;
+
+    @Setup
+    public void setUp() {
+        transactionService = new TransactionService(null, null, List.of(
+                new DepositProcessor(null, null, null, null),
+                new WithdrawProcessor(null, null, null, null),
+                new TransferProcessor(null, null, null, null)), null, null, null);
+    }
+
+    @Benchmark
+    public TransactionProcessor getProcessorForType() {
+        return transactionService.getProcessorForType(type);
+    }
+}
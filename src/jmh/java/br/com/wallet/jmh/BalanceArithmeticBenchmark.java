@@ -0,0 +1,77 @@
+package br.com.wallet.jmh;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.service.transaction.TransactionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BalanceArithmeticBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1.25");
+    private static final Money MONEY_AMOUNT = Money.of(AMOUNT);
+
+    private final TransactionValidator transactionValidator = new TransactionValidator();
+
+    private final Transaction deposit = Transaction.builder()
+            .type(Transaction.TransactionType.DEPOSIT)
+            .toUserId(UUID.randomUUID())
+            .amount(AMOUNT)
+            .build();
+
+    private UserWallet userWallet;
+    private BigDecimal decimalBalance;
+
+    @Setup
+    public void setUp() {
+        userWallet = UserWallet.builder()
+                .userId(UUID.randomUUID())
+                .balance(Money.of(new BigDecimal("1000000.00")))
+                .build();
+        decimalBalance = new BigDecimal("1000000.00");
+    }
+
+    @Benchmark
+    public Transaction validateDeposit() {
+        transactionValidator.validateTransactionType(deposit, Transaction.TransactionType.DEPOSIT);
+        transactionValidator.validateAmount(deposit.getAmount());
+        return deposit;
+    }
+
+    @Benchmark
+    public Money creditBalance() {
+        userWallet.setBalance(userWallet.getBalance().plus(MONEY_AMOUNT));
+        return userWallet.getBalance();
+    }
+
+    @Benchmark
+    public Money debitBalanceWithSufficientFundsCheck() {
+        transactionValidator.validateSufficientBalance(userWallet, MONEY_AMOUNT);
+        userWallet.setBalance(userWallet.getBalance().plus(MONEY_AMOUNT.negate()));
+        userWallet.setBalance(userWallet.getBalance().plus(MONEY_AMOUNT));
+        return userWallet.getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal debitBigDecimalBaseline() {
+        if (decimalBalance.compareTo(AMOUNT) < 0) {
+            throw new IllegalArgumentException("Insufficient balance");
+        }
+        decimalBalance = decimalBalance.add(AMOUNT.negate());
+        decimalBalance = decimalBalance.add(AMOUNT);
+        return decimalBalance;
+    }
+}
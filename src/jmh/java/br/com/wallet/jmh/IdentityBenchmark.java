@@ -0,0 +1,40 @@
+package br.com.wallet.jmh;
+
+import br.com.wallet.domain.model.Transaction;
+import com.github.f4b6a3.uuid.UuidCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdentityBenchmark {
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return UuidCreator.getTimeOrdered();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public Transaction assignIdentity() {
+        Transaction transaction = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .amount(BigDecimal.TEN)
+                .build();
+        transaction.assignIdentity();
+        return transaction;
+    }
+}
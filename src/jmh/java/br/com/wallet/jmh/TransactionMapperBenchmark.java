@@ -0,0 +1,52 @@
+package br.com.wallet.jmh;
+
+import br.com.wallet.api.model.request.TransactionRequest;
+import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.core.mapper.TransactionMapper;
+import br.com.wallet.core.mapper.TransactionMapperImpl;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.Wallet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper transactionMapper = new TransactionMapperImpl();
+
+    private final TransactionRequest request = new TransactionRequest(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            Transaction.TransactionType.TRANSFER, new BigDecimal("42.00"), "transfer", null);
+
+    private final Transaction transaction = Transaction.builder()
+            .id(UUID.randomUUID())
+            .wallet(Wallet.builder().id(UUID.randomUUID()).name("benchmark").build())
+            .fromUserId(UUID.randomUUID())
+            .toUserId(UUID.randomUUID())
+            .type(Transaction.TransactionType.TRANSFER)
+            .amount(new BigDecimal("42.00"))
+            .description("transfer")
+            .createdAt(LocalDateTime.now())
+            .build();
+
+    @Benchmark
+    public Transaction toEntity() {
+        return transactionMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.wallet.jmh;
+
+import br.com.wallet.api.model.request.TransactionRequest;
+import br.com.wallet.domain.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionRequestValidationBenchmark {
+
+    private final TransactionRequest deposit = new TransactionRequest(
+            UUID.randomUUID(), null, null, UUID.randomUUID(),
+            Transaction.TransactionType.DEPOSIT, new BigDecimal("125.50"), "deposit", null);
+
+    private final TransactionRequest withdraw = new TransactionRequest(
+            UUID.randomUUID(), null, UUID.randomUUID(), null,
+            Transaction.TransactionType.WITHDRAW, new BigDecimal("10.00"), "withdraw", null);
+
+    private final TransactionRequest transfer = new TransactionRequest(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            Transaction.TransactionType.TRANSFER, new BigDecimal("42.00"), "transfer", null);
+
+    @Benchmark
+    public TransactionRequest validateDeposit() {
+        deposit.validate();
+        return deposit;
+    }
+
+    @Benchmark
+    public TransactionRequest validateWithdraw() {
+        withdraw.validate();
+        return withdraw;
+    }
+
+    @Benchmark
+    public TransactionRequest validateTransfer() {
+        transfer.validate();
+        return transfer;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.wallet.jmh;
+
+import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.domain.model.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionResponseSerializationBenchmark {
+
+    private final ObjectWriter writer = Jackson2ObjectMapperBuilder.json().build()
+            .writerFor(TransactionResponse.class);
+
+    private final TransactionResponse response = new TransactionResponse(
+            UUID.randomUUID(), UUID.randomUUID(), "benchmark", UUID.randomUUID(), UUID.randomUUID(),
+            Transaction.TransactionType.TRANSFER, new BigDecimal("42.00"), "transfer", null,
+            LocalDateTime.now());
+
+    @Benchmark
+    public byte[] serializeToBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public String serializeToString() throws JsonProcessingException {
+        return writer.writeValueAsString(response);
+    }
+}
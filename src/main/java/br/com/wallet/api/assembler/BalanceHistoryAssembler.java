@@ -0,0 +1,29 @@
+package br.com.wallet.api.assembler;
+
+import br.com.wallet.api.model.response.BalanceAtResponse;
+import br.com.wallet.api.model.response.BalanceSeriesPointResponse;
+import br.com.wallet.core.mapper.BalanceHistoryMapper;
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceSeriesPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceHistoryAssembler {
+
+    private final BalanceHistoryMapper balanceHistoryMapper;
+
+    public BalanceAtResponse mapToBalanceAtResponse(BalanceAt balanceAt) {
+        Objects.requireNonNull(balanceAt, "Balance cannot be null");
+        return balanceHistoryMapper.toResponse(balanceAt);
+    }
+
+    public List<BalanceSeriesPointResponse> mapToBalanceSeriesPointResponseList(List<BalanceSeriesPoint> points) {
+        Objects.requireNonNull(points, "Balance series points list cannot be null");
+        return balanceHistoryMapper.toResponseList(points);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.wallet.api.assembler;
+
+import br.com.wallet.api.model.response.LockContentionResponse;
+import br.com.wallet.core.contention.LockContention;
+import br.com.wallet.core.mapper.LockContentionMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class LockContentionAssembler {
+
+    private final LockContentionMapper lockContentionMapper;
+
+    public List<LockContentionResponse> mapToLockContentionResponseList(List<LockContention> contentions) {
+        Objects.requireNonNull(contentions, "Lock contention list cannot be null");
+        return lockContentionMapper.toResponseList(contentions);
+    }
+}
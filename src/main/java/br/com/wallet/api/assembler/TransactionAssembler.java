@@ -1,9 +1,14 @@
 package br.com.wallet.api.assembler;
 
 import br.com.wallet.api.model.request.TransactionRequest;
+import br.com.wallet.api.model.response.TransactionBatchItemResponse;
 import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.api.model.response.TransactionSubmissionResponse;
 import br.com.wallet.core.mapper.TransactionMapper;
 import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.model.TransactionSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +28,10 @@ public class TransactionAssembler {
         return transactionMapper.toResponse(transaction);
     }
 
+    public TransactionResponse mapToTransactionResponseFromSummary(TransactionSummary summary) {
+        return transactionMapper.toResponse(summary);
+    }
+
     public void copyPropertiesToEntity(TransactionRequest transactionRequest, Transaction transaction) {
         transactionMapper.updateEntityFromRequest(transactionRequest, transaction);
     }
@@ -30,4 +39,22 @@ public class TransactionAssembler {
     public List<TransactionResponse> mapToTransactionResponseListFromEntities(List<Transaction> transactions) {
         return transactionMapper.toResponseList(transactions);
     }
+
+    public TransactionBatchItemResponse mapToBatchItemResponse(int index, TransactionBatchResult result) {
+        return result.isSuccess()
+                ? TransactionBatchItemResponse.processed(index, mapToTransactionResponseFromEntity(result.transaction()))
+                : TransactionBatchItemResponse.failed(index, result.errorMessage());
+    }
+
+    public TransactionSubmissionResponse mapToSubmissionResponse(
+            TransactionSubmission submission,
+            TransactionResponse transaction) {
+        return new TransactionSubmissionResponse(
+                submission.getId(),
+                submission.getStatus(),
+                transaction,
+                submission.getErrorMessage(),
+                submission.getCreatedAt(),
+                submission.getCompletedAt());
+    }
 }
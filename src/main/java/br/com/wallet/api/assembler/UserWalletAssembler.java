@@ -4,6 +4,7 @@ import br.com.wallet.api.model.request.UserWalletRequest;
 import br.com.wallet.api.model.response.UserWalletResponse;
 import br.com.wallet.core.mapper.UserWalletMapper;
 import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +27,11 @@ public class UserWalletAssembler {
         return userWalletMapper.toResponse(entity);
     }
 
+    public UserWalletResponse mapToUserWalletResponseFromSummary(UserWalletSummary summary) {
+        Objects.requireNonNull(summary, "UserWallet summary cannot be null");
+        return userWalletMapper.toResponse(summary);
+    }
+
     public void copyPropertiesToEntity(UserWalletRequest request, UserWallet entity) {
         Objects.requireNonNull(request, "UserWalletRequest cannot be null");
         Objects.requireNonNull(entity, "UserWallet entity cannot be null");
@@ -0,0 +1,48 @@
+package br.com.wallet.api.controller;
+
+import br.com.wallet.api.assembler.BalanceHistoryAssembler;
+import br.com.wallet.api.model.response.BalanceAtResponse;
+import br.com.wallet.api.model.response.BalanceSeriesPointResponse;
+import br.com.wallet.domain.model.BalanceSeriesBucket;
+import br.com.wallet.domain.service.BalanceHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/user-wallets/user/{userId}/wallet/{walletId}/balance")
+@RequiredArgsConstructor
+public class BalanceHistoryController {
+
+    private final BalanceHistoryService balanceHistoryService;
+    private final BalanceHistoryAssembler balanceHistoryAssembler;
+
+    @GetMapping
+    public ResponseEntity<BalanceAtResponse> findBalanceAt(
+            @PathVariable UUID userId,
+            @PathVariable UUID walletId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(balanceHistoryAssembler.mapToBalanceAtResponse(
+                balanceHistoryService.findBalanceAt(userId, walletId, at)));
+    }
+
+    @GetMapping("/series")
+    public ResponseEntity<List<BalanceSeriesPointResponse>> findSeries(
+            @PathVariable UUID userId,
+            @PathVariable UUID walletId,
+            @RequestParam BalanceSeriesBucket bucket,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(balanceHistoryAssembler.mapToBalanceSeriesPointResponseList(
+                balanceHistoryService.findSeries(userId, walletId, bucket, from, to)));
+    }
+}
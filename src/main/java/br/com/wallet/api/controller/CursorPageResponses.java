@@ -0,0 +1,30 @@
+package br.com.wallet.api.controller;
+
+import br.com.wallet.domain.model.CursorPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+final class CursorPageResponses {
+
+    static final String DEFAULT_LIMIT = "50";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorPageResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(page.items());
+        }
+        String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", page.nextCursor())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"")
+                .header(NEXT_CURSOR_HEADER, page.nextCursor().toString())
+                .body(page.items());
+    }
+}
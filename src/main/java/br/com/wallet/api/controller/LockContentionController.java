@@ -0,0 +1,36 @@
+package br.com.wallet.api.controller;
+
+import br.com.wallet.api.assembler.LockContentionAssembler;
+import br.com.wallet.api.model.response.LockContentionResponse;
+import br.com.wallet.core.contention.LockContentionProfiler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/lock-contention")
+@RequiredArgsConstructor
+public class LockContentionController {
+
+    private final LockContentionProfiler lockContentionProfiler;
+    private final LockContentionAssembler lockContentionAssembler;
+
+    @GetMapping
+    public ResponseEntity<List<LockContentionResponse>> findMostContended(
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(lockContentionAssembler.mapToLockContentionResponseList(
+                lockContentionProfiler.findMostContended(limit)));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        lockContentionProfiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
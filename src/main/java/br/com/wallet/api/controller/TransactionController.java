@@ -1,22 +1,61 @@
 package br.com.wallet.api.controller;
 
 import br.com.wallet.api.assembler.TransactionAssembler;
+import br.com.wallet.api.export.TransactionExportFormat;
+import br.com.wallet.api.export.TransactionExportWriter;
+import br.com.wallet.api.model.request.TransactionBatchRequest;
 import br.com.wallet.api.model.request.TransactionRequest;
+import br.com.wallet.api.model.response.TransactionBatchItemResponse;
+import br.com.wallet.api.model.response.TransactionBatchResponse;
 import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.api.model.response.TransactionSubmissionResponse;
+import br.com.wallet.core.idempotency.IdempotencyCache;
+import br.com.wallet.core.idempotency.IdempotentResponse;
+import br.com.wallet.core.ratelimit.TransactionRateLimiter;
+import br.com.wallet.core.submission.SubmissionMode;
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.exception.IdempotencyKeyReusedException;
+import br.com.wallet.domain.exception.RateLimitExceededException;
 import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionExportFilter;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.TransactionSubmissionService;
+import br.com.wallet.domain.service.transaction.TransactionRetryExecutor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 
@@ -25,13 +64,76 @@ import java.util.function.UnaryOperator;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final TransactionService transactionService;
     private final TransactionAssembler transactionAssembler;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final IdempotencyCache idempotencyCache;
+    private final TransactionExportWriter transactionExportWriter;
+    private final TransactionSubmissionService transactionSubmissionService;
+    private final SubmissionProperties submissionProperties;
+    private final TransactionRateLimiter transactionRateLimiter;
 
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> findAll() {
-        List<Transaction> transactions = transactionService.findAll();
-        return ResponseEntity.ok(transactionAssembler.mapToTransactionResponseListFromEntities(transactions));
+    public ResponseEntity<List<TransactionResponse>> findAll(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(transactionService.findAll(after, limit)
+                .map(transactionAssembler::mapToTransactionResponseFromSummary));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<List<TransactionResponse>> findHistory(
+            @RequestParam UUID walletId,
+            @RequestParam UUID userId,
+            @RequestParam(required = false) Transaction.TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
+        TransactionHistoryFilter filter = new TransactionHistoryFilter(
+                walletId, userId, type, minAmount, maxAmount, from, to);
+        return CursorPageResponses.ok(transactionService.findHistory(filter, after, limit)
+                .map(transactionAssembler::mapToTransactionResponseFromSummary));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) UUID walletId,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TransactionExportFilter filter = new TransactionExportFilter(walletId, userId, from, to);
+        TransactionExportFormat exportFormat = TransactionExportFormat.of(format);
+        StreamingResponseBody body = outputStream -> transactionService.export(filter,
+                transactions -> transactionExportWriter.write(exportFormat,
+                        transactions.map(transactionAssembler::mapToTransactionResponseFromSummary), outputStream));
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/submissions/{id}")
+    public ResponseEntity<TransactionSubmissionResponse> findSubmission(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "PT0S") Duration wait) {
+        TransactionSubmission submission = wait.isZero()
+                ? transactionSubmissionService.findById(id)
+                : transactionSubmissionService.awaitCompletion(id, wait);
+        return ResponseEntity.ok(mapToSubmissionResponse(submission));
     }
 
     @GetMapping("/{id}")
@@ -41,53 +143,291 @@ public class TransactionController {
     }
 
     @PostMapping("/deposit")
-    public ResponseEntity<TransactionResponse> deposit(@RequestBody @Valid TransactionRequest transactionRequest) {
+    public ResponseEntity<?> deposit(
+            @RequestBody @Valid TransactionRequest transactionRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
         return processTransaction(
                 transactionRequest,
+                idempotencyKey,
+                prefer,
                 Transaction.TransactionType.DEPOSIT,
                 transactionService::deposit
         );
     }
 
     @PostMapping("/withdraw")
-    public ResponseEntity<TransactionResponse> withdraw(@RequestBody @Valid TransactionRequest transactionRequest) {
+    public ResponseEntity<?> withdraw(
+            @RequestBody @Valid TransactionRequest transactionRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
         return processTransaction(
                 transactionRequest,
+                idempotencyKey,
+                prefer,
                 Transaction.TransactionType.WITHDRAW,
                 transactionService::withdraw
         );
     }
 
     @PostMapping("/transfer")
-    public ResponseEntity<TransactionResponse> transfer(@RequestBody @Valid TransactionRequest transactionRequest) {
+    public ResponseEntity<?> transfer(
+            @RequestBody @Valid TransactionRequest transactionRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
         return processTransaction(
                 transactionRequest,
+                idempotencyKey,
+                prefer,
                 Transaction.TransactionType.TRANSFER,
                 transactionService::transfer
         );
     }
 
-    private ResponseEntity<TransactionResponse> processTransaction(
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> batch(@RequestBody @Valid TransactionBatchRequest batchRequest) {
+        List<TransactionRequest> items = batchRequest.items();
+        TransactionBatchItemResponse[] itemResponses = new TransactionBatchItemResponse[items.size()];
+        Map<UserWalletKey, List<Integer>> indexesByWallet = new LinkedHashMap<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            try {
+                TransactionRequest item = Objects.requireNonNull(items.get(index), "Batch item cannot be null");
+                item.validate();
+                indexesByWallet.computeIfAbsent(new UserWalletKey(actingUserId(item), item.walletId()),
+                        key -> new ArrayList<>()).add(index);
+            } catch (IllegalArgumentException | NullPointerException ex) {
+                itemResponses[index] = TransactionBatchItemResponse.failed(index, ex.getMessage());
+            }
+        }
+
+        List<Integer> acceptedIndexes = new ArrayList<>(items.size());
+        indexesByWallet.forEach((key, indexes) -> {
+            try {
+                transactionRateLimiter.acquire(key.userId(), key.walletId(), indexes.size());
+                acceptedIndexes.addAll(indexes);
+            } catch (RateLimitExceededException ex) {
+                indexes.forEach(index ->
+                        itemResponses[index] = TransactionBatchItemResponse.failed(index, ex.getMessage()));
+            }
+        });
+        Collections.sort(acceptedIndexes);
+        List<TransactionRequest> acceptedRequests = acceptedIndexes.stream().map(items::get).toList();
+
+        List<TransactionBatchResult> results = transactionRetryExecutor.execute(() -> transactionService.processBatch(
+                acceptedRequests.stream()
+                        .map(transactionAssembler::mapToTransactionEntityFromRequest)
+                        .toList()
+        ));
+        for (int position = 0; position < results.size(); position++) {
+            int index = acceptedIndexes.get(position);
+            itemResponses[index] = transactionAssembler.mapToBatchItemResponse(index, results.get(position));
+        }
+
+        return ResponseEntity.ok(TransactionBatchResponse.of(Arrays.asList(itemResponses)));
+    }
+
+    private ResponseEntity<?> processTransaction(
             TransactionRequest transactionRequest,
+            String idempotencyKey,
+            String prefer,
             Transaction.TransactionType transactionType,
             UnaryOperator<Transaction> transactionProcessor) {
 
         TransactionRequest transactionRequestWithType = buildTransactionRequestWithType(transactionRequest, transactionType);
         transactionRequestWithType.validate();
 
-        Transaction transactionEntity = transactionAssembler.mapToTransactionEntityFromRequest(transactionRequestWithType);
+        if (shouldRespondAsync(prefer)) {
+            return submitTransaction(transactionRequestWithType, idempotencyKey);
+        }
 
-        Transaction processedTransaction = transactionService.processTransactionWithWallet(
-                transactionEntity,
-                transactionRequestWithType.walletId(),
-                transactionProcessor
-        );
+        if (idempotencyKey == null) {
+            acquireRateLimit(transactionRequestWithType);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(executeTransaction(transactionRequestWithType, null, transactionProcessor));
+        }
 
-        TransactionResponse response = transactionAssembler.mapToTransactionResponseFromEntity(processedTransaction);
+        validateIdempotencyKey(idempotencyKey);
+        UUID userId = actingUserId(transactionRequestWithType);
+        Optional<IdempotentResponse> previousResponse = findPreviousResponse(userId, idempotencyKey);
+        if (previousResponse.isPresent()) {
+            return replay(idempotencyKey, transactionRequestWithType, previousResponse.get());
+        }
+        Optional<TransactionSubmission> previousSubmission =
+                transactionSubmissionService.findByIdempotencyKey(userId, idempotencyKey);
+        if (previousSubmission.isPresent()) {
+            return replaySubmission(idempotencyKey, transactionRequestWithType, previousSubmission.get());
+        }
+
+        acquireRateLimit(transactionRequestWithType);
+        TransactionResponse response;
+        try {
+            response = executeTransaction(transactionRequestWithType, idempotencyKey, transactionProcessor);
+        } catch (DataIntegrityViolationException ex) {
+            IdempotentResponse concurrentResponse = findPreviousResponse(userId, idempotencyKey).orElseThrow(() -> ex);
+            return replay(idempotencyKey, transactionRequestWithType, concurrentResponse);
+        }
+        idempotencyCache.put(userId, idempotencyKey,
+                new IdempotentResponse(response, transactionRequestWithType.destinationWalletId()));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    private void acquireRateLimit(TransactionRequest transactionRequest) {
+        transactionRateLimiter.acquire(actingUserId(transactionRequest), transactionRequest.walletId());
+    }
+
+    private UUID actingUserId(TransactionRequest transactionRequest) {
+        return transactionRequest.type() == Transaction.TransactionType.DEPOSIT
+                ? transactionRequest.toUserId()
+                : transactionRequest.fromUserId();
+    }
+
+    private boolean shouldRespondAsync(String prefer) {
+        return submissionProperties.getMode() == SubmissionMode.ASYNCHRONOUS
+                || StringUtils.containsIgnoreCase(prefer, RESPOND_ASYNC);
+    }
+
+    private ResponseEntity<?> submitTransaction(
+            TransactionRequest transactionRequest,
+            String idempotencyKey) {
+
+        if (idempotencyKey == null) {
+            acquireRateLimit(transactionRequest);
+            return accepted(transactionSubmissionService.submit(
+                    transactionAssembler.mapToTransactionEntityFromRequest(transactionRequest), null), false);
+        }
+
+        validateIdempotencyKey(idempotencyKey);
+        UUID userId = actingUserId(transactionRequest);
+        Optional<TransactionSubmission> previousSubmission =
+                transactionSubmissionService.findByIdempotencyKey(userId, idempotencyKey);
+        if (previousSubmission.isPresent()) {
+            return replaySubmission(idempotencyKey, transactionRequest, previousSubmission.get());
+        }
+        Optional<IdempotentResponse> previousResponse = findPreviousResponse(userId, idempotencyKey);
+        if (previousResponse.isPresent()) {
+            return replay(idempotencyKey, transactionRequest, previousResponse.get());
+        }
+
+        acquireRateLimit(transactionRequest);
+        try {
+            return accepted(transactionSubmissionService.submit(
+                    transactionAssembler.mapToTransactionEntityFromRequest(transactionRequest), idempotencyKey), false);
+        } catch (DataIntegrityViolationException ex) {
+            TransactionSubmission concurrentSubmission = transactionSubmissionService
+                    .findByIdempotencyKey(userId, idempotencyKey)
+                    .orElseThrow(() -> ex);
+            return replaySubmission(idempotencyKey, transactionRequest, concurrentSubmission);
+        }
+    }
+
+    private ResponseEntity<TransactionSubmissionResponse> replaySubmission(
+            String idempotencyKey,
+            TransactionRequest transactionRequest,
+            TransactionSubmission previousSubmission) {
+
+        if (!matchesPreviousSubmission(transactionRequest, previousSubmission)) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        return accepted(previousSubmission, true);
+    }
+
+    private ResponseEntity<TransactionSubmissionResponse> accepted(TransactionSubmission submission, boolean replayed) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/transactions/submissions/" + submission.getId()))
+                .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC);
+        if (replayed) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        }
+        return response.body(mapToSubmissionResponse(submission));
+    }
+
+    private TransactionSubmissionResponse mapToSubmissionResponse(TransactionSubmission submission) {
+        TransactionResponse transaction = submission.getTransactionId() == null
+                ? null
+                : transactionAssembler.mapToTransactionResponseFromEntity(
+                        transactionService.findById(submission.getTransactionId()));
+        return transactionAssembler.mapToSubmissionResponse(submission, transaction);
+    }
+
+    private TransactionResponse executeTransaction(
+            TransactionRequest transactionRequest,
+            String idempotencyKey,
+            UnaryOperator<Transaction> transactionProcessor) {
+
+        Transaction processedTransaction = transactionRetryExecutor.execute(() -> {
+            Transaction transaction = transactionAssembler.mapToTransactionEntityFromRequest(transactionRequest);
+            transaction.setIdempotencyKey(idempotencyKey);
+            return transactionService.processTransactionWithWallet(
+                    transaction,
+                    transactionRequest.walletId(),
+                    transactionProcessor
+            );
+        });
+
+        return transactionAssembler.mapToTransactionResponseFromEntity(processedTransaction);
+    }
+
+    private Optional<IdempotentResponse> findPreviousResponse(UUID userId, String idempotencyKey) {
+        Optional<IdempotentResponse> cachedResponse = idempotencyCache.find(userId, idempotencyKey);
+        if (cachedResponse.isPresent()) {
+            return cachedResponse;
+        }
+
+        Optional<IdempotentResponse> storedResponse = transactionService.findByIdempotencyKey(userId, idempotencyKey)
+                .map(transaction -> new IdempotentResponse(
+                        transactionAssembler.mapToTransactionResponseFromEntity(transaction),
+                        transaction.getDestinationWalletId()));
+        storedResponse.ifPresent(response -> idempotencyCache.put(userId, idempotencyKey, response));
+        return storedResponse;
+    }
+
+    private ResponseEntity<TransactionResponse> replay(
+            String idempotencyKey,
+            TransactionRequest transactionRequest,
+            IdempotentResponse previousResponse) {
+
+        if (!matchesPreviousResponse(transactionRequest, previousResponse)) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString())
+                .body(previousResponse.response());
+    }
+
+    private boolean matchesPreviousResponse(TransactionRequest transactionRequest, IdempotentResponse idempotentResponse) {
+        TransactionResponse previousResponse = idempotentResponse.response();
+        return transactionRequest.type() == previousResponse.type()
+                && Objects.equals(transactionRequest.walletId(), previousResponse.walletId())
+                && Objects.equals(transactionRequest.fromUserId(), previousResponse.fromUserId())
+                && Objects.equals(transactionRequest.toUserId(), previousResponse.toUserId())
+                && Objects.equals(transactionRequest.destinationWalletId(), idempotentResponse.destinationWalletId())
+                && transactionRequest.amount() != null
+                && previousResponse.amount() != null
+                && transactionRequest.amount().compareTo(previousResponse.amount()) == 0;
+    }
+
+    private boolean matchesPreviousSubmission(TransactionRequest transactionRequest, TransactionSubmission previousSubmission) {
+        return transactionRequest.type() == previousSubmission.getType()
+                && Objects.equals(transactionRequest.walletId(), previousSubmission.getWalletId())
+                && Objects.equals(transactionRequest.fromUserId(), previousSubmission.getFromUserId())
+                && Objects.equals(transactionRequest.toUserId(), previousSubmission.getToUserId())
+                && Objects.equals(transactionRequest.destinationWalletId(), previousSubmission.getDestinationWalletId())
+                && transactionRequest.amount().compareTo(previousSubmission.getAmount()) == 0;
+    }
+
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (StringUtils.isBlank(idempotencyKey)) {
+            throw new IllegalArgumentException(IDEMPOTENCY_KEY_HEADER + " header cannot be blank");
+        }
+        if (idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                    IDEMPOTENCY_KEY_HEADER + " header cannot exceed " + IDEMPOTENCY_KEY_MAX_LENGTH + " characters");
+        }
+    }
+
     private TransactionRequest buildTransactionRequestWithType(
             TransactionRequest originalRequest,
             Transaction.TransactionType transactionType) {
@@ -3,6 +3,7 @@ package br.com.wallet.api.controller;
 import br.com.wallet.api.assembler.UserWalletAssembler;
 import br.com.wallet.api.model.request.UserWalletRequest;
 import br.com.wallet.api.model.response.UserWalletResponse;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.UserWallet;
 import br.com.wallet.domain.service.UserWalletService;
 import jakarta.validation.Valid;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,9 +33,11 @@ public class UserWalletController {
     private final UserWalletAssembler userWalletAssembler;
 
     @GetMapping
-    public ResponseEntity<List<UserWalletResponse>> findAll() {
-        List<UserWallet> userWallets = userWalletService.findAll();
-        return ResponseEntity.ok(userWalletAssembler.mapToUserWalletResponseListFromEntities(userWallets));
+    public ResponseEntity<List<UserWalletResponse>> findAll(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponses.ok(userWalletService.findAll(after, limit)
+                .map(userWalletAssembler::mapToUserWalletResponseFromSummary));
     }
 
     @GetMapping("/{id}")
@@ -44,17 +48,23 @@ public class UserWalletController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<UserWalletResponse>> findByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<List<UserWalletResponse>> findByUserId(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
         Objects.requireNonNull(userId, "User ID cannot be null");
-        List<UserWallet> userWallets = userWalletService.findByUserId(userId);
-        return ResponseEntity.ok(userWalletAssembler.mapToUserWalletResponseListFromEntities(userWallets));
+        CursorPage<UserWallet> userWallets = userWalletService.findByUserId(userId, after, limit);
+        return CursorPageResponses.ok(userWallets.map(userWalletAssembler::mapToUserWalletResponseFromEntity));
     }
 
     @GetMapping("/wallet/{walletId}")
-    public ResponseEntity<List<UserWalletResponse>> findByWalletId(@PathVariable UUID walletId) {
+    public ResponseEntity<List<UserWalletResponse>> findByWalletId(
+            @PathVariable UUID walletId,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
         Objects.requireNonNull(walletId, "Wallet ID cannot be null");
-        List<UserWallet> userWallets = userWalletService.findByWalletId(walletId);
-        return ResponseEntity.ok(userWalletAssembler.mapToUserWalletResponseListFromEntities(userWallets));
+        return CursorPageResponses.ok(userWalletService.findByWalletId(walletId, after, limit)
+                .map(userWalletAssembler::mapToUserWalletResponseFromSummary));
     }
 
     @GetMapping("/user/{userId}/wallet/{walletId}")
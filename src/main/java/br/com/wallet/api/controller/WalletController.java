@@ -3,6 +3,7 @@ package br.com.wallet.api.controller;
 import br.com.wallet.api.assembler.WalletAssembler;
 import br.com.wallet.api.model.request.WalletRequest;
 import br.com.wallet.api.model.response.WalletResponse;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.service.WalletService;
 import jakarta.validation.Valid;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -30,9 +32,11 @@ public class WalletController {
     private final WalletAssembler walletAssembler;
 
     @GetMapping
-    public ResponseEntity<List<WalletResponse>> findAll() {
-        List<Wallet> wallets = walletService.findAll();
-        return ResponseEntity.ok(walletAssembler.mapToWalletResponseListFromEntities(wallets));
+    public ResponseEntity<List<WalletResponse>> findAll(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = CursorPageResponses.DEFAULT_LIMIT) int limit) {
+        CursorPage<Wallet> wallets = walletService.findAll(after, limit);
+        return CursorPageResponses.ok(wallets.map(walletAssembler::mapToWalletResponseFromEntity));
     }
 
     @GetMapping("/{id}")
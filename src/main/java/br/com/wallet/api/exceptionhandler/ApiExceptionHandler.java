@@ -2,12 +2,17 @@ package br.com.wallet.api.exceptionhandler;
 
 import br.com.wallet.domain.exception.DuplicateUserWalletException;
 import br.com.wallet.domain.exception.DuplicateWalletNameException;
+import br.com.wallet.domain.exception.IdempotencyKeyReusedException;
+import br.com.wallet.domain.exception.RateLimitExceededException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -92,6 +97,67 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyReused(@NonNull IdempotencyKeyReusedException ex, @NonNull WebRequest request) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+
+        ProblemDetail problemDetail = ProblemDetail.builder()
+                .status(status.value())
+                .title("Idempotency key reused")
+                .detail(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(@NonNull OptimisticLockingFailureException ex, @NonNull WebRequest request) {
+        HttpStatus status = HttpStatus.CONFLICT;
+
+        ProblemDetail problemDetail = ProblemDetail.builder()
+                .status(status.value())
+                .title("Concurrent update")
+                .detail("The resource was modified concurrently, please retry the operation")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Object> handleRateLimitExceeded(@NonNull RateLimitExceededException ex, @NonNull WebRequest request) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+
+        ProblemDetail problemDetail = ProblemDetail.builder()
+                .status(status.value())
+                .title("Too many requests")
+                .detail(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Object> handleDatabaseUnavailable(@NonNull RuntimeException ex, @NonNull WebRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        ProblemDetail problemDetail = ProblemDetail.builder()
+                .status(status.value())
+                .title("Database busy")
+                .detail("No database connection became available in time, please retry the operation")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
             @NonNull MethodArgumentNotValidException ex,
@@ -0,0 +1,85 @@
+package br.com.wallet.api.export;
+
+import br.com.wallet.api.model.response.TransactionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionExportWriter {
+
+    private static final String CSV_HEADER = "id,walletId,walletName,fromUserId,toUserId,type,amount,description,"
+            + "relatedTransactionId,createdAt";
+
+    private final ObjectMapper objectMapper;
+
+    public void write(TransactionExportFormat format, Stream<TransactionResponse> transactions, OutputStream outputStream) {
+        Objects.requireNonNull(format, "Export format cannot be null");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            switch (format) {
+                case NDJSON -> writeNdjson(transactions.iterator(), writer);
+                case CSV -> writeCsv(transactions.iterator(), writer);
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeNdjson(Iterator<TransactionResponse> transactions, Writer writer) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        while (transactions.hasNext()) {
+            rowWriter.writeValue(writer, transactions.next());
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<TransactionResponse> transactions, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (transactions.hasNext()) {
+            TransactionResponse transaction = transactions.next();
+            writer.write(String.join(",",
+                    csv(transaction.id()),
+                    csv(transaction.walletId()),
+                    csv(transaction.walletName()),
+                    csv(transaction.fromUserId()),
+                    csv(transaction.toUserId()),
+                    csv(transaction.type()),
+                    transaction.amount() == null ? "" : transaction.amount().toPlainString(),
+                    csv(transaction.description()),
+                    csv(transaction.relatedTransactionId()),
+                    csv(transaction.createdAt())));
+            writer.write('\n');
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.wallet.api.model.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TransactionBatchRequest(
+        @NotEmpty(message = "Batch items are required")
+        @Size(max = 5000, message = "Batch cannot contain more than 5000 items")
+        List<TransactionRequest> items
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.wallet.api.model.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BalanceAtResponse(
+        UUID userId,
+        UUID walletId,
+        LocalDateTime at,
+        BigDecimal balance,
+        LocalDateTime recordedAt
+) {
+}
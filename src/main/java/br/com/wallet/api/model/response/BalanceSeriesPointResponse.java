@@ -0,0 +1,14 @@
+package br.com.wallet.api.model.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BalanceSeriesPointResponse(
+        LocalDateTime bucket,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        long changes
+) {
+}
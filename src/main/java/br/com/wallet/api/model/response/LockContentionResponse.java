@@ -0,0 +1,17 @@
+package br.com.wallet.api.model.response;
+
+import java.util.UUID;
+
+public record LockContentionResponse(
+        UUID userId,
+        UUID walletId,
+        long totalWaitMicros,
+        long totalWaitErrorMicros,
+        long acquisitions,
+        long timeouts,
+        long p50WaitMicros,
+        long p90WaitMicros,
+        long p99WaitMicros,
+        long maxWaitMicros
+) {
+}
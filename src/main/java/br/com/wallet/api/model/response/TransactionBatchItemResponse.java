@@ -0,0 +1,24 @@
+package br.com.wallet.api.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionBatchItemResponse(
+        int index,
+        Status status,
+        TransactionResponse transaction,
+        String error
+) {
+
+    public static TransactionBatchItemResponse processed(int index, TransactionResponse transaction) {
+        return new TransactionBatchItemResponse(index, Status.PROCESSED, transaction, null);
+    }
+
+    public static TransactionBatchItemResponse failed(int index, String error) {
+        return new TransactionBatchItemResponse(index, Status.FAILED, null, error);
+    }
+
+    public enum Status {
+        PROCESSED, FAILED
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.wallet.api.model.response;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+        int total,
+        long processed,
+        long failed,
+        List<TransactionBatchItemResponse> items
+) {
+
+    public static TransactionBatchResponse of(List<TransactionBatchItemResponse> items) {
+        long processed = items.stream()
+                .filter(item -> item.status() == TransactionBatchItemResponse.Status.PROCESSED)
+                .count();
+        return new TransactionBatchResponse(items.size(), processed, items.size() - processed, items);
+    }
+}
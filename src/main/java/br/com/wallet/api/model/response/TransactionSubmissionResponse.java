@@ -0,0 +1,18 @@
+package br.com.wallet.api.model.response;
+
+import br.com.wallet.domain.model.TransactionSubmission;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionSubmissionResponse(
+        UUID id,
+        TransactionSubmission.SubmissionStatus status,
+        TransactionResponse transaction,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+}
@@ -1,8 +1,8 @@
 package br.com.wallet.api.model.response;
 
+import br.com.wallet.domain.model.Money;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -12,7 +12,7 @@ public record UserWalletResponse(
         UUID userId,
         UUID walletId,
         String walletName,
-        BigDecimal balance,
+        Money balance,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
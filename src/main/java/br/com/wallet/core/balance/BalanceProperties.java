@@ -0,0 +1,77 @@
+package br.com.wallet.core.balance;
+
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.history.BalanceHistoryMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.balance")
+public class BalanceProperties {
+
+    private BalanceUpdateMode updateStrategy = BalanceUpdateMode.PESSIMISTIC_LOCK;
+
+    private Retry retry = new Retry();
+
+    private History history = new History();
+
+    private Engine engine = new Engine();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private int maxAttempts = 5;
+
+        private Duration initialBackoff = Duration.ofMillis(5);
+
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+
+        private BalanceHistoryMode mode = BalanceHistoryMode.SYNCHRONOUS;
+
+        private int queueCapacity = 50_000;
+
+        private int batchSize = 1000;
+
+        private Duration flushInterval = Duration.ofMillis(50);
+
+        private Duration enqueueTimeout = Duration.ofMillis(10);
+
+        private int maxAttempts = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Engine {
+
+        private int shards = 4;
+
+        private String journalDirectory = "journal";
+
+        private DataSize journalSize = DataSize.ofMegabytes(64);
+
+        private boolean fsync = false;
+
+        private int projectionQueueCapacity = 100_000;
+
+        private int projectionBatchSize = 1000;
+
+        private Duration projectionInterval = Duration.ofMillis(20);
+
+        private int projectionMaxAttempts = 5;
+
+        private int maxBalancesPerShard = 100_000;
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.wallet.core.cache;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class UserWalletCache {
+
+    private final UserWalletCacheProperties userWalletCacheProperties;
+    private final Cache<UserWalletKey, UserWallet> userWalletsByKey;
+    private final Cache<UUID, List<UserWallet>> userWalletsByUserId;
+    private final Timer notificationLag;
+    private final Counter staleInvalidations;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserWalletCache(UserWalletCacheProperties userWalletCacheProperties, MeterRegistry meterRegistry) {
+        this.userWalletCacheProperties = userWalletCacheProperties;
+        this.userWalletsByKey = Caffeine.newBuilder()
+                .maximumSize(userWalletCacheProperties.getMaximumSize())
+                .expireAfterWrite(userWalletCacheProperties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.userWalletsByUserId = Caffeine.newBuilder()
+                .maximumSize(userWalletCacheProperties.getMaximumUsers())
+                .expireAfterWrite(userWalletCacheProperties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userWalletsByKey, "user-wallets-by-key");
+        CaffeineCacheMetrics.monitor(meterRegistry, userWalletsByUserId, "user-wallets-by-user");
+        this.notificationLag = Timer.builder("wallet.cache.user-wallet.notification.lag")
+                .description("Time between a user_wallet change in the database and its arrival at this node")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.staleInvalidations = Counter.builder("wallet.cache.user-wallet.stale.invalidations")
+                .description("Cached user wallets invalidated because another writer changed them")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return userWalletCacheProperties.isEnabled();
+    }
+
+    public Optional<UserWallet> find(UserWalletKey key, Supplier<Optional<UserWallet>> loader) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        long loadGeneration = generation.get();
+        UserWallet userWallet = userWalletsByKey.get(key, ignored -> loader.get().orElse(null));
+        if (userWallet != null && generation.get() != loadGeneration) {
+            userWalletsByKey.asMap().remove(key, userWallet);
+        }
+        return Optional.ofNullable(userWallet);
+    }
+
+    public List<UserWallet> findByUserId(UUID userId, Supplier<List<UserWallet>> loader) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        long loadGeneration = generation.get();
+        List<UserWallet> userWallets = userWalletsByUserId.get(userId, id -> List.copyOf(loader.get()));
+        if (generation.get() != loadGeneration) {
+            userWalletsByUserId.asMap().remove(userId, userWallets);
+        }
+        return userWallets;
+    }
+
+    public void updateBalanceAfterCommit(UserWalletKey key, Money balance) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(balance, "Balance cannot be null");
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            userWalletsByKey.asMap().compute(key, (cachedKey, cachedUserWallet) ->
+                    cachedUserWallet == null ? null : withBalance(cachedUserWallet, balance, null));
+            invalidate(userWalletsByUserId, key.userId());
+        });
+    }
+
+    public void evictAfterCommit(UserWalletKey key) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        evict(key);
+        afterCommit(() -> evict(key));
+    }
+
+    public void apply(UserWalletChange change) {
+        Objects.requireNonNull(change, "User wallet change cannot be null");
+        notificationLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - change.changedAt())));
+        UserWalletKey key = new UserWalletKey(change.userId(), change.walletId());
+        invalidate(userWalletsByUserId, key.userId());
+        if (change.isDelete()) {
+            invalidate(userWalletsByKey, key);
+            return;
+        }
+        userWalletsByKey.asMap().compute(key, (cachedKey, cachedUserWallet) -> {
+            if (cachedUserWallet == null) {
+                return null;
+            }
+            if (change.balance() != null && change.balance().equals(cachedUserWallet.getBalance())) {
+                return withBalance(cachedUserWallet, cachedUserWallet.getBalance(), change.version());
+            }
+            if (cachedUserWallet.getVersion() != null && change.version() != null
+                    && cachedUserWallet.getVersion() >= change.version()) {
+                return cachedUserWallet;
+            }
+            staleInvalidations.increment();
+            return null;
+        });
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        userWalletsByKey.invalidateAll();
+        userWalletsByUserId.invalidateAll();
+    }
+
+    private void evict(UserWalletKey key) {
+        invalidate(userWalletsByKey, key);
+        invalidate(userWalletsByUserId, key.userId());
+    }
+
+    private static <K, V> void invalidate(Cache<K, V> cache, K key) {
+        cache.asMap().compute(key, (cachedKey, cachedValue) -> null);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static UserWallet withBalance(UserWallet userWallet, Money balance, Long version) {
+        return UserWallet.builder()
+                .id(userWallet.getId())
+                .userId(userWallet.getUserId())
+                .wallet(userWallet.getWallet())
+                .balance(balance)
+                .createdAt(userWallet.getCreatedAt())
+                .updatedAt(version == null ? LocalDateTime.now() : userWallet.getUpdatedAt())
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.wallet.core.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.cache.user-wallet")
+public class UserWalletCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 100_000;
+
+    private long maximumUsers = 20_000;
+
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    private Duration listenPollInterval = Duration.ofMillis(500);
+
+    private Duration reconnectBackoff = Duration.ofSeconds(5);
+}
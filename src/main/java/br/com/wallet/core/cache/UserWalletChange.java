@@ -0,0 +1,13 @@
+package br.com.wallet.core.cache;
+
+import br.com.wallet.domain.model.Money;
+
+import java.util.UUID;
+
+public record UserWalletChange(
+        String operation, UUID userId, UUID walletId, Money balance, Long version, long changedAt) {
+
+    public boolean isDelete() {
+        return "DELETE".equals(operation);
+    }
+}
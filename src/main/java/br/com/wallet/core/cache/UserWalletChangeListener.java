@@ -0,0 +1,122 @@
+package br.com.wallet.core.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserWalletChangeListener implements SmartLifecycle {
+
+    static final String CHANNEL = "user_wallet_changed";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final UserWalletCache userWalletCache;
+    private final UserWalletCacheProperties userWalletCacheProperties;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @Override
+    public void start() {
+        if (!userWalletCacheProperties.isEnabled()) {
+            return;
+        }
+        DataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("user-wallet-change-listener")
+                .daemon()
+                .start(() -> run(dataSource));
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        listener.interrupt();
+        try {
+            listener.join(userWalletCacheProperties.getListenPollInterval().multipliedBy(4).toMillis() + 1000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run(DataSource dataSource) {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Lost user_wallet change notifications, retrying", ex);
+                }
+            }
+            userWalletCache.evictAll();
+            pause(userWalletCacheProperties.getReconnectBackoff());
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        userWalletCache.evictAll();
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollMillis = (int) Math.max(1, userWalletCacheProperties.getListenPollInterval().toMillis());
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            userWalletCache.apply(objectMapper.readValue(payload, UserWalletChange.class));
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed user_wallet change notification: {}", payload);
+        }
+    }
+
+    private void pause(Duration duration) {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.wallet.core.cache;
+
+import br.com.wallet.domain.model.Wallet;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class WalletCache {
+
+    private final Cache<UUID, CachedWallet> walletsById;
+    private final Cache<String, CachedWallet> walletsByName;
+
+    public WalletCache(WalletCacheProperties walletCacheProperties, MeterRegistry meterRegistry) {
+        this.walletsById = buildCache(walletCacheProperties);
+        this.walletsByName = buildCache(walletCacheProperties);
+        CaffeineCacheMetrics.monitor(meterRegistry, walletsById, "wallets-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, walletsByName, "wallets-by-name");
+    }
+
+    public Optional<Wallet> findById(UUID id, Function<UUID, Optional<Wallet>> loader) {
+        Objects.requireNonNull(id, "Wallet ID cannot be null");
+        CachedWallet cachedWallet = walletsById.getIfPresent(id);
+        if (cachedWallet != null) {
+            return Optional.of(cachedWallet.toWallet());
+        }
+        Optional<Wallet> loadedWallet = loader.apply(id);
+        loadedWallet.ifPresent(this::put);
+        return loadedWallet;
+    }
+
+    public Optional<Wallet> findByName(String name, Function<String, Optional<Wallet>> loader) {
+        Objects.requireNonNull(name, "Wallet name cannot be null");
+        CachedWallet cachedWallet = walletsByName.getIfPresent(name);
+        if (cachedWallet != null) {
+            return Optional.of(cachedWallet.toWallet());
+        }
+        Optional<Wallet> loadedWallet = loader.apply(name);
+        loadedWallet.ifPresent(this::put);
+        return loadedWallet;
+    }
+
+    public Map<UUID, Wallet> findAllByIds(Collection<UUID> ids, Function<Collection<UUID>, List<Wallet>> loader) {
+        Objects.requireNonNull(ids, "Wallet IDs cannot be null");
+        Map<UUID, Wallet> wallets = new HashMap<>();
+        walletsById.getAllPresent(ids).forEach((id, cachedWallet) -> wallets.put(id, cachedWallet.toWallet()));
+        List<UUID> missingIds = ids.stream()
+                .filter(id -> !wallets.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            for (Wallet wallet : loader.apply(missingIds)) {
+                put(wallet);
+                wallets.put(wallet.getId(), wallet);
+            }
+        }
+        return wallets;
+    }
+
+    public void put(Wallet wallet) {
+        Objects.requireNonNull(wallet, "Wallet cannot be null");
+        CachedWallet cachedWallet = new CachedWallet(wallet.getId(), wallet.getName(), wallet.getCreatedAt());
+        if (wallet.getId() != null) {
+            walletsById.put(wallet.getId(), cachedWallet);
+        }
+        if (wallet.getName() != null) {
+            walletsByName.put(wallet.getName(), cachedWallet);
+        }
+    }
+
+    public void evict(Wallet wallet) {
+        Objects.requireNonNull(wallet, "Wallet cannot be null");
+        evictNow(wallet.getId(), wallet.getName());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            UUID id = wallet.getId();
+            String name = wallet.getName();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id, name);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID id, String name) {
+        if (id != null) {
+            walletsById.invalidate(id);
+        }
+        if (name != null) {
+            walletsByName.invalidate(name);
+        }
+    }
+
+    private static <K> Cache<K, CachedWallet> buildCache(WalletCacheProperties walletCacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(walletCacheProperties.getMaximumSize())
+                .expireAfterWrite(walletCacheProperties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    private record CachedWallet(UUID id, String name, LocalDateTime createdAt) {
+
+        Wallet toWallet() {
+            return Wallet.builder()
+                    .id(id)
+                    .name(name)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
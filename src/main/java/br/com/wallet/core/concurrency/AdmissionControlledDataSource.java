@@ -0,0 +1,122 @@
+package br.com.wallet.core.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int totalPermits;
+    private final Duration acquireTimeout;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public AdmissionControlledDataSource(
+            DataSource targetDataSource,
+            int permits,
+            boolean fair,
+            Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        if (permits < 1) {
+            throw new IllegalArgumentException("Database permits must be at least 1");
+        }
+        this.totalPermits = permits;
+        this.permits = new Semaphore(permits, fair);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("wallet.db.admission.waiting", this.permits, Semaphore::getQueueLength)
+                .description("Threads parked waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("wallet.db.admission.in.use", this, AdmissionControlledDataSource::inUse)
+                .description("Database permits currently held")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("wallet.db.admission.wait")
+                .description("Time spent waiting for a database permit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("wallet.db.admission.rejected")
+                .description("Connection requests that timed out waiting for a database permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    int inUse() {
+        return totalPermits - permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database permit");
+        } finally {
+            waitTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new DatabaseBusyException(
+                    "Timed out after " + acquireTimeout.toMillis() + "ms waiting for a database permit");
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
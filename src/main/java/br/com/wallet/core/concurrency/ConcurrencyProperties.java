@@ -0,0 +1,43 @@
+package br.com.wallet.core.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.concurrency")
+public class ConcurrencyProperties {
+
+    private final Database database = new Database();
+
+    private final Pinning pinning = new Pinning();
+
+    @Getter
+    @Setter
+    public static class Database {
+
+        private boolean admissionEnabled = true;
+
+        private int permits = 0;
+
+        private boolean fair = true;
+
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Pinning {
+
+        private boolean enabled = true;
+
+        private Duration threshold = Duration.ofMillis(20);
+
+        private int stackDepth = 8;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.wallet.core.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConcurrencyProperties> concurrencyProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+            return bean;
+        }
+        ConcurrencyProperties.Database properties = concurrencyProperties.getObject().getDatabase();
+        if (!properties.isAdmissionEnabled()) {
+            return bean;
+        }
+        int permits = resolvePermits(dataSource, properties);
+        log.info("Limiting concurrent database access of '{}' to {} permits", beanName, permits);
+        return new AdmissionControlledDataSource(
+                dataSource, permits, properties.isFair(), properties.getAcquireTimeout(), meterRegistry.getObject());
+    }
+
+    static int resolvePermits(DataSource dataSource, ConcurrencyProperties.Database properties) {
+        if (properties.getPermits() > 0) {
+            return properties.getPermits();
+        }
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        throw new IllegalStateException(
+                "wallet.concurrency.database.permits must be set when the data source is not a Hikari pool");
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.wallet.core.concurrency;
+
+import java.sql.SQLTransientConnectionException;
+
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.wallet.core.contention;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class KeyContention {
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicLong maxWaitMicros = new AtomicLong();
+    private final LockWaitHistogram waits = new LockWaitHistogram();
+
+    void record(long waitMicros, boolean timedOut) {
+        if (timedOut) {
+            timeouts.increment();
+        } else {
+            acquisitions.increment();
+        }
+        maxWaitMicros.accumulateAndGet(waitMicros, Math::max);
+        waits.record(waitMicros);
+    }
+
+    long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    long timeouts() {
+        return timeouts.sum();
+    }
+
+    long maxWaitMicros() {
+        return maxWaitMicros.get();
+    }
+
+    long percentileMicros(double quantile) {
+        return Math.min(waits.percentile(quantile), maxWaitMicros.get());
+    }
+}
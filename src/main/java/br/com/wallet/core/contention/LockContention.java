@@ -0,0 +1,16 @@
+package br.com.wallet.core.contention;
+
+import br.com.wallet.domain.model.UserWalletKey;
+
+public record LockContention(
+        UserWalletKey key,
+        long totalWaitMicros,
+        long totalWaitErrorMicros,
+        long acquisitions,
+        long timeouts,
+        long p50WaitMicros,
+        long p90WaitMicros,
+        long p99WaitMicros,
+        long maxWaitMicros
+) {
+}
@@ -0,0 +1,92 @@
+package br.com.wallet.core.contention;
+
+import br.com.wallet.domain.model.UserWalletKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class LockContentionProfiler {
+
+    private final LockContentionProperties lockContentionProperties;
+    private final SpaceSavingSketch<UserWalletKey, KeyContention> sketch;
+    private final Counter lockTimeouts;
+
+    public LockContentionProfiler(LockContentionProperties lockContentionProperties, MeterRegistry meterRegistry) {
+        this.lockContentionProperties = lockContentionProperties;
+        this.sketch = new SpaceSavingSketch<>(lockContentionProperties.getTrackedKeys(), KeyContention::new);
+        this.lockTimeouts = Counter.builder("wallet.lock.timeouts")
+                .description("User wallet row lock acquisitions that timed out or lost a deadlock")
+                .register(meterRegistry);
+    }
+
+    public <T> T profile(Collection<UserWalletKey> keys, Supplier<T> lockAction) {
+        if (!lockContentionProperties.isEnabled()) {
+            return lockAction.get();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            T result = lockAction.get();
+            record(keys, System.nanoTime() - startedAt, false);
+            return result;
+        } catch (RuntimeException ex) {
+            if (isLockFailure(ex)) {
+                lockTimeouts.increment();
+                record(keys, System.nanoTime() - startedAt, true);
+            }
+            throw ex;
+        }
+    }
+
+    public List<LockContention> findMostContended(Integer limit) {
+        int effectiveLimit = limit == null ? lockContentionProperties.getDefaultLimit() : limit;
+        if (effectiveLimit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return sketch.top(effectiveLimit).stream()
+                .map(LockContentionProfiler::toContention)
+                .toList();
+    }
+
+    public void reset() {
+        sketch.clear();
+    }
+
+    private void record(Collection<UserWalletKey> keys, long waitNanos, boolean timedOut) {
+        long waitMicros = TimeUnit.NANOSECONDS.toMicros(waitNanos);
+        for (UserWalletKey key : keys) {
+            sketch.offer(Objects.requireNonNull(key, "User wallet key cannot be null"), waitMicros)
+                    .record(waitMicros, timedOut);
+        }
+    }
+
+    private static boolean isLockFailure(RuntimeException ex) {
+        return ex instanceof PessimisticLockingFailureException
+                || ex instanceof LockTimeoutException
+                || ex instanceof PessimisticLockException;
+    }
+
+    private static LockContention toContention(SpaceSavingSketch.Entry<UserWalletKey, KeyContention> entry) {
+        KeyContention contention = entry.value();
+        return new LockContention(
+                entry.key(),
+                entry.count(),
+                entry.error(),
+                contention.acquisitions(),
+                contention.timeouts(),
+                contention.percentileMicros(0.5),
+                contention.percentileMicros(0.9),
+                contention.percentileMicros(0.99),
+                contention.maxWaitMicros()
+        );
+    }
+}
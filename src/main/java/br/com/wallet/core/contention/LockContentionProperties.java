@@ -0,0 +1,19 @@
+package br.com.wallet.core.contention;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.lock-contention")
+public class LockContentionProperties {
+
+    private boolean enabled = true;
+
+    private int trackedKeys = 128;
+
+    private int defaultLimit = 20;
+}
@@ -0,0 +1,93 @@
+package br.com.wallet.core.contention;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+final class SpaceSavingSketch<K, V> {
+
+    private final int capacity;
+    private final Supplier<V> valueFactory;
+    private final Map<K, Slot<K, V>> slots;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    SpaceSavingSketch(int capacity, Supplier<V> valueFactory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Sketch capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.valueFactory = valueFactory;
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    V offer(K key, long weight) {
+        lock.lock();
+        try {
+            Slot<K, V> slot = slots.get(key);
+            if (slot == null) {
+                slot = slots.size() < capacity ? new Slot<>(key, 0, valueFactory.get()) : evictMinimum(key);
+                slots.put(key, slot);
+            }
+            slot.count += Math.max(weight, 1);
+            return slot.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Entry<K, V>> top(int limit) {
+        lock.lock();
+        try {
+            List<Entry<K, V>> entries = new ArrayList<>(slots.size());
+            for (Slot<K, V> slot : slots.values()) {
+                entries.add(new Entry<>(slot.key, slot.count, slot.error, slot.value));
+            }
+            entries.sort(Comparator.comparingLong(Entry<K, V>::count).reversed());
+            return entries.subList(0, Math.min(limit, entries.size()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            slots.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Slot<K, V> evictMinimum(K key) {
+        Slot<K, V> minimum = null;
+        for (Slot<K, V> slot : slots.values()) {
+            if (minimum == null || slot.count < minimum.count) {
+                minimum = slot;
+            }
+        }
+        slots.remove(minimum.key);
+        return new Slot<>(key, minimum.count, valueFactory.get());
+    }
+
+    record Entry<K, V>(K key, long count, long error, V value) {
+    }
+
+    private static final class Slot<K, V> {
+
+        private final K key;
+        private final long error;
+        private final V value;
+        private long count;
+
+        private Slot(K key, long error, V value) {
+            this.key = key;
+            this.error = error;
+            this.value = value;
+            this.count = error;
+        }
+    }
+}
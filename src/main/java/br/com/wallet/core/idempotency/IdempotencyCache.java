@@ -0,0 +1,40 @@
+package br.com.wallet.core.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class IdempotencyCache {
+
+    private final Cache<Key, IdempotentResponse> responses;
+
+    public IdempotencyCache(IdempotencyProperties idempotencyProperties) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getMaximumSize())
+                .expireAfterWrite(idempotencyProperties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<IdempotentResponse> find(UUID userId, String idempotencyKey) {
+        return Optional.ofNullable(responses.getIfPresent(new Key(userId, idempotencyKey)));
+    }
+
+    public void put(UUID userId, String idempotencyKey, IdempotentResponse response) {
+        Objects.requireNonNull(response, "Transaction response cannot be null");
+        responses.put(new Key(userId, idempotencyKey), response);
+    }
+
+    private record Key(UUID userId, String idempotencyKey) {
+
+        private Key {
+            Objects.requireNonNull(userId, "User ID cannot be null");
+            Objects.requireNonNull(idempotencyKey, "Idempotency key cannot be null");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.wallet.core.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.idempotency")
+public class IdempotencyProperties {
+
+    private long maximumSize = 100_000;
+
+    private Duration timeToLive = Duration.ofHours(24);
+}
@@ -0,0 +1,8 @@
+package br.com.wallet.core.idempotency;
+
+import br.com.wallet.api.model.response.TransactionResponse;
+
+import java.util.UUID;
+
+public record IdempotentResponse(TransactionResponse response, UUID destinationWalletId) {
+}
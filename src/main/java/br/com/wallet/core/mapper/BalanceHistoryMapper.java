@@ -0,0 +1,20 @@
+package br.com.wallet.core.mapper;
+
+import br.com.wallet.api.model.response.BalanceAtResponse;
+import br.com.wallet.api.model.response.BalanceSeriesPointResponse;
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceSeriesPoint;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface BalanceHistoryMapper {
+
+    BalanceAtResponse toResponse(BalanceAt balanceAt);
+
+    BalanceSeriesPointResponse toResponse(BalanceSeriesPoint point);
+
+    List<BalanceSeriesPointResponse> toResponseList(List<BalanceSeriesPoint> points);
+}
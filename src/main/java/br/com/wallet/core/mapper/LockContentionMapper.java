@@ -0,0 +1,19 @@
+package br.com.wallet.core.mapper;
+
+import br.com.wallet.api.model.response.LockContentionResponse;
+import br.com.wallet.core.contention.LockContention;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface LockContentionMapper {
+
+    @Mapping(target = "userId", source = "key.userId")
+    @Mapping(target = "walletId", source = "key.walletId")
+    LockContentionResponse toResponse(LockContention contention);
+
+    List<LockContentionResponse> toResponseList(List<LockContention> contentions);
+}
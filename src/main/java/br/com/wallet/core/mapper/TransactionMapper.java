@@ -3,6 +3,7 @@ package br.com.wallet.core.mapper;
 import br.com.wallet.api.model.request.TransactionRequest;
 import br.com.wallet.api.model.response.TransactionResponse;
 import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -18,6 +19,7 @@ public interface TransactionMapper {
     @Mapping(target = "wallet.id", source = "walletId")
     @Mapping(target = "relatedTransaction.id", source = "relatedTransactionId")
     @Mapping(target = "destinationWalletId", source = "destinationWalletId")
+    @Mapping(target = "idempotencyKey", ignore = true)
     Transaction toEntity(TransactionRequest request);
 
     @Mapping(target = "id", ignore = true)
@@ -25,6 +27,7 @@ public interface TransactionMapper {
     @Mapping(target = "wallet.id", source = "walletId")
     @Mapping(target = "relatedTransaction.id", source = "relatedTransactionId")
     @Mapping(target = "destinationWalletId", source = "destinationWalletId")
+    @Mapping(target = "idempotencyKey", ignore = true)
     void updateEntityFromRequest(TransactionRequest request, @MappingTarget Transaction transaction);
 
     @Mapping(target = "walletId", source = "wallet.id")
@@ -32,5 +35,7 @@ public interface TransactionMapper {
     @Mapping(target = "relatedTransactionId", source = "relatedTransaction.id")
     TransactionResponse toResponse(Transaction transaction);
 
+    TransactionResponse toResponse(TransactionSummary summary);
+
     List<TransactionResponse> toResponseList(List<Transaction> transactions);
 }
@@ -3,6 +3,7 @@ package br.com.wallet.core.mapper;
 import br.com.wallet.api.model.request.UserWalletRequest;
 import br.com.wallet.api.model.response.UserWalletResponse;
 import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -17,6 +18,7 @@ public interface UserWalletMapper {
     @Mapping(target = "balance", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "wallet.id", source = "walletId")
     UserWallet toEntity(UserWalletRequest request);
 
@@ -24,6 +26,7 @@ public interface UserWalletMapper {
     @Mapping(target = "balance", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "wallet.id", source = "walletId")
     void updateEntityFromRequest(UserWalletRequest request, @MappingTarget UserWallet userWallet);
 
@@ -31,5 +34,7 @@ public interface UserWalletMapper {
     @Mapping(target = "walletName", source = "wallet.name")
     UserWalletResponse toResponse(UserWallet userWallet);
 
+    UserWalletResponse toResponse(UserWalletSummary summary);
+
     List<UserWalletResponse> toResponseList(List<UserWallet> userWallets);
 }
\ No newline at end of file
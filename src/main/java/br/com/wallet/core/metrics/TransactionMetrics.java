@@ -0,0 +1,189 @@
+package br.com.wallet.core.metrics;
+
+import br.com.wallet.domain.model.Transaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class TransactionMetrics {
+
+    static final String PHASE_TIMER = "wallet.transaction.phase";
+    static final String PROCESSED_COUNTER = "wallet.transaction.processed";
+    static final String UNKNOWN_TYPE = "unknown";
+    static final String MIXED_TYPE = "mixed";
+
+    private static final ThreadLocal<String> CURRENT_TYPE = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<PhaseKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<PhaseKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public TransactionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T process(Transaction.TransactionType type, Supplier<T> action) {
+        String previousType = CURRENT_TYPE.get();
+        String typeTag = typeTag(type);
+        CURRENT_TYPE.set(typeTag);
+        String outcome = Outcome.ERROR;
+        long startedAt = System.nanoTime();
+        try {
+            T result = action.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException ex) {
+            outcome = Outcome.of(ex);
+            throw ex;
+        } finally {
+            recordProcessed(typeTag, outcome, System.nanoTime() - startedAt);
+            if (previousType == null) {
+                CURRENT_TYPE.remove();
+            } else {
+                CURRENT_TYPE.set(previousType);
+            }
+        }
+    }
+
+    public <T> T time(TransactionPhase phase, Supplier<T> action) {
+        return time(phase, currentType(), action);
+    }
+
+    public void time(TransactionPhase phase, Runnable action) {
+        time(phase, currentType(), action);
+    }
+
+    public void time(TransactionPhase phase, Collection<Transaction> transactions, Runnable action) {
+        time(phase, typeTag(transactions), action);
+    }
+
+    public <T> T time(TransactionPhase phase, Transaction.TransactionType type, Supplier<T> action) {
+        return time(phase, typeTag(type), action);
+    }
+
+    private void time(TransactionPhase phase, String type, Runnable action) {
+        time(phase, type, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T time(TransactionPhase phase, String type, Supplier<T> action) {
+        String outcome = Outcome.ERROR;
+        long startedAt = System.nanoTime();
+        try {
+            T result = action.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException ex) {
+            outcome = Outcome.of(ex);
+            throw ex;
+        } finally {
+            timer(new PhaseKey(phase, type, outcome))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordProcessed(String type, String outcome, long elapsedNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordProcessed(new PhaseKey(TransactionPhase.PROCESS, type, outcome), elapsedNanos);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                recordProcessed(new PhaseKey(TransactionPhase.PROCESS, type,
+                        Outcome.afterCompletion(outcome, status)), elapsedNanos);
+            }
+        });
+    }
+
+    private void recordProcessed(PhaseKey key, long elapsedNanos) {
+        timer(key).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        counter(key).increment();
+    }
+
+    private String currentType() {
+        String type = CURRENT_TYPE.get();
+        return type == null ? UNKNOWN_TYPE : type;
+    }
+
+    private Timer timer(PhaseKey key) {
+        return timers.computeIfAbsent(key, phaseKey -> Timer.builder(PHASE_TIMER)
+                .description("Time spent in each phase of a money movement")
+                .tag("phase", phaseKey.phase().name().toLowerCase(Locale.ROOT))
+                .tag("type", phaseKey.type())
+                .tag("outcome", phaseKey.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter counter(PhaseKey key) {
+        return counters.computeIfAbsent(key, phaseKey -> Counter.builder(PROCESSED_COUNTER)
+                .description("Money movements processed, by type and outcome")
+                .tag("type", phaseKey.type())
+                .tag("outcome", phaseKey.outcome())
+                .register(meterRegistry));
+    }
+
+    private static String typeTag(Transaction.TransactionType type) {
+        return type == null ? UNKNOWN_TYPE : type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String typeTag(Collection<Transaction> transactions) {
+        Transaction.TransactionType type = null;
+        for (Transaction transaction : transactions) {
+            if (type == null) {
+                type = transaction.getType();
+            } else if (type != transaction.getType()) {
+                return MIXED_TYPE;
+            }
+        }
+        return typeTag(type);
+    }
+
+    private record PhaseKey(TransactionPhase phase, String type, String outcome) {
+    }
+
+    private static final class Outcome {
+
+        static final String SUCCESS = "success";
+        static final String REJECTED = "rejected";
+        static final String CONFLICT = "conflict";
+        static final String ROLLED_BACK = "rolled_back";
+        static final String ERROR = "error";
+
+        private Outcome() {
+        }
+
+        static String of(RuntimeException ex) {
+            if (ex instanceof IllegalArgumentException || ex instanceof EntityNotFoundException) {
+                return REJECTED;
+            }
+            if (ex instanceof OptimisticLockingFailureException || ex instanceof OptimisticLockException) {
+                return CONFLICT;
+            }
+            return ERROR;
+        }
+
+        static String afterCompletion(String outcome, int status) {
+            return SUCCESS.equals(outcome) && status != TransactionSynchronization.STATUS_COMMITTED
+                    ? ROLLED_BACK
+                    : outcome;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.wallet.core.metrics;
+
+public enum TransactionPhase {
+    PROCESS, WALLET_LOOKUP, VALIDATION, LOCK, BALANCE_UPDATE, HISTORY, PERSIST
+}
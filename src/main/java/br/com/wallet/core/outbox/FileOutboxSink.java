@@ -0,0 +1,58 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean canHandle(OutboxSinkType type) {
+        return OutboxSinkType.FILE.equals(type);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        Path path = Path.of(outboxProperties.getFile().getPath());
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (OutboxEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(OutboxEnvelope.of(event))).append('\n');
+            }
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (outboxProperties.getFile().isFsync()) {
+                    channel.force(false);
+                }
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize outbox events", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append outbox events to " + path, ex);
+        }
+    }
+}
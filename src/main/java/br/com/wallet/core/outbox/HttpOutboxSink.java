@@ -0,0 +1,55 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+@Component
+public class HttpOutboxSink implements OutboxSink {
+
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+    private final RestClient restClient;
+
+    public HttpOutboxSink(OutboxProperties outboxProperties, ObjectMapper objectMapper,
+                          RestClient.Builder restClientBuilder) {
+        this.outboxProperties = outboxProperties;
+        this.objectMapper = objectMapper;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(outboxProperties.getHttp().getTimeout());
+        requestFactory.setReadTimeout(outboxProperties.getHttp().getTimeout());
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+    }
+
+    @Override
+    public boolean canHandle(OutboxSinkType type) {
+        return OutboxSinkType.HTTP.equals(type);
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        if (outboxProperties.getHttp().getUrl() == null) {
+            throw new IllegalStateException("wallet.outbox.http.url must be set to publish outbox events over HTTP");
+        }
+        StringBuilder body = new StringBuilder();
+        try {
+            for (OutboxEvent event : events) {
+                body.append(objectMapper.writeValueAsString(OutboxEnvelope.of(event))).append('\n');
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize outbox events", ex);
+        }
+        restClient.post()
+                .uri(outboxProperties.getHttp().getUrl())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body.toString())
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class InProcessOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public boolean canHandle(OutboxSinkType type) {
+        return OutboxSinkType.IN_PROCESS.equals(type);
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OutboxEnvelope(
+        UUID id,
+        UUID aggregateId,
+        String type,
+        LocalDateTime createdAt,
+        @JsonRawValue String payload
+) {
+
+    public static OutboxEnvelope of(OutboxEvent event) {
+        return new OutboxEnvelope(
+                event.getId(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getCreatedAt(),
+                event.getPayload());
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.wallet.core.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.outbox")
+public class OutboxProperties {
+
+    private boolean enabled = true;
+
+    private OutboxSinkType sink = OutboxSinkType.IN_PROCESS;
+
+    private int batchSize = 500;
+
+    private int workers = 1;
+
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    private int maxAttempts = 10;
+
+    private final File file = new File();
+
+    private final Http http = new Http();
+
+    @Getter
+    @Setter
+    public static class File {
+
+        private String path = "outbox/transactions.ndjson";
+
+        private boolean fsync = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+
+        private URI url;
+
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
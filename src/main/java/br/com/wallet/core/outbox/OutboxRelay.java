@@ -0,0 +1,219 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import br.com.wallet.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties outboxProperties;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter publishedCounter;
+    private final Counter deadLetterCounter;
+    private final Timer lagTimer;
+    private final Timer publishTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxProperties outboxProperties,
+            List<OutboxSink> sinks,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxProperties = outboxProperties;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("wallet.outbox.published")
+                .description("Outbox events delivered to the configured sink")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("wallet.outbox.dead.lettered")
+                .description("Outbox events moved to outbox_dead_letter after repeated publish failures")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("wallet.outbox.lag")
+                .description("Time between an outbox event being written and being published")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("wallet.outbox.publish")
+                .description("Time spent claiming and publishing one outbox batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("wallet.outbox.batch.size")
+                .description("Outbox events published per batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+        OutboxSink sink = resolveSink();
+        running = true;
+        for (int index = 0; index < Math.max(1, outboxProperties.getWorkers()); index++) {
+            workers.add(Thread.ofPlatform()
+                    .name("outbox-relay-" + index)
+                    .daemon()
+                    .start(() -> run(sink)));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(outboxProperties.getPollInterval().multipliedBy(10).toMillis() + 1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    int relayBatch(OutboxSink sink) {
+        long startedAt = System.nanoTime();
+        List<OutboxEvent> events = transactionTemplate.execute(
+                status -> outboxEventRepository.claimBatch(batchSize(), outboxProperties.getClaimTimeout()));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(events);
+        } catch (RuntimeException ex) {
+            return recover(sink, events, ex);
+        }
+        complete(events);
+        publishTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        batchSizeSummary.record(events.size());
+        return events.size();
+    }
+
+    OutboxSink resolveSink() {
+        return sinks.stream()
+                .filter(sink -> sink.canHandle(outboxProperties.getSink()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "No outbox sink registered for " + outboxProperties.getSink()));
+    }
+
+    private int batchSize() {
+        return Math.max(1, outboxProperties.getBatchSize());
+    }
+
+    private int recover(OutboxSink sink, List<OutboxEvent> events, RuntimeException ex) {
+        if (events.stream().noneMatch(this::isExhausted)) {
+            release(events);
+            throw ex;
+        }
+        log.warn("Outbox batch of {} events keeps failing, publishing its events one by one", events.size(), ex);
+        int published = 0;
+        for (OutboxEvent event : events) {
+            try {
+                sink.publish(List.of(event));
+            } catch (RuntimeException eventEx) {
+                if (isExhausted(event)) {
+                    deadLetter(event, eventEx);
+                } else {
+                    release(List.of(event));
+                }
+                continue;
+            }
+            complete(List.of(event));
+            published++;
+        }
+        return published;
+    }
+
+    private void complete(List<OutboxEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteClaimed(ids(events)));
+        publishedCounter.increment(events.size());
+        LocalDateTime publishedAt = LocalDateTime.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), publishedAt)));
+    }
+
+    private void release(List<OutboxEvent> events) {
+        int attempts = events.stream().mapToInt(OutboxEvent::getAttempts).max().orElse(1);
+        LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay(attempts));
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.release(ids(events), retryAt));
+    }
+
+    private Duration retryDelay(int attempts) {
+        Duration delay = outboxProperties.getPollInterval().multipliedBy(1L << Math.clamp(attempts - 1, 0, 20));
+        return delay.compareTo(outboxProperties.getClaimTimeout()) > 0 ? outboxProperties.getClaimTimeout() : delay;
+    }
+
+    private void deadLetter(OutboxEvent event, RuntimeException ex) {
+        String lastError = StringUtils.abbreviate(ex.toString(), 1000);
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deadLetter(event.getId(), lastError));
+        deadLetterCounter.increment();
+        log.error("Moved outbox event {} of type {} for aggregate {} to outbox_dead_letter after {} attempts",
+                event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), ex);
+    }
+
+    private boolean isExhausted(OutboxEvent event) {
+        return event.getAttempts() >= Math.max(1, outboxProperties.getMaxAttempts());
+    }
+
+    private static List<UUID> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    private void run(OutboxSink sink) {
+        while (running) {
+            try {
+                if (relayBatch(sink) < batchSize()) {
+                    Thread.sleep(outboxProperties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Failed to relay outbox batch, retrying", ex);
+                try {
+                    Thread.sleep(outboxProperties.getPollInterval().toMillis());
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    boolean canHandle(OutboxSinkType type);
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,5 @@
+package br.com.wallet.core.outbox;
+
+public enum OutboxSinkType {
+    IN_PROCESS, FILE, HTTP
+}
@@ -0,0 +1,50 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.f4b6a3.uuid.UuidCreator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final String EVENT_TYPE_PREFIX = "transaction.";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+
+    public void write(List<Transaction> transactions) {
+        if (!outboxProperties.isEnabled() || transactions.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = transactions.stream()
+                .map(transaction -> toEvent(transaction, now))
+                .toList();
+        outboxEventRepository.insertAll(events);
+    }
+
+    private OutboxEvent toEvent(Transaction transaction, LocalDateTime now) {
+        try {
+            return OutboxEvent.builder()
+                    .id(UuidCreator.getTimeOrdered())
+                    .aggregateId(transaction.getId())
+                    .eventType(EVENT_TYPE_PREFIX + transaction.getType().name().toLowerCase(Locale.ROOT))
+                    .payload(objectMapper.writeValueAsString(TransactionEventPayload.of(transaction)))
+                    .createdAt(now)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize transaction " + transaction.getId(), ex);
+        }
+    }
+}
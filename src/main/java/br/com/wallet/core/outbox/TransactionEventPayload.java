@@ -0,0 +1,36 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.Transaction.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+public record TransactionEventPayload(
+        UUID id,
+        TransactionType type,
+        UUID walletId,
+        UUID fromUserId,
+        UUID toUserId,
+        BigDecimal amount,
+        String description,
+        UUID relatedTransactionId,
+        LocalDateTime createdAt
+) {
+
+    public static TransactionEventPayload of(Transaction transaction) {
+        return new TransactionEventPayload(
+                transaction.getId(),
+                transaction.getType(),
+                transaction.getWallet().getId(),
+                transaction.getFromUserId(),
+                transaction.getToUserId(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                isNull(transaction.getRelatedTransaction()) ? null : transaction.getRelatedTransaction().getId(),
+                transaction.getCreatedAt());
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.wallet.core.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PartitionHorizonHealthIndicator implements HealthIndicator {
+
+    private final PartitionMaintenanceJob partitionMaintenanceJob;
+    private final PartitionProperties partitionProperties;
+
+    @Override
+    public Health health() {
+        if (!partitionProperties.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        Map<String, LocalDate> shortHorizons = partitionMaintenanceJob.findShortHorizons(YearMonth.now());
+        Health.Builder builder = shortHorizons.isEmpty() ? Health.up() : Health.down();
+        return builder
+                .withDetail("minHorizonMonths", partitionProperties.getMinHorizonMonths())
+                .withDetail("shortHorizons", shortHorizons)
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.wallet.core.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class PartitionMaintenanceJob {
+
+    private static final long ADVISORY_LOCK_KEY = 7_301_916_004L;
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("_p(_before)?_?(\\d{4})_(\\d{2})$");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable("transactions", PartitionProperties::getTransactionsRetention),
+            new PartitionedTable("balance_history", PartitionProperties::getBalanceHistoryRetention));
+
+    private final PartitionProperties partitionProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PartitionMaintenanceJob(
+            PartitionProperties partitionProperties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.partitionProperties = partitionProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+        maintain();
+        Map<String, LocalDate> shortHorizons = findShortHorizons(YearMonth.now());
+        if (!shortHorizons.isEmpty()) {
+            throw new IllegalStateException("Partitions do not cover the next "
+                    + partitionProperties.getMinHorizonMonths() + " month(s): " + shortHorizons);
+        }
+    }
+
+    @Scheduled(cron = "${wallet.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.now();
+        List<ExpiredPartition> expired = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.debug("Partition maintenance already running on another node");
+                return List.of();
+            }
+            List<ExpiredPartition> partitions = new ArrayList<>();
+            for (PartitionedTable table : TABLES) {
+                List<Partition> existing = findPartitions(table);
+                createUpcomingPartitions(table, existing, currentMonth);
+                partitions.addAll(findExpiredPartitions(table, existing, currentMonth));
+            }
+            deleteExpiredIdempotencyKeys(currentMonth);
+            return partitions;
+        });
+        if (expired != null) {
+            expired.forEach(this::retire);
+        }
+    }
+
+    public Map<String, LocalDate> findShortHorizons(YearMonth currentMonth) {
+        LocalDate required = currentMonth.plusMonths(partitionProperties.getMinHorizonMonths() + 1L).atDay(1);
+        Map<String, LocalDate> shortHorizons = new LinkedHashMap<>();
+        for (PartitionedTable table : TABLES) {
+            LocalDate horizon = findPartitions(table).stream()
+                    .map(Partition::name)
+                    .map(PartitionMaintenanceJob::upperBound)
+                    .flatMap(Optional::stream)
+                    .max(LocalDate::compareTo)
+                    .orElse(LocalDate.MIN);
+            if (horizon.isBefore(required)) {
+                shortHorizons.put(table.name(), horizon);
+            }
+        }
+        return shortHorizons;
+    }
+
+    static Optional<LocalDate> upperBound(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+        return Optional.of(matcher.group(1) == null ? month.plusMonths(1).atDay(1) : month.atDay(1));
+    }
+
+    static Optional<LocalDate> legacyUpperBound(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        return matcher.find() && matcher.group(1) != null ? upperBound(partitionName) : Optional.empty();
+    }
+
+    static LocalDate retentionCutoff(YearMonth currentMonth, Period retention) {
+        return currentMonth.atDay(1).minus(retention);
+    }
+
+    private void createUpcomingPartitions(PartitionedTable table, List<Partition> existing, YearMonth currentMonth) {
+        LocalDate legacyUpperBound = existing.stream()
+                .map(Partition::name)
+                .map(PartitionMaintenanceJob::legacyUpperBound)
+                .flatMap(Optional::stream)
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.MIN);
+        for (int offset = 0; offset <= partitionProperties.getPremadeMonths(); offset++) {
+            YearMonth month = currentMonth.plusMonths(offset);
+            if (month.atDay(1).isBefore(legacyUpperBound)) {
+                continue;
+            }
+            String partition = table.name() + "_p" + month.format(PARTITION_SUFFIX);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table.name()
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    private List<ExpiredPartition> findExpiredPartitions(
+            PartitionedTable table,
+            List<Partition> existing,
+            YearMonth currentMonth) {
+        LocalDate cutoff = retentionCutoff(currentMonth, table.retention().apply(partitionProperties));
+        List<ExpiredPartition> expired = new ArrayList<>();
+        for (Partition partition : existing) {
+            Optional<LocalDate> upperBound = upperBound(partition.name());
+            if (upperBound.isEmpty() || upperBound.get().isAfter(cutoff)) {
+                continue;
+            }
+            expired.add(new ExpiredPartition(table.name(), partition.name(), partition.detachPending()));
+        }
+        return expired;
+    }
+
+    private List<Partition> findPartitions(PartitionedTable table) {
+        return jdbcTemplate.query("""
+                SELECT c.relname, i.inhdetachpending
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                  JOIN pg_class p ON p.oid = i.inhparent
+                  JOIN pg_namespace n ON n.oid = p.relnamespace
+                 WHERE p.relname = ? AND n.nspname = current_schema()
+                 ORDER BY c.relname
+                """, (rs, rowNum) -> new Partition(rs.getString(1), rs.getBoolean(2)), table.name());
+    }
+
+    private void retire(ExpiredPartition partition) {
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + partition.table() + " DETACH PARTITION " + partition.name()
+                    + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+            if (partitionProperties.getRetentionAction() == PartitionProperties.RetentionAction.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + partition.name());
+                log.info("Dropped expired partition {} of {}", partition.name(), partition.table());
+            } else {
+                String archiveSchema = archiveSchema();
+                jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+                jdbcTemplate.execute("ALTER TABLE " + partition.name() + " SET SCHEMA " + archiveSchema);
+                log.info("Archived expired partition {} of {} to schema {}",
+                        partition.name(), partition.table(), archiveSchema);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not retire expired partition {} of {}, retrying on the next run",
+                    partition.name(), partition.table(), ex);
+        }
+    }
+
+    private void deleteExpiredIdempotencyKeys(YearMonth currentMonth) {
+        LocalDate cutoff = retentionCutoff(currentMonth, partitionProperties.getTransactionsRetention());
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM transaction_idempotency_keys WHERE created_at < ?", cutoff.atStartOfDay());
+        if (deleted > 0) {
+            log.info("Deleted {} idempotency keys older than {}", deleted, cutoff);
+        }
+    }
+
+    private String archiveSchema() {
+        String archiveSchema = partitionProperties.getArchiveSchema();
+        if (archiveSchema == null || !IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid archive schema: " + archiveSchema);
+        }
+        return archiveSchema;
+    }
+
+    private record PartitionedTable(String name, Function<PartitionProperties, Period> retention) {
+    }
+
+    record Partition(String name, boolean detachPending) {
+    }
+
+    private record ExpiredPartition(String table, String name, boolean detachPending) {
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.wallet.core.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Period;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.partition")
+public class PartitionProperties {
+
+    private boolean enabled = true;
+
+    private String cron = "0 0 3 * * *";
+
+    private int premadeMonths = 3;
+
+    private int minHorizonMonths = 1;
+
+    private RetentionAction retentionAction = RetentionAction.ARCHIVE;
+
+    private String archiveSchema = "archive";
+
+    private Period transactionsRetention = Period.ofMonths(24);
+
+    private Period balanceHistoryRetention = Period.ofMonths(12);
+
+    public enum RetentionAction {
+        ARCHIVE, DROP
+    }
+}
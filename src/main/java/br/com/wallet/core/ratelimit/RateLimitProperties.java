@@ -0,0 +1,39 @@
+package br.com.wallet.core.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maximumKeys = 100_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private final Limit user = new Limit(50, 25);
+
+    private final Limit wallet = new Limit(200, 100);
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;
+
+        private double refillPerSecond;
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
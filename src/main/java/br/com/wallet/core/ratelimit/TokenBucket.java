@@ -0,0 +1,66 @@
+package br.com.wallet.core.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Token bucket capacity must be at least 1");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket refill rate must be greater than zero");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    public long tryAcquire(long nowNanos) {
+        return tryAcquire(nowNanos, 1);
+    }
+
+    public long tryAcquire(long nowNanos, int permits) {
+        long costNanos = costNanos(permits);
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long nextArrival = Math.max(arrival, nowNanos) + costNanos;
+            long waitNanos = nextArrival - nowNanos - burstToleranceNanos - emissionIntervalNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, nextArrival)) {
+                return 0;
+            }
+        }
+    }
+
+    public void refund(long nowNanos) {
+        refund(nowNanos, 1);
+    }
+
+    public void refund(long nowNanos, int permits) {
+        long costNanos = costNanos(permits);
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long refunded = Math.max(nowNanos, arrival - costNanos);
+            if (refunded == arrival || theoreticalArrivalNanos.compareAndSet(arrival, refunded)) {
+                return;
+            }
+        }
+    }
+
+    private long costNanos(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Token bucket permits must be at least 1");
+        }
+        return emissionIntervalNanos * Math.min(permits, capacity);
+    }
+}
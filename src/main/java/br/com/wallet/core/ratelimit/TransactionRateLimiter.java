@@ -0,0 +1,88 @@
+package br.com.wallet.core.ratelimit;
+
+import br.com.wallet.domain.exception.RateLimitExceededException;
+import br.com.wallet.domain.model.UserWalletKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+public class TransactionRateLimiter {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final Cache<UUID, TokenBucket> userBuckets;
+    private final Cache<UserWalletKey, TokenBucket> walletBuckets;
+    private final Counter userRejections;
+    private final Counter walletRejections;
+
+    public TransactionRateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.userBuckets = buildBuckets(rateLimitProperties);
+        this.walletBuckets = buildBuckets(rateLimitProperties);
+        this.userRejections = rejectionCounter(meterRegistry, "user");
+        this.walletRejections = rejectionCounter(meterRegistry, "wallet");
+        Gauge.builder("wallet.rate.limit.keys", this, TransactionRateLimiter::trackedKeys)
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    public void acquire(UUID userId, UUID walletId) {
+        acquire(userId, walletId, 1);
+    }
+
+    public void acquire(UUID userId, UUID walletId, int permits) {
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        TokenBucket userBucket = null;
+        if (userId != null) {
+            userBucket = userBuckets.get(userId, key -> newBucket(rateLimitProperties.getUser(), now));
+            long waitNanos = userBucket.tryAcquire(now, permits);
+            if (waitNanos > 0) {
+                userRejections.increment();
+                throw new RateLimitExceededException("user", userId, Duration.ofNanos(waitNanos));
+            }
+        }
+        if (userId != null && walletId != null) {
+            TokenBucket walletBucket = walletBuckets.get(new UserWalletKey(userId, walletId),
+                    key -> newBucket(rateLimitProperties.getWallet(), now));
+            long waitNanos = walletBucket.tryAcquire(now, permits);
+            if (waitNanos > 0) {
+                if (userBucket != null) {
+                    userBucket.refund(now, permits);
+                }
+                walletRejections.increment();
+                throw new RateLimitExceededException("wallet", walletId, Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+
+    long trackedKeys() {
+        return userBuckets.estimatedSize() + walletBuckets.estimatedSize();
+    }
+
+    private TokenBucket newBucket(RateLimitProperties.Limit limit, long now) {
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    private static <K> Cache<K, TokenBucket> buildBuckets(RateLimitProperties rateLimitProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaximumKeys())
+                .expireAfterAccess(rateLimitProperties.getIdleTimeout())
+                .build();
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("wallet.rate.limit.rejected")
+                .description("Transaction requests rejected by the rate limiter")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.wallet.core.submission;
+
+public enum SubmissionMode {
+    SYNCHRONOUS, ASYNCHRONOUS
+}
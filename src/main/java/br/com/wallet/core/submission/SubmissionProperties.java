@@ -0,0 +1,29 @@
+package br.com.wallet.core.submission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("wallet.submission")
+public class SubmissionProperties {
+
+    private SubmissionMode mode = SubmissionMode.SYNCHRONOUS;
+
+    private int partitions = 8;
+
+    private int batchSize = 100;
+
+    private Duration pollInterval = Duration.ofMillis(20);
+
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    private Duration retention = Duration.ofDays(1);
+
+    private Duration pruneInterval = Duration.ofMinutes(10);
+}
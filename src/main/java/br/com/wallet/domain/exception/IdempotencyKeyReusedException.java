@@ -0,0 +1,8 @@
+package br.com.wallet.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super(String.format("Idempotency key '%s' was already used for a different transaction", idempotencyKey));
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.wallet.domain.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String scope, UUID key, Duration retryAfter) {
+        super(String.format("Rate limit exceeded for %s '%s', retry in %d ms", scope, key, retryAfter.toMillis()));
+        this.retryAfter = retryAfter;
+    }
+}
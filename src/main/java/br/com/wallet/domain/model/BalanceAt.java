@@ -0,0 +1,14 @@
+package br.com.wallet.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BalanceAt(
+        UUID userId,
+        UUID walletId,
+        LocalDateTime at,
+        BigDecimal balance,
+        LocalDateTime recordedAt
+) {
+}
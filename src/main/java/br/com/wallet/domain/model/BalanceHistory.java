@@ -40,7 +40,7 @@ public class BalanceHistory {
     @Column(name = "balance", nullable = false, precision = 18, scale = 2)
     private BigDecimal balance;
 
-    @Column(name = "recorded_at", nullable = false)
+    @Column(name = "recorded_at", nullable = false, updatable = false)
     private LocalDateTime recordedAt;
 
     @PrePersist
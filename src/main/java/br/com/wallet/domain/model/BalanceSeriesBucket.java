@@ -0,0 +1,26 @@
+package br.com.wallet.domain.model;
+
+import java.time.Duration;
+
+public enum BalanceSeriesBucket {
+
+    MINUTE("minute", Duration.ofMinutes(1)),
+    HOUR("hour", Duration.ofHours(1)),
+    DAY("day", Duration.ofDays(1));
+
+    private final String unit;
+    private final Duration duration;
+
+    BalanceSeriesBucket(String unit, Duration duration) {
+        this.unit = unit;
+        this.duration = duration;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
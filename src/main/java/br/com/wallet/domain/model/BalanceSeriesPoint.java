@@ -0,0 +1,14 @@
+package br.com.wallet.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BalanceSeriesPoint(
+        LocalDateTime bucket,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        long changes
+) {
+}
@@ -0,0 +1,60 @@
+package br.com.wallet.domain.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, UUID nextCursor) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+    private static final Comparator<UUID> CURSOR_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    public static UUID start(UUID after) {
+        return after == null ? FIRST_CURSOR : after;
+    }
+
+    public static int fetchSize(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit + 1;
+    }
+
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, UUID> cursorExtractor) {
+        Objects.requireNonNull(fetched, "Fetched items cannot be null");
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new CursorPage<>(items, cursorExtractor.apply(items.get(limit - 1)));
+    }
+
+    public static <T> CursorPage<T> slice(List<T> all, UUID after, int limit, Function<T, UUID> cursorExtractor) {
+        Objects.requireNonNull(all, "Items cannot be null");
+        UUID start = start(after);
+        List<T> fetched = all.stream()
+                .filter(item -> CURSOR_ORDER.compare(cursorExtractor.apply(item), start) > 0)
+                .sorted(Comparator.comparing(cursorExtractor, CURSOR_ORDER))
+                .limit(fetchSize(limit))
+                .toList();
+        return of(fetched, limit, cursorExtractor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
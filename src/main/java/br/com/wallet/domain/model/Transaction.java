@@ -11,7 +11,6 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +21,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import static java.util.Objects.isNull;
+
 @Entity
 @Table(name = "transactions")
 @Data
@@ -59,10 +60,13 @@ public class Transaction {
     @JoinColumn(name = "related_transaction_id")
     private Transaction relatedTransaction;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Transient
+    @Column(name = "idempotency_key", length = 64, updatable = false)
+    private String idempotencyKey;
+
+    @Column(name = "destination_wallet_id", updatable = false)
     private UUID destinationWalletId;
 
     @PrePersist
@@ -71,6 +75,15 @@ public class Transaction {
         createdAt = LocalDateTime.now();
     }
 
+    public void assignIdentity() {
+        if (isNull(id)) {
+            id = UuidCreator.getTimeOrdered();
+        }
+        if (isNull(createdAt)) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public enum TransactionType {
         DEPOSIT, WITHDRAW, TRANSFER
     }
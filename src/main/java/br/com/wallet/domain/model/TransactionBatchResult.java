@@ -0,0 +1,19 @@
+package br.com.wallet.domain.model;
+
+import java.util.Objects;
+
+public record TransactionBatchResult(Transaction transaction, String errorMessage) {
+
+    public static TransactionBatchResult success(Transaction transaction) {
+        Objects.requireNonNull(transaction, "Transaction cannot be null");
+        return new TransactionBatchResult(transaction, null);
+    }
+
+    public static TransactionBatchResult failure(String errorMessage) {
+        return new TransactionBatchResult(null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return transaction != null;
+    }
+}
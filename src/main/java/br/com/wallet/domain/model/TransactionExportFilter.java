@@ -0,0 +1,16 @@
+package br.com.wallet.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record TransactionExportFilter(UUID walletId, UUID userId, LocalDateTime from, LocalDateTime to) {
+
+    public TransactionExportFilter {
+        Objects.requireNonNull(from, "Export start cannot be null");
+        Objects.requireNonNull(to, "Export end cannot be null");
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export start must be before export end");
+        }
+    }
+}
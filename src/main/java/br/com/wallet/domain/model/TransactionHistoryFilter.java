@@ -0,0 +1,27 @@
+package br.com.wallet.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record TransactionHistoryFilter(
+        UUID walletId,
+        UUID userId,
+        Transaction.TransactionType type,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        LocalDateTime from,
+        LocalDateTime to) {
+
+    public TransactionHistoryFilter {
+        Objects.requireNonNull(walletId, "Wallet ID cannot be null");
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot be greater than maximum amount");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("History start must be before history end");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.wallet.domain.model;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+@Entity
+@Table(name = "transaction_submissions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TransactionSubmission {
+
+    public static final int SLOTS = 1024;
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID id;
+
+    @Column(name = "slot", nullable = false, updatable = false)
+    private Short slot;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "wallet_id", nullable = false, updatable = false)
+    private UUID walletId;
+
+    @Column(name = "destination_wallet_id", updatable = false)
+    private UUID destinationWalletId;
+
+    @Column(name = "from_user_id", updatable = false)
+    private UUID fromUserId;
+
+    @Column(name = "to_user_id", updatable = false)
+    private UUID toUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20, updatable = false)
+    private Transaction.TransactionType type;
+
+    @Column(name = "amount", nullable = false, precision = 18, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Column(name = "related_transaction_id", updatable = false)
+    private UUID relatedTransactionId;
+
+    @Column(name = "idempotency_key", length = 64, updatable = false)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SubmissionStatus status;
+
+    @Column(name = "transaction_id")
+    private UUID transactionId;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static TransactionSubmission pending(Transaction transaction, String idempotencyKey) {
+        Objects.requireNonNull(transaction, "Transaction cannot be null");
+        Objects.requireNonNull(transaction.getWallet(), "Transaction wallet cannot be null");
+        UUID walletId = Objects.requireNonNull(transaction.getWallet().getId(), "Wallet ID cannot be null");
+        UUID userId = Objects.requireNonNull(actingUserId(transaction), "Acting user ID cannot be null");
+        return TransactionSubmission.builder()
+                .slot(slotOf(userId, walletId))
+                .userId(userId)
+                .walletId(walletId)
+                .destinationWalletId(transaction.getDestinationWalletId())
+                .fromUserId(transaction.getFromUserId())
+                .toUserId(transaction.getToUserId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount())
+                .description(transaction.getDescription())
+                .relatedTransactionId(isNull(transaction.getRelatedTransaction())
+                        ? null : transaction.getRelatedTransaction().getId())
+                .idempotencyKey(idempotencyKey)
+                .status(SubmissionStatus.PENDING)
+                .build();
+    }
+
+    @PrePersist
+    public void prePersist() {
+        id = UuidCreator.getTimeOrdered();
+        createdAt = LocalDateTime.now();
+    }
+
+    public static short slotOf(UUID userId, UUID walletId) {
+        return (short) Math.floorMod(Objects.hash(userId, walletId), SLOTS);
+    }
+
+    private static UUID actingUserId(Transaction transaction) {
+        return transaction.getType() == Transaction.TransactionType.DEPOSIT
+                ? transaction.getToUserId()
+                : transaction.getFromUserId();
+    }
+
+    public Transaction toTransaction() {
+        return Transaction.builder()
+                .wallet(Wallet.builder().id(walletId).build())
+                .destinationWalletId(destinationWalletId)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .type(type)
+                .amount(amount)
+                .description(description)
+                .relatedTransaction(isNull(relatedTransactionId)
+                        ? null : Transaction.builder().id(relatedTransactionId).build())
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+
+    public void complete(UUID transactionId) {
+        this.status = SubmissionStatus.COMPLETED;
+        this.transactionId = transactionId;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = SubmissionStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public boolean isDone() {
+        return status != SubmissionStatus.PENDING;
+    }
+
+    public enum SubmissionStatus {
+        PENDING, COMPLETED, FAILED
+    }
+}
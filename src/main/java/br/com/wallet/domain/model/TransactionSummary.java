@@ -0,0 +1,19 @@
+package br.com.wallet.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransactionSummary(
+        UUID id,
+        UUID walletId,
+        String walletName,
+        UUID fromUserId,
+        UUID toUserId,
+        Transaction.TransactionType type,
+        BigDecimal amount,
+        String description,
+        UUID relatedTransactionId,
+        LocalDateTime createdAt
+) {
+}
@@ -10,13 +10,13 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -43,7 +43,7 @@ public class UserWallet {
     private Wallet wallet;
 
     @Column(name = "balance", nullable = false, precision = 18, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -51,6 +51,10 @@ public class UserWallet {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         id = UuidCreator.getTimeOrdered();
@@ -63,7 +67,7 @@ public class UserWallet {
             updatedAt = now;
         }
         if (isNull(balance)) {
-            balance = BigDecimal.ZERO;
+            balance = Money.ZERO;
         }
     }
 
@@ -0,0 +1,32 @@
+package br.com.wallet.domain.model;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+public record UserWalletKey(UUID userId, UUID walletId) implements Comparable<UserWalletKey> {
+
+    private static final Comparator<UUID> DATABASE_UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private static final Comparator<UserWalletKey> DATABASE_ORDER = Comparator
+            .comparing(UserWalletKey::userId, DATABASE_UUID_ORDER)
+            .thenComparing(UserWalletKey::walletId, DATABASE_UUID_ORDER);
+
+    public UserWalletKey {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(walletId, "Wallet ID cannot be null");
+    }
+
+    public static UserWalletKey of(UserWallet userWallet) {
+        Objects.requireNonNull(userWallet, "User wallet cannot be null");
+        Objects.requireNonNull(userWallet.getWallet(), "Wallet cannot be null");
+        return new UserWalletKey(userWallet.getUserId(), userWallet.getWallet().getId());
+    }
+
+    @Override
+    public int compareTo(UserWalletKey other) {
+        return DATABASE_ORDER.compare(this, other);
+    }
+}
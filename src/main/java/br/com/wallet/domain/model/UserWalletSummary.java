@@ -0,0 +1,15 @@
+package br.com.wallet.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserWalletSummary(
+        UUID id,
+        UUID userId,
+        UUID walletId,
+        String walletName,
+        Money balance,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
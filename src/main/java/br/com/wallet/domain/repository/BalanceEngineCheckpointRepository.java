@@ -0,0 +1,9 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.BalanceEngineCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BalanceEngineCheckpointRepository extends JpaRepository<BalanceEngineCheckpoint, Integer> {
+}
@@ -7,5 +7,5 @@ import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
 @Repository
-public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory, UUID> {
+public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory, UUID>, BalanceHistoryRepositoryCustom {
 }
@@ -0,0 +1,27 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.model.BalanceSeriesBucket;
+import br.com.wallet.domain.model.BalanceSeriesPoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BalanceHistoryRepositoryCustom {
+
+    void insertAll(List<BalanceHistory> balanceHistories);
+
+    void stageAll(List<BalanceHistory> balanceHistories);
+
+    int moveStaged(int limit);
+
+    long countStaged();
+
+    Optional<BalanceAt> findBalanceAt(UUID userId, UUID walletId, LocalDateTime at);
+
+    List<BalanceSeriesPoint> findSeries(
+            UUID userId, UUID walletId, BalanceSeriesBucket bucket, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,154 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.model.BalanceSeriesBucket;
+import br.com.wallet.domain.model.BalanceSeriesPoint;
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.apache.commons.collections4.ListUtils;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+
+public class BalanceHistoryRepositoryImpl implements BalanceHistoryRepositoryCustom {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int COLUMNS_PER_ROW = 5;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<BalanceHistory> balanceHistories) {
+        insertInto("balance_history", balanceHistories);
+    }
+
+    @Override
+    public void stageAll(List<BalanceHistory> balanceHistories) {
+        insertInto("balance_history_staging", balanceHistories);
+    }
+
+    @Override
+    public int moveStaged(int limit) {
+        return entityManager.createNativeQuery(
+                        "WITH staged AS ("
+                                + " DELETE FROM balance_history_staging WHERE id IN ("
+                                + " SELECT id FROM balance_history_staging ORDER BY id LIMIT ?1 FOR UPDATE SKIP LOCKED)"
+                                + " RETURNING id, user_id, wallet_id, balance, recorded_at)"
+                                + " INSERT INTO balance_history (id, user_id, wallet_id, balance, recorded_at)"
+                                + " SELECT id, user_id, wallet_id, balance, recorded_at FROM staged")
+                .setParameter(1, limit)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<BalanceAt> findBalanceAt(UUID userId, UUID walletId, LocalDateTime at) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT balance, recorded_at
+                          FROM balance_history
+                         WHERE user_id = ?1 AND wallet_id = ?2 AND recorded_at <= ?3
+                         ORDER BY recorded_at DESC, id DESC
+                         LIMIT 1
+                        """)
+                .unwrap(NativeQuery.class)
+                .addScalar("balance", BigDecimal.class)
+                .addScalar("recorded_at", LocalDateTime.class)
+                .setParameter(1, userId)
+                .setParameter(2, walletId)
+                .setParameter(3, at)
+                .getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> new BalanceAt(userId, walletId, at, (BigDecimal) row[0], (LocalDateTime) row[1]));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BalanceSeriesPoint> findSeries(
+            UUID userId, UUID walletId, BalanceSeriesBucket bucket, LocalDateTime from, LocalDateTime to) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT date_trunc(?1, recorded_at) AS bucket,
+                               (array_agg(balance ORDER BY recorded_at, id))[1] AS open,
+                               max(balance) AS high,
+                               min(balance) AS low,
+                               (array_agg(balance ORDER BY recorded_at DESC, id DESC))[1] AS close,
+                               count(*) AS changes
+                          FROM balance_history
+                         WHERE user_id = ?2 AND wallet_id = ?3 AND recorded_at >= ?4 AND recorded_at < ?5
+                         GROUP BY 1
+                         ORDER BY 1
+                        """)
+                .unwrap(NativeQuery.class)
+                .addScalar("bucket", LocalDateTime.class)
+                .addScalar("open", BigDecimal.class)
+                .addScalar("high", BigDecimal.class)
+                .addScalar("low", BigDecimal.class)
+                .addScalar("close", BigDecimal.class)
+                .addScalar("changes", Long.class)
+                .setParameter(1, bucket.getUnit())
+                .setParameter(2, userId)
+                .setParameter(3, walletId)
+                .setParameter(4, from)
+                .setParameter(5, to)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new BalanceSeriesPoint(
+                        (LocalDateTime) row[0],
+                        (BigDecimal) row[1],
+                        (BigDecimal) row[2],
+                        (BigDecimal) row[3],
+                        (BigDecimal) row[4],
+                        (Long) row[5]))
+                .toList();
+    }
+
+    @Override
+    public long countStaged() {
+        return ((Number) entityManager.createNativeQuery("SELECT count(*) FROM balance_history_staging")
+                .getSingleResult()).longValue();
+    }
+
+    private void insertInto(String table, List<BalanceHistory> balanceHistories) {
+        Objects.requireNonNull(balanceHistories, "Balance histories cannot be null");
+        for (List<BalanceHistory> chunk : ListUtils.partition(balanceHistories, INSERT_CHUNK_SIZE)) {
+            insertChunk(table, chunk);
+        }
+    }
+
+    private void insertChunk(String table, List<BalanceHistory> balanceHistories) {
+        String rows = IntStream.range(0, balanceHistories.size())
+                .mapToObj(index -> IntStream.rangeClosed(1, COLUMNS_PER_ROW)
+                        .mapToObj(column -> "?" + (index * COLUMNS_PER_ROW + column))
+                        .collect(Collectors.joining(", ", "(", ")")))
+                .collect(Collectors.joining(", "));
+
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO " + table + " (id, user_id, wallet_id, balance, recorded_at) VALUES " + rows);
+
+        for (int index = 0; index < balanceHistories.size(); index++) {
+            BalanceHistory balanceHistory = balanceHistories.get(index);
+            int offset = index * COLUMNS_PER_ROW;
+            query.setParameter(offset + 1, isNull(balanceHistory.getId())
+                    ? UuidCreator.getTimeOrdered() : balanceHistory.getId());
+            query.setParameter(offset + 2, balanceHistory.getUserId());
+            query.setParameter(offset + 3, balanceHistory.getWallet());
+            query.setParameter(offset + 4, balanceHistory.getBalance());
+            query.setParameter(offset + 5, isNull(balanceHistory.getRecordedAt())
+                    ? LocalDateTime.now() : balanceHistory.getRecordedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.OutboxEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepositoryCustom {
+
+    void insertAll(List<OutboxEvent> events);
+
+    List<OutboxEvent> claimBatch(int limit, Duration claimTimeout);
+
+    int release(List<UUID> ids, LocalDateTime retryAt);
+
+    int deleteClaimed(List<UUID> ids);
+
+    int deadLetter(UUID id, String lastError);
+}
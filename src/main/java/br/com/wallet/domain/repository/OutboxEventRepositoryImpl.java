@@ -0,0 +1,127 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.apache.commons.collections4.ListUtils;
+import org.hibernate.query.NativeQuery;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class OutboxEventRepositoryImpl implements OutboxEventRepositoryCustom {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int COLUMNS_PER_ROW = 5;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        Objects.requireNonNull(events, "Outbox events cannot be null");
+        for (List<OutboxEvent> chunk : ListUtils.partition(events, INSERT_CHUNK_SIZE)) {
+            insertChunk(chunk);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutboxEvent> claimBatch(int limit, Duration claimTimeout) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "UPDATE outbox SET attempts = attempts + 1,"
+                                + " claimed_until = LOCALTIMESTAMP + make_interval(secs => ?2)"
+                                + " WHERE id IN ("
+                                + " SELECT id FROM outbox WHERE claimed_until IS NULL OR claimed_until < LOCALTIMESTAMP"
+                                + " ORDER BY id LIMIT ?1 FOR UPDATE SKIP LOCKED)"
+                                + " RETURNING id, aggregate_id, event_type, payload::text AS payload, created_at, attempts")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("aggregate_id", UUID.class)
+                .addScalar("event_type", String.class)
+                .addScalar("payload", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("attempts", Integer.class)
+                .setParameter(1, limit)
+                .setParameter(2, claimTimeout.toMillis() / 1000.0)
+                .getResultList();
+        return rows.stream()
+                .map(row -> OutboxEvent.builder()
+                        .id((UUID) row[0])
+                        .aggregateId((UUID) row[1])
+                        .eventType((String) row[2])
+                        .payload((String) row[3])
+                        .createdAt((LocalDateTime) row[4])
+                        .attempts((Integer) row[5])
+                        .build())
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    @Override
+    public int release(List<UUID> ids, LocalDateTime retryAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery("UPDATE outbox SET claimed_until = ?2 WHERE id IN (?1)")
+                .setParameter(1, ids)
+                .setParameter(2, retryAt)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteClaimed(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery("DELETE FROM outbox WHERE id IN (?1)")
+                .setParameter(1, ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deadLetter(UUID id, String lastError) {
+        return entityManager.createNativeQuery(
+                        "WITH moved AS ("
+                                + " DELETE FROM outbox WHERE id = ?1"
+                                + " RETURNING id, aggregate_id, event_type, payload, created_at, attempts)"
+                                + " INSERT INTO outbox_dead_letter (id, aggregate_id, event_type, payload, created_at,"
+                                + " attempts, last_error, dead_lettered_at)"
+                                + " SELECT id, aggregate_id, event_type, payload, created_at, attempts, ?2, LOCALTIMESTAMP"
+                                + " FROM moved")
+                .setParameter(1, id)
+                .setParameter(2, lastError)
+                .executeUpdate();
+    }
+
+    private void insertChunk(List<OutboxEvent> events) {
+        String rows = IntStream.range(0, events.size())
+                .mapToObj(index -> {
+                    int offset = index * COLUMNS_PER_ROW;
+                    return "(?" + (offset + 1) + ", ?" + (offset + 2) + ", ?" + (offset + 3)
+                            + ", CAST(?" + (offset + 4) + " AS jsonb), ?" + (offset + 5) + ")";
+                })
+                .collect(Collectors.joining(", "));
+
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO outbox (id, aggregate_id, event_type, payload, created_at) VALUES " + rows);
+
+        for (int index = 0; index < events.size(); index++) {
+            OutboxEvent event = events.get(index);
+            int offset = index * COLUMNS_PER_ROW;
+            query.setParameter(offset + 1, event.getId());
+            query.setParameter(offset + 2, event.getAggregateId());
+            query.setParameter(offset + 3, event.getEventType());
+            query.setParameter(offset + 4, event.getPayload());
+            query.setParameter(offset + 5, event.getCreatedAt());
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+record TransactionHistoryQuery(String sql, List<Object> parameters) {
+
+    private static final String COLUMNS = "t.id, t.wallet_id, t.from_user_id, t.to_user_id, t.type, t.amount,"
+            + " t.description, t.related_transaction_id, t.created_at";
+
+    static TransactionHistoryQuery of(TransactionHistoryFilter filter, UUID after, int fetchSize) {
+        Objects.requireNonNull(filter, "History filter cannot be null");
+        List<Object> parameters = new ArrayList<>();
+        String sent = branch(filter, after, fetchSize, "t.from_user_id = ?%d", parameters);
+        String received = branch(filter, after, fetchSize,
+                "t.to_user_id = ?%d AND t.from_user_id IS DISTINCT FROM t.to_user_id", parameters);
+        parameters.add(fetchSize);
+        String sql = "SELECT h.id, h.wallet_id, w.name AS wallet_name, h.from_user_id, h.to_user_id, h.type,"
+                + " h.amount, h.description, h.related_transaction_id, h.created_at"
+                + " FROM (" + sent + " UNION ALL " + received + ") h"
+                + " JOIN wallets w ON w.id = h.wallet_id"
+                + " ORDER BY h.created_at DESC, h.id DESC"
+                + " LIMIT ?" + parameters.size();
+        return new TransactionHistoryQuery(sql, List.copyOf(parameters));
+    }
+
+    private static String branch(
+            TransactionHistoryFilter filter, UUID after, int fetchSize, String userCondition, List<Object> parameters) {
+        StringBuilder sql = new StringBuilder("(SELECT ").append(COLUMNS).append(" FROM transactions t WHERE ");
+        sql.append("t.wallet_id = ").append(bind(parameters, filter.walletId()));
+        sql.append(" AND ").append(userCondition.formatted(parameters.size() + 1));
+        parameters.add(filter.userId());
+        if (filter.type() != null) {
+            sql.append(" AND t.type = ").append(bind(parameters, filter.type().name()));
+        }
+        if (filter.minAmount() != null) {
+            sql.append(" AND t.amount >= ").append(bind(parameters, filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            sql.append(" AND t.amount <= ").append(bind(parameters, filter.maxAmount()));
+        }
+        if (filter.from() != null) {
+            sql.append(" AND t.created_at >= ").append(bind(parameters, filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND t.created_at < ").append(bind(parameters, filter.to()));
+        }
+        if (after != null) {
+            sql.append(" AND (t.created_at, t.id) < (SELECT c.created_at, c.id FROM transactions c WHERE c.id = ")
+                    .append(bind(parameters, after))
+                    .append(")");
+        }
+        sql.append(" ORDER BY t.created_at DESC, t.id DESC LIMIT ").append(bind(parameters, fetchSize)).append(")");
+        return sql.toString();
+    }
+
+    private static String bind(List<Object> parameters, Object value) {
+        parameters.add(value);
+        return "?" + parameters.size();
+    }
+}
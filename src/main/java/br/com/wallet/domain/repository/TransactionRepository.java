@@ -1,11 +1,37 @@
 package br.com.wallet.domain.repository;
 
 import br.com.wallet.domain.model.Transaction;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, TransactionRepositoryCustom {
+
+    @Query(value = """
+            SELECT t.*
+              FROM transaction_idempotency_keys k
+              JOIN transactions t ON t.id = k.transaction_id AND t.created_at = k.created_at
+             WHERE k.user_id = :userId AND k.idempotency_key = :idempotencyKey
+            """, nativeQuery = true)
+    Optional<Transaction> findByIdempotencyKey(
+            @Param("userId") UUID userId,
+            @Param("idempotencyKey") String idempotencyKey);
+
+    @Query("""
+            SELECT new br.com.wallet.domain.model.TransactionSummary(
+                   t.id, w.id, w.name, t.fromUserId, t.toUserId, t.type, t.amount, t.description,
+                   t.relatedTransaction.id, t.createdAt)
+              FROM Transaction t
+              JOIN t.wallet w
+             WHERE t.id > :after
+             ORDER BY t.id
+            """)
+    List<TransactionSummary> findSummariesAfter(@Param("after") UUID after, Limit limit);
 }
@@ -0,0 +1,19 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionExportFilter;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import br.com.wallet.domain.model.TransactionSummary;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+
+    void insertAll(List<Transaction> transactions);
+
+    Stream<TransactionSummary> streamSummaries(TransactionExportFilter filter, int fetchSize);
+
+    List<TransactionSummary> findHistory(TransactionHistoryFilter filter, UUID after, int fetchSize);
+}
@@ -0,0 +1,142 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionExportFilter;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import br.com.wallet.domain.model.TransactionSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.apache.commons.collections4.ListUtils;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int COLUMNS_PER_ROW = 11;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Transaction> transactions) {
+        Objects.requireNonNull(transactions, "Transactions cannot be null");
+        for (List<Transaction> chunk : ListUtils.partition(transactions, INSERT_CHUNK_SIZE)) {
+            insertChunk(chunk);
+        }
+    }
+
+    @Override
+    public Stream<TransactionSummary> streamSummaries(TransactionExportFilter filter, int fetchSize) {
+        Objects.requireNonNull(filter, "Export filter cannot be null");
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new br.com.wallet.domain.model.TransactionSummary(
+                       t.id, w.id, w.name, t.fromUserId, t.toUserId, t.type, t.amount, t.description,
+                       t.relatedTransaction.id, t.createdAt)
+                  FROM Transaction t
+                  JOIN t.wallet w
+                 WHERE t.createdAt >= :from AND t.createdAt < :to
+                """);
+        if (filter.walletId() != null) {
+            jpql.append(" AND w.id = :walletId");
+        }
+        if (filter.userId() != null) {
+            jpql.append(" AND (t.fromUserId = :userId OR t.toUserId = :userId)");
+        }
+        jpql.append(" ORDER BY t.createdAt, t.id");
+
+        TypedQuery<TransactionSummary> query = entityManager.createQuery(jpql.toString(), TransactionSummary.class)
+                .setParameter("from", filter.from())
+                .setParameter("to", filter.to())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (filter.walletId() != null) {
+            query.setParameter("walletId", filter.walletId());
+        }
+        if (filter.userId() != null) {
+            query.setParameter("userId", filter.userId());
+        }
+        return query.getResultStream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TransactionSummary> findHistory(TransactionHistoryFilter filter, UUID after, int fetchSize) {
+        TransactionHistoryQuery historyQuery = TransactionHistoryQuery.of(filter, after, fetchSize);
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(historyQuery.sql()).unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("wallet_id", UUID.class)
+                .addScalar("wallet_name", String.class)
+                .addScalar("from_user_id", UUID.class)
+                .addScalar("to_user_id", UUID.class)
+                .addScalar("type", String.class)
+                .addScalar("amount", BigDecimal.class)
+                .addScalar("description", String.class)
+                .addScalar("related_transaction_id", UUID.class)
+                .addScalar("created_at", LocalDateTime.class);
+        List<Object> parameters = historyQuery.parameters();
+        for (int index = 0; index < parameters.size(); index++) {
+            query.setParameter(index + 1, parameters.get(index));
+        }
+        return query.getResultList().stream()
+                .map(row -> new TransactionSummary(
+                        (UUID) row[0],
+                        (UUID) row[1],
+                        (String) row[2],
+                        (UUID) row[3],
+                        (UUID) row[4],
+                        Transaction.TransactionType.valueOf((String) row[5]),
+                        (BigDecimal) row[6],
+                        (String) row[7],
+                        (UUID) row[8],
+                        (LocalDateTime) row[9]))
+                .toList();
+    }
+
+    private void insertChunk(List<Transaction> transactions) {
+        String rows = IntStream.range(0, transactions.size())
+                .mapToObj(index -> IntStream.rangeClosed(1, COLUMNS_PER_ROW)
+                        .mapToObj(column -> "?" + (index * COLUMNS_PER_ROW + column))
+                        .collect(Collectors.joining(", ", "(", ")")))
+                .collect(Collectors.joining(", "));
+
+        Query query = entityManager.createNativeQuery(
+                "WITH inserted AS ("
+                        + " INSERT INTO transactions (id, wallet_id, from_user_id, to_user_id, type, amount, description,"
+                        + " related_transaction_id, created_at, idempotency_key, destination_wallet_id) VALUES " + rows
+                        + " RETURNING id, type, from_user_id, to_user_id, created_at, idempotency_key)"
+                        + " INSERT INTO transaction_idempotency_keys (user_id, idempotency_key, transaction_id, created_at)"
+                        + " SELECT CASE WHEN type = 'DEPOSIT' THEN to_user_id ELSE from_user_id END,"
+                        + " idempotency_key, id, created_at FROM inserted WHERE idempotency_key IS NOT NULL");
+
+        for (int index = 0; index < transactions.size(); index++) {
+            Transaction transaction = transactions.get(index);
+            transaction.assignIdentity();
+            int offset = index * COLUMNS_PER_ROW;
+            query.setParameter(offset + 1, transaction.getId());
+            query.setParameter(offset + 2, transaction.getWallet().getId());
+            query.setParameter(offset + 3, transaction.getFromUserId());
+            query.setParameter(offset + 4, transaction.getToUserId());
+            query.setParameter(offset + 5, transaction.getType().name());
+            query.setParameter(offset + 6, transaction.getAmount());
+            query.setParameter(offset + 7, transaction.getDescription());
+            query.setParameter(offset + 8, transaction.getRelatedTransaction() == null
+                    ? null : transaction.getRelatedTransaction().getId());
+            query.setParameter(offset + 9, transaction.getCreatedAt());
+            query.setParameter(offset + 10, transaction.getIdempotencyKey());
+            query.setParameter(offset + 11, transaction.getDestinationWalletId());
+        }
+        query.executeUpdate();
+    }
+}
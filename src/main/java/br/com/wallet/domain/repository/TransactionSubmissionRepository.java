@@ -0,0 +1,15 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.TransactionSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TransactionSubmissionRepository
+        extends JpaRepository<TransactionSubmission, UUID>, TransactionSubmissionRepositoryCustom {
+
+    Optional<TransactionSubmission> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+}
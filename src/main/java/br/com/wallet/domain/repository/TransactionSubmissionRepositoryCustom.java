@@ -0,0 +1,15 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.TransactionSubmission;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TransactionSubmissionRepositoryCustom {
+
+    boolean tryLockPartition(int partition);
+
+    List<TransactionSubmission> claimPending(int partition, int partitions, int limit);
+
+    int deleteFinishedBefore(LocalDateTime cutoff, int limit);
+}
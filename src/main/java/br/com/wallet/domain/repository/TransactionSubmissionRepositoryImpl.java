@@ -0,0 +1,51 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.TransactionSubmission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TransactionSubmissionRepositoryImpl implements TransactionSubmissionRepositoryCustom {
+
+    private static final int ADVISORY_LOCK_CLASS = 7_301_917;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean tryLockPartition(int partition) {
+        Object locked = entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(?1, ?2)")
+                .setParameter(1, ADVISORY_LOCK_CLASS)
+                .setParameter(2, partition)
+                .getSingleResult();
+        return Boolean.TRUE.equals(locked);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TransactionSubmission> claimPending(int partition, int partitions, int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT * FROM transaction_submissions"
+                                + " WHERE status = 'PENDING' AND slot % ?1 = ?2"
+                                + " ORDER BY id LIMIT ?3 FOR UPDATE",
+                        TransactionSubmission.class)
+                .setParameter(1, partitions)
+                .setParameter(2, partition)
+                .setParameter(3, limit)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteFinishedBefore(LocalDateTime cutoff, int limit) {
+        return entityManager.createNativeQuery(
+                        "DELETE FROM transaction_submissions WHERE id IN ("
+                                + "SELECT id FROM transaction_submissions"
+                                + " WHERE status <> 'PENDING' AND completed_at < ?1"
+                                + " LIMIT ?2 FOR UPDATE SKIP LOCKED)")
+                .setParameter(1, cutoff)
+                .setParameter(2, limit)
+                .executeUpdate();
+    }
+}
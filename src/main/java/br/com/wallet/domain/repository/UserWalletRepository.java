@@ -3,26 +3,52 @@ package br.com.wallet.domain.repository;
 import br.com.wallet.domain.model.UserWallet;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserWalletRepository extends JpaRepository<UserWallet, UUID> {
+public interface UserWalletRepository extends JpaRepository<UserWallet, UUID>, UserWalletRepositoryCustom {
 
     List<UserWallet> findByUserId(UUID userId);
 
-    List<UserWallet> findByWalletId(UUID walletId);
+    @Query("""
+            SELECT new br.com.wallet.domain.model.UserWalletSummary(
+                   uw.id, uw.userId, w.id, w.name, uw.balance, uw.createdAt, uw.updatedAt)
+              FROM UserWallet uw
+              JOIN uw.wallet w
+             WHERE uw.id > :after
+             ORDER BY uw.id
+            """)
+    List<UserWalletSummary> findSummariesAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("""
+            SELECT new br.com.wallet.domain.model.UserWalletSummary(
+                   uw.id, uw.userId, w.id, w.name, uw.balance, uw.createdAt, uw.updatedAt)
+              FROM UserWallet uw
+              JOIN uw.wallet w
+             WHERE w.id = :walletId AND uw.id > :after
+             ORDER BY uw.id
+            """)
+    List<UserWalletSummary> findSummariesByWalletIdAfter(
+            @Param("walletId") UUID walletId,
+            @Param("after") UUID after,
+            Limit limit);
 
     Optional<UserWallet> findByUserIdAndWalletId(UUID userId, UUID walletId);
 
+    boolean existsByUserIdAndWalletId(UUID userId, UUID walletId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")})
     @Query("SELECT uw FROM UserWallet uw WHERE uw.userId = :userId AND uw.wallet.id = :walletId")
@@ -30,4 +56,16 @@ public interface UserWalletRepository extends JpaRepository<UserWallet, UUID> {
             @Param("userId") UUID userId,
             @Param("walletId") UUID walletId);
 
+    @Transactional
+    @Query(value = """
+            UPDATE user_wallet
+               SET balance = balance + :delta, updated_at = CURRENT_TIMESTAMP, version = version + 1
+             WHERE user_id = :userId AND wallet_id = :walletId AND balance + :delta >= 0
+            RETURNING balance
+            """, nativeQuery = true)
+    Optional<BigDecimal> applyBalanceDelta(
+            @Param("userId") UUID userId,
+            @Param("walletId") UUID walletId,
+            @Param("delta") BigDecimal delta);
+
 }
@@ -0,0 +1,16 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface UserWalletRepositoryCustom {
+
+    List<UserWallet> findAllByKeysWithPessimisticLock(Collection<UserWalletKey> keys);
+
+    Map<UserWalletKey, Money> applyBalanceDeltas(Map<UserWalletKey, Money> deltas);
+}
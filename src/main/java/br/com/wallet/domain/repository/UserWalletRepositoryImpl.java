@@ -0,0 +1,110 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.apache.commons.collections4.ListUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class UserWalletRepositoryImpl implements UserWalletRepositoryCustom {
+
+    private static final int LOCK_CHUNK_SIZE = 1000;
+    private static final String LOCK_TIMEOUT = "5000ms";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserWallet> findAllByKeysWithPessimisticLock(Collection<UserWalletKey> keys) {
+        Objects.requireNonNull(keys, "User wallet keys cannot be null");
+        List<UserWalletKey> orderedKeys = keys.stream().distinct().sorted().toList();
+
+        if (orderedKeys.isEmpty()) {
+            return List.of();
+        }
+        applyLockTimeout();
+
+        List<UserWallet> userWallets = new ArrayList<>(orderedKeys.size());
+        for (List<UserWalletKey> chunk : ListUtils.partition(orderedKeys, LOCK_CHUNK_SIZE)) {
+            userWallets.addAll(lockChunk(chunk));
+        }
+        return userWallets;
+    }
+
+    @Override
+    public Map<UserWalletKey, Money> applyBalanceDeltas(Map<UserWalletKey, Money> deltas) {
+        Objects.requireNonNull(deltas, "Balance deltas cannot be null");
+        List<UserWalletKey> orderedKeys = deltas.keySet().stream().sorted().toList();
+
+        Map<UserWalletKey, Money> balances = new HashMap<>(orderedKeys.size());
+        for (List<UserWalletKey> chunk : ListUtils.partition(orderedKeys, LOCK_CHUNK_SIZE)) {
+            balances.putAll(applyDeltaChunk(chunk, deltas));
+        }
+        return balances;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UserWalletKey, Money> applyDeltaChunk(List<UserWalletKey> keys, Map<UserWalletKey, Money> deltas) {
+        String values = IntStream.range(0, keys.size())
+                .mapToObj(index -> "(CAST(?" + (3 * index + 1) + " AS UUID), CAST(?" + (3 * index + 2)
+                        + " AS UUID), CAST(?" + (3 * index + 3) + " AS NUMERIC))")
+                .collect(Collectors.joining(", "));
+
+        Query query = entityManager.createNativeQuery(
+                "UPDATE user_wallet uw"
+                        + " SET balance = uw.balance + v.delta, updated_at = CURRENT_TIMESTAMP, version = uw.version + 1"
+                        + " FROM (VALUES " + values + ") AS v (user_id, wallet_id, delta)"
+                        + " WHERE uw.user_id = v.user_id AND uw.wallet_id = v.wallet_id"
+                        + " RETURNING uw.user_id, uw.wallet_id, uw.balance");
+
+        for (int index = 0; index < keys.size(); index++) {
+            UserWalletKey key = keys.get(index);
+            query.setParameter(3 * index + 1, key.userId());
+            query.setParameter(3 * index + 2, key.walletId());
+            query.setParameter(3 * index + 3, deltas.get(key).toBigDecimal());
+        }
+
+        Map<UserWalletKey, Money> balances = new HashMap<>(keys.size());
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            balances.put(new UserWalletKey((UUID) row[0], (UUID) row[1]), Money.of((BigDecimal) row[2]));
+        }
+        return balances;
+    }
+
+    private void applyLockTimeout() {
+        entityManager.createNativeQuery("SELECT set_config('lock_timeout', ?1, true)")
+                .setParameter(1, LOCK_TIMEOUT)
+                .getSingleResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UserWallet> lockChunk(List<UserWalletKey> keys) {
+        String placeholders = IntStream.range(0, keys.size())
+                .mapToObj(index -> "(?" + (2 * index + 1) + ", ?" + (2 * index + 2) + ")")
+                .collect(Collectors.joining(", "));
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT * FROM user_wallet WHERE (user_id, wallet_id) IN (" + placeholders + ")"
+                        + " ORDER BY user_id, wallet_id FOR UPDATE",
+                UserWallet.class);
+
+        for (int index = 0; index < keys.size(); index++) {
+            query.setParameter(2 * index + 1, keys.get(index).userId());
+            query.setParameter(2 * index + 2, keys.get(index).walletId());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,13 +1,17 @@
 package br.com.wallet.domain.repository;
 
 import br.com.wallet.domain.model.Wallet;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     Optional<Wallet> findByName(String name);
+
+    List<Wallet> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
 }
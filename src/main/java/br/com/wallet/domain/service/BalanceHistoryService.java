@@ -0,0 +1,51 @@
+package br.com.wallet.domain.service;
+
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceSeriesBucket;
+import br.com.wallet.domain.model.BalanceSeriesPoint;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryService {
+
+    static final long MAX_SERIES_POINTS = 10_000;
+
+    private final BalanceHistoryRepository balanceHistoryRepository;
+
+    public BalanceAt findBalanceAt(UUID userId, UUID walletId, LocalDateTime at) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(walletId, "Wallet ID cannot be null");
+        Objects.requireNonNull(at, "Instant cannot be null");
+        return balanceHistoryRepository.findBalanceAt(userId, walletId, at)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "No balance recorded for userId: " + userId + " and walletId: " + walletId + " at: " + at));
+    }
+
+    public List<BalanceSeriesPoint> findSeries(
+            UUID userId, UUID walletId, BalanceSeriesBucket bucket, LocalDateTime from, LocalDateTime to) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(walletId, "Wallet ID cannot be null");
+        Objects.requireNonNull(bucket, "Bucket cannot be null");
+        Objects.requireNonNull(from, "Series start cannot be null");
+        Objects.requireNonNull(to, "Series end cannot be null");
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Series start must be before series end");
+        }
+        long points = Duration.between(from, to).dividedBy(bucket.getDuration());
+        if (points > MAX_SERIES_POINTS) {
+            throw new IllegalArgumentException(
+                    "Series cannot have more than " + MAX_SERIES_POINTS + " " + bucket.getUnit() + " buckets");
+        }
+        return balanceHistoryRepository.findSeries(userId, walletId, bucket, from, to);
+    }
+}
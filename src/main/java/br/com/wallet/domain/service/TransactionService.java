@@ -1,32 +1,57 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionExportFilter;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import br.com.wallet.domain.model.TransactionSummary;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.repository.TransactionRepository;
+import br.com.wallet.domain.service.transaction.BalanceManager;
+import br.com.wallet.domain.service.transaction.SavepointExecutor;
 import br.com.wallet.domain.service.transaction.TransactionProcessor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final TransactionRepository transactionRepository;
     private final WalletService walletService;
     private final List<TransactionProcessor> transactionProcessors;
+    private final BalanceManager balanceManager;
+    private final TransactionMetrics transactionMetrics;
+    private final SavepointExecutor savepointExecutor;
 
     @Transactional
     public Transaction processTransactionWithWallet(Transaction transaction, UUID walletId, UnaryOperator<Transaction> transactionProcessor) {
         Objects.requireNonNull(transaction, "Transaction cannot be null");
         Objects.requireNonNull(walletId, "Wallet ID cannot be null");
         Objects.requireNonNull(transactionProcessor, "Transaction processor cannot be null");
-        Wallet wallet = findWalletById(walletId);
+        Wallet wallet = transactionMetrics.time(TransactionPhase.WALLET_LOOKUP, transaction.getType(),
+                () -> findWalletById(walletId));
         transaction.setWallet(wallet);
         return transactionProcessor.apply(transaction);
     }
@@ -46,8 +71,42 @@ public class TransactionService {
         return getProcessorForType(Transaction.TransactionType.TRANSFER).process(transaction);
     }
 
-    public List<Transaction> findAll() {
-        return transactionRepository.findAll();
+    @Transactional
+    public List<TransactionBatchResult> processBatch(List<Transaction> transactions) {
+        Objects.requireNonNull(transactions, "Transactions cannot be null");
+
+        Set<UUID> walletIds = transactions.stream()
+                .map(transaction -> transaction.getWallet().getId())
+                .collect(Collectors.toSet());
+        Map<UUID, Wallet> wallets = walletService.findAllByIds(walletIds);
+
+        balanceManager.lockAll(collectUserWalletKeys(transactions, wallets));
+
+        return transactions.stream()
+                .map(transaction -> processBatchItem(transaction, wallets))
+                .toList();
+    }
+
+    public CursorPage<TransactionSummary> findAll(UUID after, int limit) {
+        List<TransactionSummary> transactions = transactionRepository.findSummariesAfter(
+                CursorPage.start(after), Limit.of(CursorPage.fetchSize(limit)));
+        return CursorPage.of(transactions, limit, TransactionSummary::id);
+    }
+
+    public CursorPage<TransactionSummary> findHistory(TransactionHistoryFilter filter, UUID after, int limit) {
+        Objects.requireNonNull(filter, "History filter cannot be null");
+        List<TransactionSummary> transactions = transactionRepository.findHistory(
+                filter, after, CursorPage.fetchSize(limit));
+        return CursorPage.of(transactions, limit, TransactionSummary::id);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(TransactionExportFilter filter, Consumer<Stream<TransactionSummary>> consumer) {
+        Objects.requireNonNull(filter, "Export filter cannot be null");
+        Objects.requireNonNull(consumer, "Export consumer cannot be null");
+        try (Stream<TransactionSummary> transactions = transactionRepository.streamSummaries(filter, EXPORT_FETCH_SIZE)) {
+            consumer.accept(transactions);
+        }
     }
 
     public Transaction findById(UUID id) {
@@ -56,7 +115,13 @@ public class TransactionService {
                 .orElseThrow(() -> new EntityNotFoundException("Transaction not found with id: " + id));
     }
 
-    private TransactionProcessor getProcessorForType(Transaction.TransactionType transactionType) {
+    public Optional<Transaction> findByIdempotencyKey(UUID userId, String idempotencyKey) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(idempotencyKey, "Idempotency key cannot be null");
+        return transactionRepository.findByIdempotencyKey(userId, idempotencyKey);
+    }
+
+    TransactionProcessor getProcessorForType(Transaction.TransactionType transactionType) {
         Objects.requireNonNull(transactionType, "Transaction type cannot be null");
         return transactionProcessors.stream()
                 .filter(processor -> processor.canProcess(transactionType))
@@ -64,6 +129,41 @@ public class TransactionService {
                 .orElseThrow(() -> new IllegalArgumentException("No processor found for transaction type: " + transactionType));
     }
 
+    private TransactionBatchResult processBatchItem(Transaction transaction, Map<UUID, Wallet> wallets) {
+        UUID walletId = transaction.getWallet().getId();
+        Wallet wallet = wallets.get(walletId);
+        if (wallet == null) {
+            return TransactionBatchResult.failure("Wallet not found with id: " + walletId);
+        }
+        transaction.setWallet(wallet);
+
+        try {
+            TransactionProcessor processor = getProcessorForType(transaction.getType());
+            return TransactionBatchResult.success(savepointExecutor.execute(() -> processor.process(transaction)));
+        } catch (IllegalArgumentException | EntityNotFoundException ex) {
+            return TransactionBatchResult.failure(ex.getMessage());
+        }
+    }
+
+    private Set<UserWalletKey> collectUserWalletKeys(List<Transaction> transactions, Map<UUID, Wallet> wallets) {
+        Set<UserWalletKey> keys = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            UUID walletId = transaction.getWallet().getId();
+            if (!wallets.containsKey(walletId)) {
+                continue;
+            }
+            switch (transaction.getType()) {
+                case DEPOSIT -> keys.add(new UserWalletKey(transaction.getToUserId(), walletId));
+                case WITHDRAW -> keys.add(new UserWalletKey(transaction.getFromUserId(), walletId));
+                case TRANSFER -> {
+                    keys.add(new UserWalletKey(transaction.getFromUserId(), walletId));
+                    keys.add(new UserWalletKey(transaction.getToUserId(), transaction.getDestinationWalletId()));
+                }
+            }
+        }
+        return keys;
+    }
+
     private Wallet findWalletById(UUID walletId) {
         return walletService.findById(walletId);
     }
@@ -0,0 +1,69 @@
+package br.com.wallet.domain.service;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import br.com.wallet.domain.service.transaction.submission.SubmissionCompletionNotifier;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionSubmissionService {
+
+    private final TransactionSubmissionRepository transactionSubmissionRepository;
+    private final SubmissionCompletionNotifier submissionCompletionNotifier;
+    private final SubmissionProperties submissionProperties;
+
+    @Transactional
+    public TransactionSubmission submit(Transaction transaction, String idempotencyKey) {
+        Objects.requireNonNull(transaction, "Transaction cannot be null");
+        return transactionSubmissionRepository.save(TransactionSubmission.pending(transaction, idempotencyKey));
+    }
+
+    public Optional<TransactionSubmission> findByIdempotencyKey(UUID userId, String idempotencyKey) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        Objects.requireNonNull(idempotencyKey, "Idempotency key cannot be null");
+        return transactionSubmissionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+    }
+
+    public TransactionSubmission findById(UUID id) {
+        Objects.requireNonNull(id, "Submission ID cannot be null");
+        return transactionSubmissionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Transaction submission not found with id: " + id));
+    }
+
+    public TransactionSubmission awaitCompletion(UUID id, Duration wait) {
+        Objects.requireNonNull(wait, "Wait cannot be null");
+        if (wait.isNegative() || wait.compareTo(submissionProperties.getMaxWait()) > 0) {
+            throw new IllegalArgumentException(
+                    "Wait must be between 0 and " + submissionProperties.getMaxWait().toSeconds() + " seconds");
+        }
+
+        long deadline = System.nanoTime() + wait.toNanos();
+        TransactionSubmission submission = findById(id);
+        while (!submission.isDone()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return submission;
+            }
+            try {
+                submissionCompletionNotifier.await(id,
+                        Duration.ofNanos(Math.min(remaining, submissionProperties.getPollInterval().toNanos() * 10)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return submission;
+            }
+            submission = findById(id);
+        }
+        return submission;
+    }
+}
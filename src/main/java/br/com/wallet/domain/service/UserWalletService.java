@@ -1,11 +1,15 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.cache.UserWalletCache;
 import br.com.wallet.domain.exception.DuplicateUserWalletException;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.UserWallet;
-import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.model.UserWalletSummary;
 import br.com.wallet.domain.repository.UserWalletRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,9 +24,12 @@ public class UserWalletService {
 
     private final UserWalletRepository userWalletRepository;
     private final WalletService walletService;
+    private final UserWalletCache userWalletCache;
 
-    public List<UserWallet> findAll() {
-        return userWalletRepository.findAll();
+    public CursorPage<UserWalletSummary> findAll(UUID after, int limit) {
+        List<UserWalletSummary> userWallets = userWalletRepository.findSummariesAfter(
+                CursorPage.start(after), Limit.of(CursorPage.fetchSize(limit)));
+        return CursorPage.of(userWallets, limit, UserWalletSummary::id);
     }
 
     public UserWallet findById(UUID id) {
@@ -33,18 +40,27 @@ public class UserWalletService {
 
     public List<UserWallet> findByUserId(UUID userId) {
         Objects.requireNonNull(userId, "User ID cannot be null");
-        return userWalletRepository.findByUserId(userId);
+        return userWalletCache.findByUserId(userId, () -> userWalletRepository.findByUserId(userId).stream()
+                .map(this::snapshot)
+                .toList());
     }
 
-    public List<UserWallet> findByWalletId(UUID walletId) {
+    public CursorPage<UserWallet> findByUserId(UUID userId, UUID after, int limit) {
+        return CursorPage.slice(findByUserId(userId), after, limit, UserWallet::getId);
+    }
+
+    public CursorPage<UserWalletSummary> findByWalletId(UUID walletId, UUID after, int limit) {
         Objects.requireNonNull(walletId, "Wallet ID cannot be null");
-        return userWalletRepository.findByWalletId(walletId);
+        List<UserWalletSummary> userWallets = userWalletRepository.findSummariesByWalletIdAfter(
+                walletId, CursorPage.start(after), Limit.of(CursorPage.fetchSize(limit)));
+        return CursorPage.of(userWallets, limit, UserWalletSummary::id);
     }
 
     public UserWallet findByUserIdAndWalletId(UUID userId, UUID walletId) {
         Objects.requireNonNull(userId, "User ID cannot be null");
         Objects.requireNonNull(walletId, "Wallet ID cannot be null");
-        return userWalletRepository.findByUserIdAndWalletId(userId, walletId)
+        return userWalletCache.find(new UserWalletKey(userId, walletId),
+                        () -> userWalletRepository.findByUserIdAndWalletId(userId, walletId).map(this::snapshot))
                 .orElseThrow(() -> new EntityNotFoundException(
                         "UserWallet not found with userId: " + userId + " and walletId: " + walletId));
     }
@@ -59,9 +75,9 @@ public class UserWalletService {
 
         checkForDuplicateUserWallet(userWallet.getUserId(), walletId, null);
 
-        Wallet wallet = walletService.findById(walletId);
-        userWallet.setWallet(wallet);
+        userWallet.setWallet(walletService.getReference(walletId));
 
+        userWalletCache.evictAfterCommit(new UserWalletKey(userWallet.getUserId(), walletId));
         return userWalletRepository.save(userWallet);
     }
 
@@ -83,14 +99,16 @@ public class UserWalletService {
         }
 
         if (walletIdChanged) {
-            Wallet wallet = walletService.findById(walletId);
-            userWallet.setWallet(wallet);
+            userWallet.setWallet(walletService.getReference(walletId));
         }
 
         userWallet.setId(existingUserWallet.getId());
         userWallet.setCreatedAt(existingUserWallet.getCreatedAt());
         userWallet.setBalance(existingUserWallet.getBalance());
+        userWallet.setVersion(existingUserWallet.getVersion());
 
+        userWalletCache.evictAfterCommit(UserWalletKey.of(existingUserWallet));
+        userWalletCache.evictAfterCommit(new UserWalletKey(userWallet.getUserId(), walletId));
         return userWalletRepository.save(userWallet);
     }
 
@@ -98,9 +116,22 @@ public class UserWalletService {
     public void delete(UUID id) {
         Objects.requireNonNull(id, "UserWallet ID cannot be null");
         UserWallet userWallet = findById(id);
+        userWalletCache.evictAfterCommit(UserWalletKey.of(userWallet));
         userWalletRepository.delete(userWallet);
     }
 
+    private UserWallet snapshot(UserWallet userWallet) {
+        return UserWallet.builder()
+                .id(userWallet.getId())
+                .userId(userWallet.getUserId())
+                .wallet(walletService.findById(userWallet.getWallet().getId()))
+                .balance(userWallet.getBalance())
+                .createdAt(userWallet.getCreatedAt())
+                .updatedAt(userWallet.getUpdatedAt())
+                .version(userWallet.getVersion())
+                .build();
+    }
+
     private UUID getWalletId(UserWallet userWallet) {
         Objects.requireNonNull(userWallet.getWallet(), "Wallet cannot be null");
         UUID walletId = userWallet.getWallet().getId();
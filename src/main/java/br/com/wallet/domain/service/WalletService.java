@@ -1,14 +1,20 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.cache.WalletCache;
 import br.com.wallet.domain.exception.DuplicateWalletNameException;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.repository.WalletRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -16,16 +22,33 @@ import java.util.UUID;
 public class WalletService {
 
     private final WalletRepository walletRepository;
+    private final WalletCache walletCache;
 
-    public List<Wallet> findAll() {
-        return walletRepository.findAll();
+    public CursorPage<Wallet> findAll(UUID after, int limit) {
+        List<Wallet> wallets = walletRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.start(after), Limit.of(CursorPage.fetchSize(limit)));
+        return CursorPage.of(wallets, limit, Wallet::getId);
     }
 
     public Wallet findById(UUID id) {
-        return walletRepository.findById(id)
+        return walletCache.findById(id, walletRepository::findById)
                 .orElseThrow(() -> new EntityNotFoundException("Wallet not found with id: " + id));
     }
 
+    public Wallet getReference(UUID id) {
+        return walletRepository.getReferenceById(findById(id).getId());
+    }
+
+    public Wallet findByName(String name) {
+        return walletCache.findByName(name, walletRepository::findByName)
+                .orElseThrow(() -> new EntityNotFoundException("Wallet not found with name: " + name));
+    }
+
+    public Map<UUID, Wallet> findAllByIds(Collection<UUID> ids) {
+        Objects.requireNonNull(ids, "Wallet IDs cannot be null");
+        return walletCache.findAllByIds(ids, walletRepository::findAllById);
+    }
+
     @Transactional
     public Wallet save(Wallet wallet) {
         walletRepository.findByName(wallet.getName())
@@ -48,12 +71,15 @@ public class WalletService {
 
         wallet.setId(existingWallet.getId());
         wallet.setCreatedAt(existingWallet.getCreatedAt());
+        walletCache.evict(existingWallet);
+        walletCache.evict(wallet);
         return walletRepository.save(wallet);
     }
 
     @Transactional
     public void delete(UUID id) {
         Wallet wallet = findById(id);
+        walletCache.evict(wallet);
         walletRepository.delete(wallet);
     }
 }
@@ -1,46 +1,93 @@
 package br.com.wallet.domain.service.transaction;
 
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.core.cache.UserWalletCache;
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
 import br.com.wallet.domain.model.BalanceHistory;
-import br.com.wallet.domain.model.UserWallet;
-import br.com.wallet.domain.repository.BalanceHistoryRepository;
-import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.service.transaction.history.BalanceHistoryMode;
+import br.com.wallet.domain.service.transaction.history.BalanceHistoryRecorder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class BalanceManager {
 
-    private final UserWalletRepository userWalletRepository;
-    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final BalanceProperties balanceProperties;
+    private final List<BalanceUpdateStrategy> balanceUpdateStrategies;
+    private final List<BalanceHistoryRecorder> balanceHistoryRecorders;
+    private final UserWalletCache userWalletCache;
+    private final TransactionMetrics transactionMetrics;
 
-    public void creditUserWallet(UserWallet userWallet, BigDecimal amount) {
-        updateUserWalletBalance(userWallet, amount, true);
+    public void lockAll(Collection<UserWalletKey> keys) {
+        getActiveStrategy().lockAll(keys);
     }
 
-    public void debitUserWallet(UserWallet userWallet, BigDecimal amount) {
-        updateUserWalletBalance(userWallet, amount, false);
+    public void creditUserWallet(UserWalletKey key, Money amount, String notFoundMessage) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        BalanceUpdateStrategy strategy = getActiveStrategy();
+        Money balance = transactionMetrics.time(TransactionPhase.BALANCE_UPDATE,
+                () -> strategy.credit(key, amount, notFoundMessage));
+        onBalanceUpdated(strategy, key, balance);
+    }
+
+    public void debitUserWallet(UserWalletKey key, Money amount, String notFoundMessage) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        BalanceUpdateStrategy strategy = getActiveStrategy();
+        Money balance = transactionMetrics.time(TransactionPhase.BALANCE_UPDATE,
+                () -> strategy.debit(key, amount, notFoundMessage));
+        onBalanceUpdated(strategy, key, balance);
     }
 
-    private void updateUserWalletBalance(UserWallet userWallet, BigDecimal amount, boolean isCredit) {
-        Objects.requireNonNull(userWallet, "User wallet cannot be null");
+    public void transferBetweenUserWallets(UserWalletKey source, UserWalletKey target, Money amount) {
+        Objects.requireNonNull(source, "Source user wallet key cannot be null");
+        Objects.requireNonNull(target, "Target user wallet key cannot be null");
         Objects.requireNonNull(amount, "Amount cannot be null");
-        userWallet.setBalance(isCredit ? userWallet.getBalance().add(amount) : userWallet.getBalance().subtract(amount));
-        userWalletRepository.save(userWallet);
-        recordBalanceHistory(userWallet);
+        BalanceUpdateStrategy strategy = getActiveStrategy();
+        TransferBalances balances = transactionMetrics.time(TransactionPhase.BALANCE_UPDATE,
+                () -> strategy.transfer(source, target, amount));
+        onBalanceUpdated(strategy, source, balances.sourceBalance());
+        onBalanceUpdated(strategy, target, balances.targetBalance());
+    }
+
+    private BalanceUpdateStrategy getActiveStrategy() {
+        BalanceUpdateMode mode = balanceProperties.getUpdateStrategy();
+        return balanceUpdateStrategies.stream()
+                .filter(strategy -> strategy.canHandle(mode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No balance update strategy found for mode: " + mode));
+    }
+
+    private BalanceHistoryRecorder getActiveHistoryRecorder() {
+        BalanceHistoryMode mode = balanceProperties.getHistory().getMode();
+        return balanceHistoryRecorders.stream()
+                .filter(recorder -> recorder.canHandle(mode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No balance history recorder found for mode: " + mode));
     }
 
-    private void recordBalanceHistory(UserWallet userWallet) {
-        Objects.requireNonNull(userWallet, "User wallet cannot be null");
-        Objects.requireNonNull(userWallet.getWallet(), "Wallet cannot be null");
+    private void onBalanceUpdated(BalanceUpdateStrategy strategy, UserWalletKey key, Money balance) {
+        userWalletCache.updateBalanceAfterCommit(key, balance);
+        if (strategy.recordsBalanceHistory()) {
+            return;
+        }
         BalanceHistory balanceHistory = BalanceHistory.builder()
-                .userId(userWallet.getUserId())
-                .wallet(userWallet.getWallet().getId())
-                .balance(userWallet.getBalance())
+                .userId(key.userId())
+                .wallet(key.walletId())
+                .balance(balance.toBigDecimal())
+                .recordedAt(LocalDateTime.now())
                 .build();
-        balanceHistoryRepository.save(balanceHistory);
+        BalanceHistoryRecorder recorder = getActiveHistoryRecorder();
+        transactionMetrics.time(TransactionPhase.HISTORY, () -> recorder.record(balanceHistory));
     }
-}
\ No newline at end of file
+}
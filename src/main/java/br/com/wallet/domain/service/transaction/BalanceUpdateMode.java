@@ -0,0 +1,5 @@
+package br.com.wallet.domain.service.transaction;
+
+public enum BalanceUpdateMode {
+    PESSIMISTIC_LOCK, OPTIMISTIC_LOCK, CONDITIONAL_UPDATE, IN_MEMORY
+}
@@ -0,0 +1,23 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+
+import java.util.Collection;
+
+public interface BalanceUpdateStrategy {
+
+    boolean canHandle(BalanceUpdateMode mode);
+
+    void lockAll(Collection<UserWalletKey> keys);
+
+    Money credit(UserWalletKey key, Money amount, String notFoundMessage);
+
+    Money debit(UserWalletKey key, Money amount, String notFoundMessage);
+
+    TransferBalances transfer(UserWalletKey source, UserWalletKey target, Money amount);
+
+    default boolean recordsBalanceHistory() {
+        return false;
+    }
+}
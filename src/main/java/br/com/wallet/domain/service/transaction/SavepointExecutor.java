@@ -0,0 +1,25 @@
+package br.com.wallet.domain.service.transaction;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+@Service
+public class SavepointExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public SavepointExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
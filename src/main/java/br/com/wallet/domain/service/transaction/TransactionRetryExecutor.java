@@ -0,0 +1,48 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionRetryExecutor {
+
+    private final BalanceProperties balanceProperties;
+
+    public <T> T execute(Supplier<T> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        BalanceProperties.Retry retry = balanceProperties.getRetry();
+        int maxAttempts = Math.max(1, retry.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                backOff(retry, attempt);
+            }
+        }
+    }
+
+    private void backOff(BalanceProperties.Retry retry, int attempt) {
+        long initialMillis = Math.max(1, retry.getInitialBackoff().toMillis());
+        long maxMillis = Math.max(initialMillis, retry.getMaxBackoff().toMillis());
+        long ceilingMillis = Math.min(maxMillis, initialMillis << Math.min(attempt - 1, 20));
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceilingMillis + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry transaction", ex);
+        }
+    }
+}
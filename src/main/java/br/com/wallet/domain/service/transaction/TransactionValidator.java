@@ -1,5 +1,6 @@
 package br.com.wallet.domain.service.transaction;
 
+import br.com.wallet.domain.model.Money;
 import br.com.wallet.domain.model.Transaction;
 import br.com.wallet.domain.model.UserWallet;
 import org.springframework.stereotype.Service;
@@ -25,10 +26,10 @@ public class TransactionValidator {
         }
     }
 
-    public void validateSufficientBalance(UserWallet userWallet, BigDecimal amount) {
+    public void validateSufficientBalance(UserWallet userWallet, Money amount) {
         Objects.requireNonNull(userWallet, "User wallet cannot be null");
         Objects.requireNonNull(amount, "Amount cannot be null");
-        if (userWallet.getBalance().compareTo(amount) < 0) {
+        if (userWallet.getBalance().isLessThan(amount)) {
             throw new IllegalArgumentException("Insufficient balance");
         }
     }
@@ -0,0 +1,30 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
+import br.com.wallet.core.outbox.OutboxWriter;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final OutboxWriter outboxWriter;
+    private final TransactionMetrics transactionMetrics;
+
+    public void write(List<Transaction> transactions) {
+        Objects.requireNonNull(transactions, "Transactions cannot be null");
+        transactions.forEach(Transaction::assignIdentity);
+        transactionMetrics.time(TransactionPhase.PERSIST, transactions, () -> {
+            transactionRepository.insertAll(transactions);
+            outboxWriter.write(transactions);
+        });
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.domain.model.Money;
+
+public record TransferBalances(Money sourceBalance, Money targetBalance) {
+}
@@ -1,24 +1,104 @@
 package br.com.wallet.domain.service.transaction;
 
+import br.com.wallet.core.contention.LockContentionProfiler;
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
 import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.repository.UserWalletRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UserWalletFinder {
 
+    private static final String LOCKED_USER_WALLETS = UserWalletFinder.class.getName() + ".lockedUserWallets";
+
     private final UserWalletRepository userWalletRepository;
+    private final TransactionMetrics transactionMetrics;
+    private final LockContentionProfiler lockContentionProfiler;
 
     public UserWallet getUserWalletWithLockOrThrow(UUID userId, UUID walletId, String notFoundMessage) {
-        return userWalletRepository.findByUserIdAndWalletIdWithPessimisticLock(userId, walletId)
+        UserWallet lockedUserWallet = findAlreadyLocked(userId, walletId);
+        if (lockedUserWallet != null) {
+            return lockedUserWallet;
+        }
+        return transactionMetrics.time(TransactionPhase.LOCK,
+                        () -> lockContentionProfiler.profile(List.of(new UserWalletKey(userId, walletId)),
+                                () -> userWalletRepository.findByUserIdAndWalletIdWithPessimisticLock(userId, walletId)))
                 .orElseThrow(() -> new EntityNotFoundException(
                         notFoundMessage + userId + " and walletId: " + walletId
                 ));
     }
 
+    public Map<UserWalletKey, UserWallet> lockAll(Collection<UserWalletKey> keys) {
+        Objects.requireNonNull(keys, "User wallet keys cannot be null");
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<UserWalletKey, UserWallet> lockedUserWallets = getOrBindLockedUserWallets();
+        List<UserWalletKey> keysToLock = keys.stream()
+                .filter(key -> !lockedUserWallets.containsKey(key))
+                .toList();
+        if (!keysToLock.isEmpty()) {
+            transactionMetrics.time(TransactionPhase.LOCK,
+                            () -> lockContentionProfiler.profile(keysToLock,
+                                    () -> userWalletRepository.findAllByKeysWithPessimisticLock(keysToLock)))
+                    .forEach(userWallet -> lockedUserWallets.put(UserWalletKey.of(userWallet), userWallet));
+        }
+        return Collections.unmodifiableMap(lockedUserWallets);
+    }
+
+    public UserWallet getLockedUserWalletOrThrow(
+            Map<UserWalletKey, UserWallet> lockedUserWallets, UserWalletKey key, String notFoundMessage) {
+        UserWallet userWallet = lockedUserWallets.get(key);
+        if (userWallet == null) {
+            throw new EntityNotFoundException(notFoundMessage + key.userId() + " and walletId: " + key.walletId());
+        }
+        return userWallet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private UserWallet findAlreadyLocked(UUID userId, UUID walletId) {
+        if (userId == null || walletId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<UserWalletKey, UserWallet> lockedUserWallets =
+                (Map<UserWalletKey, UserWallet>) TransactionSynchronizationManager.getResource(LOCKED_USER_WALLETS);
+        return lockedUserWallets == null ? null : lockedUserWallets.get(new UserWalletKey(userId, walletId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UserWalletKey, UserWallet> getOrBindLockedUserWallets() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("User wallets can only be locked inside an active transaction");
+        }
+        Map<UserWalletKey, UserWallet> lockedUserWallets =
+                (Map<UserWalletKey, UserWallet>) TransactionSynchronizationManager.getResource(LOCKED_USER_WALLETS);
+        if (lockedUserWallets != null) {
+            return lockedUserWallets;
+        }
+
+        Map<UserWalletKey, UserWallet> newLockedUserWallets = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(LOCKED_USER_WALLETS, newLockedUserWallets);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LOCKED_USER_WALLETS);
+            }
+        });
+        return newLockedUserWallets;
+    }
 }
@@ -0,0 +1,402 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceEngine implements SmartLifecycle {
+
+    private static final String SOURCE_NOT_FOUND_MESSAGE = "Source UserWallet not found with userId: ";
+    private static final String TARGET_NOT_FOUND_MESSAGE = "Target UserWallet not found with userId: ";
+    private static final Pattern JOURNAL_FILE_NAME = Pattern.compile("shard-(\\d+)\\.journal");
+
+    private final BalanceProperties balanceProperties;
+    private final UserWalletRepository userWalletRepository;
+    private final BalanceProjectionWriter balanceProjectionWriter;
+    private final MeterRegistry meterRegistry;
+
+    private List<BalanceShard> shards = List.of();
+    private BlockingQueue<ShardRecord> projectionQueue;
+    private Timer projectionTimer;
+    private Counter deadLetterCounter;
+    private Counter inDoubtCounter;
+    private Thread projector;
+    private volatile boolean running;
+    private volatile boolean accepting;
+
+    public Money balanceOf(UserWalletKey key) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        return shardFor(key).balanceOf(key, "UserWallet not found with userId: ");
+    }
+
+    public PreparedChange<Money> credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        return shardFor(key).credit(key, amount, notFoundMessage);
+    }
+
+    public PreparedChange<Money> debit(UserWalletKey key, Money amount, String notFoundMessage) {
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        return shardFor(key).debit(key, null, amount, notFoundMessage);
+    }
+
+    public PreparedChange<TransferBalances> transfer(UserWalletKey source, UserWalletKey target, Money amount) {
+        Objects.requireNonNull(source, "Source user wallet key cannot be null");
+        Objects.requireNonNull(target, "Target user wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        shardFor(target).balanceOf(target, TARGET_NOT_FOUND_MESSAGE);
+        PreparedChange<Money> debit = shardFor(source).debit(source, target, amount, SOURCE_NOT_FOUND_MESSAGE);
+        try {
+            Money targetBalance = shardFor(target).receive(target, amount, TARGET_NOT_FOUND_MESSAGE);
+            return new PreparedChange<>(
+                    new TransferBalances(debit.result(), targetBalance), debit.shard(), debit.sequence());
+        } catch (RuntimeException ex) {
+            shardOf(debit).revert(debit.sequence());
+            throw ex;
+        }
+    }
+
+    public void confirm(PreparedChange<?> change) {
+        JournalRecord record = shardOf(change).confirm(change.sequence());
+        if (record.type() == JournalRecord.Type.TRANSFER) {
+            shardFor(record.targetKey()).deposit(record.targetKey(), record.amount());
+        }
+    }
+
+    public void revert(PreparedChange<?> change) {
+        JournalRecord record = shardOf(change).revert(change.sequence());
+        if (record.type() == JournalRecord.Type.TRANSFER) {
+            shardFor(record.targetKey()).settle(List.of(record.targetKey()));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!BalanceUpdateMode.IN_MEMORY.equals(balanceProperties.getUpdateStrategy())) {
+            return;
+        }
+        BalanceProperties.Engine engine = balanceProperties.getEngine();
+        projectionQueue = new ArrayBlockingQueue<>(Math.max(1, engine.getProjectionQueueCapacity()));
+        Gauge.builder("wallet.balance.engine.projection.queue.depth", projectionQueue, BlockingQueue::size)
+                .description("Journal records waiting to be projected to the database")
+                .register(meterRegistry);
+        projectionTimer = Timer.builder("wallet.balance.engine.projection.flush")
+                .description("Time spent projecting one batch of journal records")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        deadLetterCounter = Counter.builder("wallet.balance.engine.projection.dead.lettered")
+                .description("Journal records skipped after repeated projection failures")
+                .register(meterRegistry);
+        inDoubtCounter = Counter.builder("wallet.balance.engine.recovery.in.doubt")
+                .description("Prepared journal records found without a commit or abort marker on start")
+                .register(meterRegistry);
+
+        try {
+            Path journalDirectory = Files.createDirectories(Paths.get(engine.getJournalDirectory()));
+            Map<Integer, Long> lastSequences = recover(journalDirectory);
+
+            List<BalanceShard> newShards = new ArrayList<>(engine.getShards());
+            for (int index = 0; index < Math.max(1, engine.getShards()); index++) {
+                newShards.add(new BalanceShard(
+                        index,
+                        BalanceJournal.open(journalPath(journalDirectory, index), engine.getJournalSize().toBytes(), engine.isFsync()),
+                        lastSequences.getOrDefault(index, 0L),
+                        engine.getMaxBalancesPerShard(),
+                        this::loadBalance,
+                        this::enqueueProjection));
+            }
+            shards = List.copyOf(newShards);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open balance journal", ex);
+        }
+
+        running = true;
+        accepting = true;
+        projector = Thread.ofPlatform()
+                .name("balance-projector")
+                .daemon()
+                .start(this::runProjection);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        accepting = false;
+        for (BalanceShard shard : shards) {
+            try {
+                shard.close();
+            } catch (IOException ex) {
+                log.error("Failed to close balance journal", ex);
+            }
+        }
+        running = false;
+        try {
+            projector.join(Duration.ofSeconds(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private BalanceShard shardFor(UserWalletKey key) {
+        if (!accepting) {
+            throw new IllegalStateException("In-memory balance engine is not running");
+        }
+        return shards.get(shardIndex(key));
+    }
+
+    private BalanceShard shardOf(PreparedChange<?> change) {
+        Objects.requireNonNull(change, "Prepared change cannot be null");
+        if (!accepting) {
+            throw new IllegalStateException("In-memory balance engine is not running");
+        }
+        return shards.get(change.shard());
+    }
+
+    private int shardIndex(UserWalletKey key) {
+        return Math.floorMod(key.hashCode(), shards.size());
+    }
+
+    private Optional<Money> loadBalance(UserWalletKey key) {
+        return userWalletRepository.findByUserIdAndWalletId(key.userId(), key.walletId())
+                .map(UserWallet::getBalance);
+    }
+
+    private void enqueueProjection(ShardRecord shardRecord) {
+        try {
+            projectionQueue.put(shardRecord);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing balance projection", ex);
+        }
+    }
+
+    private Map<Integer, Long> recover(Path journalDirectory) throws IOException {
+        Map<Integer, Long> checkpoints = balanceProjectionWriter.findCheckpoints();
+        Map<Integer, Long> lastSequences = new HashMap<>(checkpoints);
+        List<ShardRecord> pending = new ArrayList<>();
+        List<ShardRecord> inDoubt = new ArrayList<>();
+
+        try (Stream<Path> journalFiles = Files.list(journalDirectory)) {
+            for (Path journalFile : journalFiles.toList()) {
+                Matcher matcher = JOURNAL_FILE_NAME.matcher(journalFile.getFileName().toString());
+                if (!matcher.matches() || Files.size(journalFile) < BalanceJournal.RECORD_SIZE) {
+                    continue;
+                }
+                int shard = Integer.parseInt(matcher.group(1));
+                long checkpoint = checkpoints.getOrDefault(shard, 0L);
+                Map<Long, JournalRecord> unresolved = new HashMap<>();
+                try (BalanceJournal journal = BalanceJournal.open(journalFile, Files.size(journalFile), false)) {
+                    for (JournalRecord record : journal.readAll()) {
+                        lastSequences.merge(shard, record.sequence(), Math::max);
+                        switch (record.status()) {
+                            case PREPARED -> unresolved.put(record.sequence(), record);
+                            case ABORTED -> unresolved.remove(record.preparedSequence());
+                            case COMMITTED -> {
+                                unresolved.remove(record.preparedSequence());
+                                if (record.sequence() > checkpoint) {
+                                    pending.add(new ShardRecord(shard, record));
+                                }
+                            }
+                        }
+                    }
+                }
+                unresolved.values().forEach(record -> inDoubt.add(new ShardRecord(shard, record)));
+            }
+        }
+
+        for (ShardRecord shardRecord : inDoubt) {
+            JournalRecord record = shardRecord.record();
+            inDoubtCounter.increment();
+            log.error("Balance journal record {} of shard {} was prepared but never committed or aborted, "
+                            + "not replaying {} of {} for user {} wallet {}",
+                    record.sequence(), shardRecord.shard(), record.type(), record.amount(),
+                    record.key().userId(), record.key().walletId());
+        }
+        pending.sort(Comparator.comparingLong((ShardRecord shardRecord) -> shardRecord.record().timestamp())
+                .thenComparingInt(ShardRecord::shard)
+                .thenComparingLong(shardRecord -> shardRecord.record().sequence()));
+        for (List<ShardRecord> batch : ListUtils.partition(pending, projectionBatchSize())) {
+            try {
+                project(batch);
+            } catch (RuntimeException ex) {
+                if (isTransient(ex)) {
+                    throw ex;
+                }
+                log.error("Failed to project {} recovered balance journal records", batch.size(), ex);
+                projectIndividually(new ArrayList<>(batch));
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} balance journal records", pending.size());
+        }
+        return lastSequences;
+    }
+
+    private void runProjection() {
+        List<ShardRecord> batch = new ArrayList<>(projectionBatchSize());
+        Duration interval = balanceProperties.getEngine().getProjectionInterval();
+        int failedAttempts = 0;
+        while (running || !projectionQueue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    ShardRecord first = projectionQueue.poll(interval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    projectionQueue.drainTo(batch, projectionBatchSize() - 1);
+                }
+                if (failedAttempts >= projectionMaxAttempts()) {
+                    log.error("Balance projection batch failed {} times, projecting its {} records one by one",
+                            failedAttempts, batch.size());
+                    projectIndividually(batch);
+                } else {
+                    project(batch);
+                }
+                batch.clear();
+                failedAttempts = 0;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                if (!isTransient(ex)) {
+                    failedAttempts++;
+                }
+                log.error("Failed to project balance journal records, retrying", ex);
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(interval.toNanos());
+            }
+        }
+    }
+
+    private void project(List<ShardRecord> batch) {
+        long startedAt = System.nanoTime();
+        Map<Integer, Long> projectedSequences = balanceProjectionWriter.project(batch);
+        markProjected(projectedSequences);
+        settle(batch);
+        projectionTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void projectIndividually(List<ShardRecord> batch) {
+        Iterator<ShardRecord> records = batch.iterator();
+        while (records.hasNext()) {
+            ShardRecord shardRecord = records.next();
+            try {
+                project(List.of(shardRecord));
+            } catch (RuntimeException ex) {
+                if (isTransient(ex)) {
+                    throw ex;
+                }
+                deadLetter(shardRecord, ex);
+            }
+            records.remove();
+        }
+    }
+
+    private void deadLetter(ShardRecord shardRecord, RuntimeException ex) {
+        JournalRecord record = shardRecord.record();
+        Map<Integer, Long> skippedSequence = Map.of(shardRecord.shard(), record.sequence());
+        balanceProjectionWriter.advanceCheckpoints(skippedSequence);
+        markProjected(skippedSequence);
+        settle(List.of(shardRecord));
+        deadLetterCounter.increment();
+        log.error("Skipping balance journal record {} of shard {}: {} of {} for user {} wallet {}",
+                record.sequence(), shardRecord.shard(), record.type(), record.amount(),
+                record.key().userId(), record.key().walletId(), ex);
+    }
+
+    private void markProjected(Map<Integer, Long> projectedSequences) {
+        projectedSequences.forEach((shard, sequence) -> {
+            if (shard < shards.size()) {
+                shards.get(shard).markProjected(sequence);
+            }
+        });
+    }
+
+    private void settle(List<ShardRecord> batch) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<UserWalletKey>> keysByShard = new HashMap<>();
+        for (ShardRecord shardRecord : batch) {
+            for (JournalRecord.BalanceDelta delta : shardRecord.record().deltas()) {
+                keysByShard.computeIfAbsent(shardIndex(delta.key()), shard -> new ArrayList<>()).add(delta.key());
+            }
+        }
+        keysByShard.forEach((shard, keys) -> shards.get(shard).settle(keys));
+    }
+
+    private int projectionMaxAttempts() {
+        return Math.max(1, balanceProperties.getEngine().getProjectionMaxAttempts());
+    }
+
+    private int projectionBatchSize() {
+        return Math.max(1, balanceProperties.getEngine().getProjectionBatchSize());
+    }
+
+    private static Path journalPath(Path journalDirectory, int shard) {
+        return journalDirectory.resolve("shard-" + shard + ".journal");
+    }
+
+    private static boolean isTransient(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof CannotCreateTransactionException;
+    }
+}
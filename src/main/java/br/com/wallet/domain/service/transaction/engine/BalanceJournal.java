@@ -0,0 +1,160 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+public class BalanceJournal implements Closeable {
+
+    static final int RECORD_SIZE = 112;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean fsync;
+    private int position;
+
+    private BalanceJournal(FileChannel channel, MappedByteBuffer buffer, boolean fsync) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.fsync = fsync;
+    }
+
+    public static BalanceJournal open(Path path, long requestedSize, boolean fsync) throws IOException {
+        Objects.requireNonNull(path, "Journal path cannot be null");
+        long existingSize = Files.exists(path) ? Files.size(path) : 0;
+        long size = Math.min(Math.max(existingSize, requestedSize), Integer.MAX_VALUE);
+        size = size - size % RECORD_SIZE;
+        if (size < RECORD_SIZE) {
+            throw new IllegalArgumentException("Journal size must hold at least one record");
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new BalanceJournal(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), fsync);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    public List<JournalRecord> readAll() {
+        List<JournalRecord> records = new ArrayList<>();
+        byte[] bytes = new byte[RECORD_SIZE];
+        for (int offset = 0; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+            buffer.get(offset, bytes);
+            JournalRecord record = decode(bytes);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        records.sort(Comparator.comparingLong(JournalRecord::sequence));
+        return records;
+    }
+
+    public boolean hasRoom() {
+        return hasRoom(1);
+    }
+
+    public boolean hasRoom(int records) {
+        return position + (long) records * RECORD_SIZE <= buffer.capacity();
+    }
+
+    public void append(JournalRecord record) {
+        Objects.requireNonNull(record, "Journal record cannot be null");
+        if (!hasRoom()) {
+            throw new IllegalStateException("Balance journal is full");
+        }
+        buffer.put(position, encode(record));
+        if (fsync) {
+            buffer.force(position, RECORD_SIZE);
+        }
+        position += RECORD_SIZE;
+    }
+
+    public void reset() {
+        position = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    static byte[] encode(JournalRecord record) {
+        byte[] bytes = new byte[RECORD_SIZE];
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        data.putLong(record.sequence());
+        data.putLong(record.timestamp());
+        data.putInt(record.type().ordinal());
+        data.putLong(record.amount().minorUnits());
+        putKey(data, record.key());
+        putKey(data, record.targetKey());
+        data.putInt(record.status().ordinal());
+        data.putLong(record.preparedSequence());
+        data.putInt(CHECKSUM_OFFSET, checksum(bytes));
+        return bytes;
+    }
+
+    static JournalRecord decode(byte[] bytes) {
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        long sequence = data.getLong();
+        if (sequence <= 0 || data.getInt(CHECKSUM_OFFSET) != checksum(bytes)) {
+            return null;
+        }
+        long timestamp = data.getLong();
+        int typeOrdinal = data.getInt();
+        if (typeOrdinal < 0 || typeOrdinal >= JournalRecord.Type.values().length) {
+            return null;
+        }
+        JournalRecord.Type type = JournalRecord.Type.values()[typeOrdinal];
+        Money amount = Money.ofMinorUnits(data.getLong());
+        UserWalletKey key = getKey(data);
+        UserWalletKey targetKey = getKey(data);
+        int statusOrdinal = data.getInt();
+        if (statusOrdinal < 0 || statusOrdinal >= JournalRecord.Status.values().length) {
+            return null;
+        }
+        return new JournalRecord(sequence, type, key, type == JournalRecord.Type.TRANSFER ? targetKey : null,
+                amount, timestamp, JournalRecord.Status.values()[statusOrdinal], data.getLong());
+    }
+
+    private static void putKey(ByteBuffer data, UserWalletKey key) {
+        if (key == null) {
+            data.putLong(0).putLong(0).putLong(0).putLong(0);
+            return;
+        }
+        data.putLong(key.userId().getMostSignificantBits())
+                .putLong(key.userId().getLeastSignificantBits())
+                .putLong(key.walletId().getMostSignificantBits())
+                .putLong(key.walletId().getLeastSignificantBits());
+    }
+
+    private static UserWalletKey getKey(ByteBuffer data) {
+        UUID userId = new UUID(data.getLong(), data.getLong());
+        UUID walletId = new UUID(data.getLong(), data.getLong());
+        return new UserWalletKey(userId, walletId);
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, CHECKSUM_OFFSET);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.BalanceEngineCheckpoint;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.BalanceEngineCheckpointRepository;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceProjectionWriter {
+
+    private final UserWalletRepository userWalletRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final BalanceEngineCheckpointRepository balanceEngineCheckpointRepository;
+
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> findCheckpoints() {
+        return balanceEngineCheckpointRepository.findAll().stream()
+                .collect(Collectors.toMap(BalanceEngineCheckpoint::getShard, BalanceEngineCheckpoint::getSequence));
+    }
+
+    @Transactional
+    public Map<Integer, Long> project(List<ShardRecord> shardRecords) {
+        Objects.requireNonNull(shardRecords, "Shard records cannot be null");
+        if (shardRecords.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UserWalletKey, Money> totalDeltas = new HashMap<>();
+        Map<Integer, Long> projectedSequences = new HashMap<>();
+        for (ShardRecord shardRecord : shardRecords) {
+            shardRecord.record().deltas()
+                    .forEach(delta -> totalDeltas.merge(delta.key(), delta.delta(), Money::plus));
+            projectedSequences.merge(shardRecord.shard(), shardRecord.record().sequence(), Math::max);
+        }
+
+        Map<UserWalletKey, Money> finalBalances = userWalletRepository.applyBalanceDeltas(totalDeltas);
+        balanceHistoryRepository.insertAll(buildBalanceHistories(shardRecords, finalBalances));
+        saveCheckpoints(projectedSequences);
+        return projectedSequences;
+    }
+
+    @Transactional
+    public void advanceCheckpoints(Map<Integer, Long> sequences) {
+        Objects.requireNonNull(sequences, "Sequences cannot be null");
+        saveCheckpoints(sequences);
+    }
+
+    private List<BalanceHistory> buildBalanceHistories(
+            List<ShardRecord> shardRecords, Map<UserWalletKey, Money> finalBalances) {
+        Map<UserWalletKey, Money> runningBalances = new HashMap<>(finalBalances);
+        List<BalanceHistory> balanceHistories = new ArrayList<>();
+        for (int index = shardRecords.size() - 1; index >= 0; index--) {
+            JournalRecord record = shardRecords.get(index).record();
+            List<JournalRecord.BalanceDelta> deltas = record.deltas();
+            for (int deltaIndex = deltas.size() - 1; deltaIndex >= 0; deltaIndex--) {
+                JournalRecord.BalanceDelta delta = deltas.get(deltaIndex);
+                Money balance = runningBalances.get(delta.key());
+                if (balance == null) {
+                    continue;
+                }
+                balanceHistories.add(BalanceHistory.builder()
+                        .userId(delta.key().userId())
+                        .wallet(delta.key().walletId())
+                        .balance(balance.toBigDecimal())
+                        .recordedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()))
+                        .build());
+                runningBalances.put(delta.key(), balance.minus(delta.delta()));
+            }
+        }
+        Collections.reverse(balanceHistories);
+        return balanceHistories;
+    }
+
+    private void saveCheckpoints(Map<Integer, Long> projectedSequences) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, BalanceEngineCheckpoint> checkpoints = balanceEngineCheckpointRepository
+                .findAllById(projectedSequences.keySet()).stream()
+                .collect(Collectors.toMap(BalanceEngineCheckpoint::getShard, checkpoint -> checkpoint));
+
+        projectedSequences.forEach((shard, sequence) -> {
+            BalanceEngineCheckpoint checkpoint = checkpoints.computeIfAbsent(shard,
+                    key -> BalanceEngineCheckpoint.builder().shard(key).sequence(0L).build());
+            checkpoint.setSequence(Math.max(checkpoint.getSequence(), sequence));
+            checkpoint.setUpdatedAt(now);
+        });
+        balanceEngineCheckpointRepository.saveAll(checkpoints.values());
+    }
+}
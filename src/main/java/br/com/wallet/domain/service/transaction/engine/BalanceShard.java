@@ -0,0 +1,277 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+class BalanceShard implements Closeable {
+
+    private static final Duration JOURNAL_FULL_PAUSE = Duration.ofMillis(1);
+
+    private final int index;
+    private final BalanceJournal journal;
+    private final int maxBalances;
+    private final Function<UserWalletKey, Optional<Money>> balanceLoader;
+    private final Consumer<ShardRecord> projectionSink;
+    private final ExecutorService executor;
+    private final Map<UserWalletKey, Money> balances = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UserWalletKey, Money> reserved = new HashMap<>();
+    private final Map<UserWalletKey, Integer> unsettled = new HashMap<>();
+    private final Map<Long, JournalRecord> prepared = new HashMap<>();
+    private final AtomicLong projectedSequence;
+    private long lastSequence;
+    private long lastCommittedSequence;
+
+    BalanceShard(
+            int index,
+            BalanceJournal journal,
+            long lastSequence,
+            int maxBalances,
+            Function<UserWalletKey, Optional<Money>> balanceLoader,
+            Consumer<ShardRecord> projectionSink) {
+        this.index = index;
+        this.journal = journal;
+        this.lastSequence = lastSequence;
+        this.lastCommittedSequence = lastSequence;
+        this.projectedSequence = new AtomicLong(lastSequence);
+        this.maxBalances = Math.max(1, maxBalances);
+        this.balanceLoader = balanceLoader;
+        this.projectionSink = projectionSink;
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("balance-shard-" + index).daemon().factory());
+        journal.reset();
+    }
+
+    Money balanceOf(UserWalletKey key, String notFoundMessage) {
+        return call(() -> load(key, notFoundMessage));
+    }
+
+    PreparedChange<Money> credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        return prepare(() -> {
+            Money available = available(key, notFoundMessage);
+            if (!makeRoom()) {
+                return null;
+            }
+            hold(key);
+            JournalRecord record = appendPrepared(JournalRecord.Type.CREDIT, key, null, amount);
+            return new PreparedChange<>(available.plus(amount), index, record.sequence());
+        });
+    }
+
+    PreparedChange<Money> debit(UserWalletKey key, UserWalletKey targetKey, Money amount, String notFoundMessage) {
+        return prepare(() -> {
+            Money available = available(key, notFoundMessage);
+            validateSufficientBalance(available, amount);
+            if (!makeRoom()) {
+                return null;
+            }
+            reserved.merge(key, amount, Money::plus);
+            hold(key);
+            JournalRecord.Type type = targetKey == null ? JournalRecord.Type.DEBIT : JournalRecord.Type.TRANSFER;
+            JournalRecord record = appendPrepared(type, key, targetKey, amount);
+            return new PreparedChange<>(available.minus(amount), index, record.sequence());
+        });
+    }
+
+    Money receive(UserWalletKey key, Money amount, String notFoundMessage) {
+        return call(() -> {
+            Money available = available(key, notFoundMessage);
+            hold(key);
+            return available.plus(amount);
+        });
+    }
+
+    JournalRecord confirm(long preparedSequence) {
+        return call(() -> {
+            JournalRecord record = takePrepared(preparedSequence);
+            if (record.type() == JournalRecord.Type.CREDIT) {
+                apply(record.key(), record.amount());
+            } else {
+                unreserve(record.key(), record.amount());
+                apply(record.key(), record.amount().negate());
+            }
+            JournalRecord marker = appendMarker(record, JournalRecord.Status.COMMITTED);
+            lastCommittedSequence = marker.sequence();
+            projectionSink.accept(new ShardRecord(index, marker));
+            return record;
+        });
+    }
+
+    JournalRecord revert(long preparedSequence) {
+        return call(() -> {
+            JournalRecord record = takePrepared(preparedSequence);
+            if (record.type() != JournalRecord.Type.CREDIT) {
+                unreserve(record.key(), record.amount());
+            }
+            release(record.key());
+            appendMarker(record, JournalRecord.Status.ABORTED);
+            return record;
+        });
+    }
+
+    void deposit(UserWalletKey key, Money amount) {
+        call(() -> {
+            apply(key, amount);
+            return null;
+        });
+    }
+
+    void settle(Collection<UserWalletKey> keys) {
+        try {
+            executor.execute(() -> keys.forEach(this::release));
+        } catch (RejectedExecutionException ex) {
+            log.debug("Balance shard {} is closed, skipping settlement of {} keys", index, keys.size());
+        }
+    }
+
+    void markProjected(long sequence) {
+        projectedSequence.accumulateAndGet(sequence, Math::max);
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    private Money load(UserWalletKey key, String notFoundMessage) {
+        Money balance = balances.get(key);
+        if (balance != null) {
+            return balance;
+        }
+        Money loadedBalance = balanceLoader.apply(key)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        notFoundMessage + key.userId() + " and walletId: " + key.walletId()));
+        balances.put(key, loadedBalance);
+        evictSettled();
+        return loadedBalance;
+    }
+
+    private Money available(UserWalletKey key, String notFoundMessage) {
+        return load(key, notFoundMessage).minus(reserved.getOrDefault(key, Money.ZERO));
+    }
+
+    private void hold(UserWalletKey key) {
+        unsettled.merge(key, 1, Integer::sum);
+    }
+
+    private void apply(UserWalletKey key, Money delta) {
+        balances.computeIfPresent(key, (ignored, balance) -> balance.plus(delta));
+    }
+
+    private void unreserve(UserWalletKey key, Money amount) {
+        reserved.computeIfPresent(key, (ignored, reservedAmount) -> {
+            Money remaining = reservedAmount.minus(amount);
+            return remaining.isPositive() ? remaining : null;
+        });
+    }
+
+    private void release(UserWalletKey key) {
+        unsettled.computeIfPresent(key, (ignored, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void evictSettled() {
+        Iterator<UserWalletKey> keys = balances.keySet().iterator();
+        while (balances.size() > maxBalances && keys.hasNext()) {
+            if (!unsettled.containsKey(keys.next())) {
+                keys.remove();
+            }
+        }
+    }
+
+    private void validateSufficientBalance(Money balance, Money amount) {
+        if (balance.isLessThan(amount)) {
+            throw new IllegalArgumentException("Insufficient balance");
+        }
+    }
+
+    private boolean makeRoom() {
+        if (journal.hasRoom(prepared.size() + 2)) {
+            return true;
+        }
+        if (prepared.isEmpty() && projectedSequence.get() >= lastCommittedSequence) {
+            journal.reset();
+            return journal.hasRoom(2);
+        }
+        return false;
+    }
+
+    private JournalRecord appendPrepared(
+            JournalRecord.Type type, UserWalletKey key, UserWalletKey targetKey, Money amount) {
+        JournalRecord record = JournalRecord.prepared(
+                lastSequence + 1, type, key, targetKey, amount, System.currentTimeMillis());
+        append(record);
+        prepared.put(record.sequence(), record);
+        return record;
+    }
+
+    private JournalRecord appendMarker(JournalRecord record, JournalRecord.Status status) {
+        JournalRecord marker = record.resolve(lastSequence + 1, status, System.currentTimeMillis());
+        append(marker);
+        return marker;
+    }
+
+    private void append(JournalRecord record) {
+        journal.append(record);
+        lastSequence = record.sequence();
+    }
+
+    private JournalRecord takePrepared(long preparedSequence) {
+        JournalRecord record = prepared.remove(preparedSequence);
+        if (record == null) {
+            throw new IllegalStateException(
+                    "Balance shard " + index + " has no prepared journal record " + preparedSequence);
+        }
+        return record;
+    }
+
+    private <T> T prepare(Callable<T> action) {
+        T result = call(action);
+        while (result == null) {
+            LockSupport.parkNanos(JOURNAL_FULL_PAUSE.toNanos());
+            result = call(action);
+        }
+        return result;
+    }
+
+    private <T> T call(Callable<T> action) {
+        try {
+            return executor.submit(action).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for balance shard " + index, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Balance shard " + index + " failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+
+import java.util.List;
+import java.util.Objects;
+
+public record JournalRecord(
+        long sequence,
+        Type type,
+        UserWalletKey key,
+        UserWalletKey targetKey,
+        Money amount,
+        long timestamp,
+        Status status,
+        long preparedSequence) {
+
+    public JournalRecord {
+        Objects.requireNonNull(type, "Journal record type cannot be null");
+        Objects.requireNonNull(key, "User wallet key cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        Objects.requireNonNull(status, "Journal record status cannot be null");
+        if (type == Type.TRANSFER) {
+            Objects.requireNonNull(targetKey, "Target user wallet key is required for transfers");
+        }
+    }
+
+    public static JournalRecord prepared(
+            long sequence, Type type, UserWalletKey key, UserWalletKey targetKey, Money amount, long timestamp) {
+        return new JournalRecord(sequence, type, key, targetKey, amount, timestamp, Status.PREPARED, sequence);
+    }
+
+    public JournalRecord resolve(long markerSequence, Status markerStatus, long markerTimestamp) {
+        if (markerStatus == Status.PREPARED) {
+            throw new IllegalArgumentException("Journal marker must commit or abort a prepared record");
+        }
+        return new JournalRecord(markerSequence, type, key, targetKey, amount, markerTimestamp, markerStatus, sequence);
+    }
+
+    public List<BalanceDelta> deltas() {
+        return switch (type) {
+            case CREDIT -> List.of(new BalanceDelta(key, amount));
+            case DEBIT -> List.of(new BalanceDelta(key, amount.negate()));
+            case TRANSFER -> List.of(new BalanceDelta(key, amount.negate()), new BalanceDelta(targetKey, amount));
+        };
+    }
+
+    public enum Type {
+        CREDIT, DEBIT, TRANSFER
+    }
+
+    public enum Status {
+        PREPARED, COMMITTED, ABORTED
+    }
+
+    public record BalanceDelta(UserWalletKey key, Money delta) {
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+public record PreparedChange<T>(T result, int shard, long sequence) {
+}
@@ -0,0 +1,10 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import java.util.Objects;
+
+public record ShardRecord(int shard, JournalRecord record) {
+
+    public ShardRecord {
+        Objects.requireNonNull(record, "Journal record cannot be null");
+    }
+}
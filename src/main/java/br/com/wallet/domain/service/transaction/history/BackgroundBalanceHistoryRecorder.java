@@ -0,0 +1,142 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Slf4j
+public abstract class BackgroundBalanceHistoryRecorder implements BalanceHistoryRecorder, SmartLifecycle {
+
+    protected final BalanceProperties.History properties;
+    protected final TransactionTemplate transactionTemplate;
+    private final BalanceHistoryMode mode;
+    private final MeterRegistry meterRegistry;
+
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+    private volatile boolean running;
+    private Thread worker;
+
+    protected BackgroundBalanceHistoryRecorder(
+            BalanceHistoryMode mode,
+            BalanceProperties balanceProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.properties = balanceProperties.getHistory();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean canHandle(BalanceHistoryMode mode) {
+        return this.mode.equals(mode);
+    }
+
+    @Override
+    public void start() {
+        if (!canHandle(properties.getMode())) {
+            return;
+        }
+        String modeTag = mode.name().toLowerCase();
+        Gauge.builder("wallet.balance.history.queue.depth", this, BackgroundBalanceHistoryRecorder::pendingCount)
+                .description("Balance history rows waiting to be written")
+                .tag("mode", modeTag)
+                .register(meterRegistry);
+        flushTimer = Timer.builder("wallet.balance.history.flush")
+                .description("Time spent writing one balance history batch")
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("wallet.balance.history.batch.size")
+                .description("Rows written per balance history batch")
+                .tag("mode", modeTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("balance-history-" + modeTag)
+                .daemon()
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(properties.getFlushInterval().multipliedBy(10).toMillis() + 1000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            while (flushAndMeasure() > 0) {
+                log.debug("Flushed pending balance history on shutdown");
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to flush pending balance history on shutdown", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    protected abstract int flush();
+
+    protected abstract void awaitWork(Duration timeout) throws InterruptedException;
+
+    protected abstract double pendingCount();
+
+    protected int batchSize() {
+        return Math.max(1, properties.getBatchSize());
+    }
+
+    int flushAndMeasure() {
+        long startedAt = System.nanoTime();
+        int written = flush();
+        if (written > 0 && flushTimer != null) {
+            flushTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+            batchSizeSummary.record(written);
+        }
+        return written;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (flushAndMeasure() < batchSize()) {
+                    awaitWork(properties.getFlushInterval());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Failed to flush balance history, retrying", ex);
+                try {
+                    Thread.sleep(properties.getFlushInterval().toMillis());
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
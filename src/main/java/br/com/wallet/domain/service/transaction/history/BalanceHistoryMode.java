@@ -0,0 +1,7 @@
+package br.com.wallet.domain.service.transaction.history;
+
+public enum BalanceHistoryMode {
+    SYNCHRONOUS,
+    WRITE_BEHIND,
+    STAGED
+}
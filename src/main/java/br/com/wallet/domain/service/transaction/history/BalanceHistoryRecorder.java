@@ -0,0 +1,10 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.domain.model.BalanceHistory;
+
+public interface BalanceHistoryRecorder {
+
+    boolean canHandle(BalanceHistoryMode mode);
+
+    void record(BalanceHistory balanceHistory);
+}
@@ -0,0 +1,89 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class StagedBalanceHistoryRecorder extends BackgroundBalanceHistoryRecorder {
+
+    private static final String STAGED_BALANCE_HISTORIES =
+            StagedBalanceHistoryRecorder.class.getName() + ".stagedBalanceHistories";
+
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final AtomicLong stagedBacklog = new AtomicLong();
+
+    public StagedBalanceHistoryRecorder(
+            BalanceHistoryRepository balanceHistoryRepository,
+            BalanceProperties balanceProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        super(BalanceHistoryMode.STAGED, balanceProperties, transactionManager, meterRegistry);
+        this.balanceHistoryRepository = balanceHistoryRepository;
+    }
+
+    @Override
+    public void record(BalanceHistory balanceHistory) {
+        Objects.requireNonNull(balanceHistory, "Balance history cannot be null");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> balanceHistoryRepository.stageAll(List.of(balanceHistory)));
+            return;
+        }
+        getOrBindStagedBalanceHistories().add(balanceHistory);
+    }
+
+    @Override
+    protected int flush() {
+        Integer moved = transactionTemplate.execute(status -> balanceHistoryRepository.moveStaged(batchSize()));
+        int written = moved == null ? 0 : moved;
+        stagedBacklog.set(written < batchSize() ? 0 : balanceHistoryRepository.countStaged());
+        return written;
+    }
+
+    @Override
+    protected void awaitWork(Duration timeout) throws InterruptedException {
+        Thread.sleep(timeout.toMillis());
+    }
+
+    @Override
+    protected double pendingCount() {
+        return stagedBacklog.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BalanceHistory> getOrBindStagedBalanceHistories() {
+        List<BalanceHistory> stagedBalanceHistories =
+                (List<BalanceHistory>) TransactionSynchronizationManager.getResource(STAGED_BALANCE_HISTORIES);
+        if (stagedBalanceHistories != null) {
+            return stagedBalanceHistories;
+        }
+
+        List<BalanceHistory> newStagedBalanceHistories = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(STAGED_BALANCE_HISTORIES, newStagedBalanceHistories);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!newStagedBalanceHistories.isEmpty()) {
+                    balanceHistoryRepository.stageAll(newStagedBalanceHistories);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(STAGED_BALANCE_HISTORIES);
+            }
+        });
+        return newStagedBalanceHistories;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class SynchronousBalanceHistoryRecorder implements BalanceHistoryRecorder {
+
+    private final BalanceHistoryRepository balanceHistoryRepository;
+
+    @Override
+    public boolean canHandle(BalanceHistoryMode mode) {
+        return BalanceHistoryMode.SYNCHRONOUS.equals(mode);
+    }
+
+    @Override
+    public void record(BalanceHistory balanceHistory) {
+        Objects.requireNonNull(balanceHistory, "Balance history cannot be null");
+        balanceHistoryRepository.save(balanceHistory);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class WriteBehindBalanceHistoryRecorder extends BackgroundBalanceHistoryRecorder {
+
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final BlockingQueue<BalanceHistory> queue;
+    private final Semaphore slots;
+    private final List<BalanceHistory> pending = new ArrayList<>();
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    private int failedAttempts;
+
+    public WriteBehindBalanceHistoryRecorder(
+            BalanceHistoryRepository balanceHistoryRepository,
+            BalanceProperties balanceProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        super(BalanceHistoryMode.WRITE_BEHIND, balanceProperties, transactionManager, meterRegistry);
+        this.balanceHistoryRepository = balanceHistoryRepository;
+        int capacity = Math.max(1, balanceProperties.getHistory().getQueueCapacity());
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.slots = new Semaphore(capacity);
+        this.rejectedCounter = Counter.builder("wallet.balance.history.rejected")
+                .description("Transactions rolled back because the balance history queue stayed full")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("wallet.balance.history.dead.lettered")
+                .description("Balance history rows dropped after repeated write failures")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(BalanceHistory balanceHistory) {
+        Objects.requireNonNull(balanceHistory, "Balance history cannot be null");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (reserveSlot()) {
+                queue.add(balanceHistory);
+            } else {
+                deadLetter(balanceHistory, new IllegalStateException("Balance history queue is full"));
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean reserved;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!reserveSlot()) {
+                    rejectedCounter.increment();
+                    throw new DataAccessResourceFailureException("Balance history queue stayed full for "
+                            + properties.getEnqueueTimeout().toMillis() + "ms");
+                }
+                reserved = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                queue.add(balanceHistory);
+                reserved = false;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (reserved) {
+                    slots.release();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected synchronized int flush() {
+        slots.release(queue.drainTo(pending, Math.max(0, batchSize() - pending.size())));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<BalanceHistory> batch = List.copyOf(pending);
+        int written;
+        try {
+            transactionTemplate.executeWithoutResult(status -> balanceHistoryRepository.insertAll(batch));
+            written = batch.size();
+        } catch (RuntimeException ex) {
+            if (isTransient(ex) || ++failedAttempts < Math.max(1, properties.getMaxAttempts())) {
+                throw ex;
+            }
+            log.error("Balance history batch failed {} times, writing its {} rows one by one",
+                    failedAttempts, batch.size(), ex);
+            written = writeIndividually(batch);
+        }
+        failedAttempts = 0;
+        pending.clear();
+        return written;
+    }
+
+    @Override
+    protected void awaitWork(Duration timeout) throws InterruptedException {
+        BalanceHistory next = queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        if (next != null) {
+            slots.release();
+            synchronized (this) {
+                pending.add(next);
+            }
+        }
+    }
+
+    @Override
+    protected double pendingCount() {
+        return queue.size();
+    }
+
+    private boolean reserveSlot() {
+        try {
+            return slots.tryAcquire(properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int writeIndividually(List<BalanceHistory> batch) {
+        int written = 0;
+        for (BalanceHistory balanceHistory : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> balanceHistoryRepository.insertAll(List.of(balanceHistory)));
+                written++;
+            } catch (RuntimeException ex) {
+                deadLetter(balanceHistory, ex);
+            }
+        }
+        return written;
+    }
+
+    private void deadLetter(BalanceHistory balanceHistory, RuntimeException ex) {
+        deadLetterCounter.increment();
+        log.error("Dropping balance history for user {} wallet {} with balance {} recorded at {}",
+                balanceHistory.getUserId(), balanceHistory.getWallet(), balanceHistory.getBalance(),
+                balanceHistory.getRecordedAt(), ex);
+    }
+
+    private static boolean isTransient(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof CannotCreateTransactionException;
+    }
+}
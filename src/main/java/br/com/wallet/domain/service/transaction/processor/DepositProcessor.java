@@ -1,24 +1,28 @@
 package br.com.wallet.domain.service.transaction.processor;
 
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
+import br.com.wallet.domain.model.Money;
 import br.com.wallet.domain.model.Transaction;
-import br.com.wallet.domain.model.UserWallet;
-import br.com.wallet.domain.repository.TransactionRepository;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.service.transaction.BalanceManager;
 import br.com.wallet.domain.service.transaction.TransactionProcessor;
 import br.com.wallet.domain.service.transaction.TransactionValidator;
-import br.com.wallet.domain.service.transaction.UserWalletFinder;
+import br.com.wallet.domain.service.transaction.TransactionWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class DepositProcessor implements TransactionProcessor {
 
-    private final TransactionRepository transactionRepository;
     private final TransactionValidator transactionValidator;
     private final BalanceManager balanceManager;
-    private final UserWalletFinder userWalletFinder;
+    private final TransactionWriter transactionWriter;
+    private final TransactionMetrics transactionMetrics;
 
     @Override
     public boolean canProcess(Transaction.TransactionType transactionType) {
@@ -28,18 +32,21 @@ public class DepositProcessor implements TransactionProcessor {
     @Override
     @Transactional
     public Transaction process(Transaction transaction) {
-        transactionValidator.validateTransactionType(transaction, Transaction.TransactionType.DEPOSIT);
-        transactionValidator.validateAmount(transaction.getAmount());
-
-        UserWallet userWallet = userWalletFinder.getUserWalletWithLockOrThrow(
-                transaction.getToUserId(),
-                transaction.getWallet().getId(),
-                "UserWallet not found with userId: "
-        );
-
-        balanceManager.creditUserWallet(userWallet, transaction.getAmount());
-        transaction.setRelatedTransaction(null);
-
-        return transactionRepository.save(transaction);
+        return transactionMetrics.process(Transaction.TransactionType.DEPOSIT, () -> {
+            transactionMetrics.time(TransactionPhase.VALIDATION, () -> {
+                transactionValidator.validateTransactionType(transaction, Transaction.TransactionType.DEPOSIT);
+                transactionValidator.validateAmount(transaction.getAmount());
+            });
+
+            balanceManager.creditUserWallet(
+                    new UserWalletKey(transaction.getToUserId(), transaction.getWallet().getId()),
+                    Money.of(transaction.getAmount()),
+                    "UserWallet not found with userId: "
+            );
+            transaction.setRelatedTransaction(null);
+
+            transactionWriter.write(List.of(transaction));
+            return transaction;
+        });
     }
 }
@@ -1,16 +1,19 @@
 package br.com.wallet.domain.service.transaction.processor;
 
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.metrics.TransactionPhase;
+import br.com.wallet.domain.model.Money;
 import br.com.wallet.domain.model.Transaction;
-import br.com.wallet.domain.model.UserWallet;
-import br.com.wallet.domain.repository.TransactionRepository;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.service.transaction.BalanceManager;
 import br.com.wallet.domain.service.transaction.TransactionProcessor;
 import br.com.wallet.domain.service.transaction.TransactionValidator;
-import br.com.wallet.domain.service.transaction.UserWalletFinder;
+import br.com.wallet.domain.service.transaction.TransactionWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -18,10 +21,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TransferProcessor implements TransactionProcessor {
 
-    private final TransactionRepository transactionRepository;
     private final TransactionValidator transactionValidator;
     private final BalanceManager balanceManager;
-    private final UserWalletFinder userWalletFinder;
+    private final TransactionWriter transactionWriter;
+    private final TransactionMetrics transactionMetrics;
 
     @Override
     public boolean canProcess(Transaction.TransactionType transactionType) {
@@ -31,52 +34,50 @@ public class TransferProcessor implements TransactionProcessor {
     @Override
     @Transactional
     public Transaction process(Transaction transaction) {
+        return transactionMetrics.process(Transaction.TransactionType.TRANSFER, () -> {
+            UUID destinationWalletId = transactionMetrics.time(TransactionPhase.VALIDATION, () -> validate(transaction));
+
+            balanceManager.transferBetweenUserWallets(
+                    new UserWalletKey(transaction.getFromUserId(), transaction.getWallet().getId()),
+                    new UserWalletKey(transaction.getToUserId(), destinationWalletId),
+                    Money.of(transaction.getAmount())
+            );
+
+            transaction.assignIdentity();
+            Transaction targetTransaction = createRelatedTransaction(transaction);
+            transaction.setRelatedTransaction(targetTransaction);
+
+            transactionWriter.write(List.of(transaction, targetTransaction));
+            return transaction;
+        });
+    }
+
+    private UUID validate(Transaction transaction) {
         transactionValidator.validateTransactionType(transaction, Transaction.TransactionType.TRANSFER);
         transactionValidator.validateAmount(transaction.getAmount());
         transactionValidator.validateTransferUsers(transaction);
 
-        UserWallet sourceUserWallet = userWalletFinder.getUserWalletWithLockOrThrow(
-                transaction.getFromUserId(),
-                transaction.getWallet().getId(),
-                "Source UserWallet not found with userId: "
-        );
-
-        transactionValidator.validateSufficientBalance(sourceUserWallet, transaction.getAmount());
-
         UUID destinationWalletId = transaction.getDestinationWalletId();
         if (destinationWalletId == null) {
             throw new IllegalArgumentException("Destination wallet ID is required for transfers");
         }
-
-        UserWallet targetUserWallet = userWalletFinder.getUserWalletWithLockOrThrow(
-                transaction.getToUserId(),
-                destinationWalletId,
-                "Target UserWallet not found with userId: "
-        );
-
-        balanceManager.debitUserWallet(sourceUserWallet, transaction.getAmount());
-        balanceManager.creditUserWallet(targetUserWallet, transaction.getAmount());
-
-        Transaction savedSourceTransaction = transactionRepository.save(transaction);
-        Transaction targetTransaction = createRelatedTransaction(transaction, savedSourceTransaction);
-        Transaction savedTargetTransaction = transactionRepository.save(targetTransaction);
-
-        savedSourceTransaction.setRelatedTransaction(savedTargetTransaction);
-        return transactionRepository.save(savedSourceTransaction);
+        return destinationWalletId;
     }
 
-    private Transaction createRelatedTransaction(Transaction sourceTransaction, Transaction savedSourceTransaction) {
+    private Transaction createRelatedTransaction(Transaction sourceTransaction) {
         Objects.requireNonNull(sourceTransaction, "Source transaction cannot be null");
-        Objects.requireNonNull(savedSourceTransaction, "Saved source transaction cannot be null");
-        return Transaction.builder()
+        Transaction targetTransaction = Transaction.builder()
                 .wallet(sourceTransaction.getWallet())
                 .fromUserId(sourceTransaction.getFromUserId())
                 .toUserId(sourceTransaction.getToUserId())
                 .type(Transaction.TransactionType.TRANSFER)
                 .amount(sourceTransaction.getAmount())
                 .description(sourceTransaction.getDescription())
-                .relatedTransaction(savedSourceTransaction)
+                .relatedTransaction(sourceTransaction)
                 .destinationWalletId(sourceTransaction.getDestinationWalletId())
+                .createdAt(sourceTransaction.getCreatedAt())
                 .build();
+        targetTransaction.assignIdentity();
+        return targetTransaction;
     }
 }
@@ -0,0 +1,72 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.BalanceUpdateStrategy;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    private static final String SOURCE_NOT_FOUND_MESSAGE = "Source UserWallet not found with userId: ";
+    private static final String TARGET_NOT_FOUND_MESSAGE = "Target UserWallet not found with userId: ";
+
+    private final UserWalletRepository userWalletRepository;
+
+    @Override
+    public boolean canHandle(BalanceUpdateMode mode) {
+        return BalanceUpdateMode.CONDITIONAL_UPDATE.equals(mode);
+    }
+
+    @Override
+    public void lockAll(Collection<UserWalletKey> keys) {
+    }
+
+    @Override
+    public Money credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        return applyDelta(key, amount)
+                .orElseThrow(() -> notFound(key, notFoundMessage));
+    }
+
+    @Override
+    public Money debit(UserWalletKey key, Money amount, String notFoundMessage) {
+        return applyDelta(key, amount.negate())
+                .orElseThrow(() -> debitRejected(key, notFoundMessage));
+    }
+
+    @Override
+    public TransferBalances transfer(UserWalletKey source, UserWalletKey target, Money amount) {
+        if (source.compareTo(target) <= 0) {
+            Money sourceBalance = debit(source, amount, SOURCE_NOT_FOUND_MESSAGE);
+            return new TransferBalances(sourceBalance, credit(target, amount, TARGET_NOT_FOUND_MESSAGE));
+        }
+
+        Money targetBalance = credit(target, amount, TARGET_NOT_FOUND_MESSAGE);
+        return new TransferBalances(debit(source, amount, SOURCE_NOT_FOUND_MESSAGE), targetBalance);
+    }
+
+    private Optional<Money> applyDelta(UserWalletKey key, Money delta) {
+        return userWalletRepository.applyBalanceDelta(key.userId(), key.walletId(), delta.toBigDecimal())
+                .map(Money::of);
+    }
+
+    private RuntimeException debitRejected(UserWalletKey key, String notFoundMessage) {
+        if (userWalletRepository.existsByUserIdAndWalletId(key.userId(), key.walletId())) {
+            return new IllegalArgumentException("Insufficient balance");
+        }
+        return notFound(key, notFoundMessage);
+    }
+
+    private EntityNotFoundException notFound(UserWalletKey key, String notFoundMessage) {
+        return new EntityNotFoundException(notFoundMessage + key.userId() + " and walletId: " + key.walletId());
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.BalanceUpdateStrategy;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import br.com.wallet.domain.service.transaction.engine.BalanceEngine;
+import br.com.wallet.domain.service.transaction.engine.PreparedChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class InMemoryBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    private final BalanceEngine balanceEngine;
+
+    @Override
+    public boolean canHandle(BalanceUpdateMode mode) {
+        return BalanceUpdateMode.IN_MEMORY.equals(mode);
+    }
+
+    @Override
+    public void lockAll(Collection<UserWalletKey> keys) {
+    }
+
+    @Override
+    public Money credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        return onCompletion(balanceEngine.credit(key, amount, notFoundMessage));
+    }
+
+    @Override
+    public Money debit(UserWalletKey key, Money amount, String notFoundMessage) {
+        return onCompletion(balanceEngine.debit(key, amount, notFoundMessage));
+    }
+
+    @Override
+    public TransferBalances transfer(UserWalletKey source, UserWalletKey target, Money amount) {
+        return onCompletion(balanceEngine.transfer(source, target, amount));
+    }
+
+    @Override
+    public boolean recordsBalanceHistory() {
+        return true;
+    }
+
+    private <T> T onCompletion(PreparedChange<T> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            balanceEngine.confirm(change);
+            return change.result();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    balanceEngine.confirm(change);
+                } else {
+                    balanceEngine.revert(change);
+                }
+            }
+        });
+        return change.result();
+    }
+}
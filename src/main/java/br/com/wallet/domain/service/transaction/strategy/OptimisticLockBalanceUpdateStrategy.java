@@ -0,0 +1,70 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.BalanceUpdateStrategy;
+import br.com.wallet.domain.service.transaction.TransactionValidator;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    private final UserWalletRepository userWalletRepository;
+    private final TransactionValidator transactionValidator;
+
+    @Override
+    public boolean canHandle(BalanceUpdateMode mode) {
+        return BalanceUpdateMode.OPTIMISTIC_LOCK.equals(mode);
+    }
+
+    @Override
+    public void lockAll(Collection<UserWalletKey> keys) {
+    }
+
+    @Override
+    public Money credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        UserWallet userWallet = find(key, notFoundMessage);
+        return applyDelta(userWallet, amount);
+    }
+
+    @Override
+    public Money debit(UserWalletKey key, Money amount, String notFoundMessage) {
+        UserWallet userWallet = find(key, notFoundMessage);
+        transactionValidator.validateSufficientBalance(userWallet, amount);
+        return applyDelta(userWallet, amount.negate());
+    }
+
+    @Override
+    public TransferBalances transfer(UserWalletKey source, UserWalletKey target, Money amount) {
+        UserWallet sourceUserWallet = find(source, "Source UserWallet not found with userId: ");
+        transactionValidator.validateSufficientBalance(sourceUserWallet, amount);
+        UserWallet targetUserWallet = find(target, "Target UserWallet not found with userId: ");
+
+        return new TransferBalances(
+                applyDelta(sourceUserWallet, amount.negate()),
+                applyDelta(targetUserWallet, amount)
+        );
+    }
+
+    private UserWallet find(UserWalletKey key, String notFoundMessage) {
+        return userWalletRepository.findByUserIdAndWalletId(key.userId(), key.walletId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        notFoundMessage + key.userId() + " and walletId: " + key.walletId()
+                ));
+    }
+
+    private Money applyDelta(UserWallet userWallet, Money delta) {
+        userWallet.setBalance(userWallet.getBalance().plus(delta));
+        userWalletRepository.save(userWallet);
+        return userWallet.getBalance();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.BalanceUpdateStrategy;
+import br.com.wallet.domain.service.transaction.TransactionValidator;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import br.com.wallet.domain.service.transaction.UserWalletFinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    private final UserWalletRepository userWalletRepository;
+    private final UserWalletFinder userWalletFinder;
+    private final TransactionValidator transactionValidator;
+
+    @Override
+    public boolean canHandle(BalanceUpdateMode mode) {
+        return BalanceUpdateMode.PESSIMISTIC_LOCK.equals(mode);
+    }
+
+    @Override
+    public void lockAll(Collection<UserWalletKey> keys) {
+        userWalletFinder.lockAll(keys);
+    }
+
+    @Override
+    public Money credit(UserWalletKey key, Money amount, String notFoundMessage) {
+        UserWallet userWallet = lock(key, notFoundMessage);
+        return applyDelta(userWallet, amount);
+    }
+
+    @Override
+    public Money debit(UserWalletKey key, Money amount, String notFoundMessage) {
+        UserWallet userWallet = lock(key, notFoundMessage);
+        transactionValidator.validateSufficientBalance(userWallet, amount);
+        return applyDelta(userWallet, amount.negate());
+    }
+
+    @Override
+    public TransferBalances transfer(UserWalletKey source, UserWalletKey target, Money amount) {
+        Map<UserWalletKey, UserWallet> lockedUserWallets = userWalletFinder.lockAll(List.of(source, target));
+
+        UserWallet sourceUserWallet = userWalletFinder.getLockedUserWalletOrThrow(
+                lockedUserWallets, source, "Source UserWallet not found with userId: ");
+        transactionValidator.validateSufficientBalance(sourceUserWallet, amount);
+        UserWallet targetUserWallet = userWalletFinder.getLockedUserWalletOrThrow(
+                lockedUserWallets, target, "Target UserWallet not found with userId: ");
+
+        return new TransferBalances(
+                applyDelta(sourceUserWallet, amount.negate()),
+                applyDelta(targetUserWallet, amount)
+        );
+    }
+
+    private UserWallet lock(UserWalletKey key, String notFoundMessage) {
+        return userWalletFinder.getUserWalletWithLockOrThrow(key.userId(), key.walletId(), notFoundMessage);
+    }
+
+    private Money applyDelta(UserWallet userWallet, Money delta) {
+        userWallet.setBalance(userWallet.getBalance().plus(delta));
+        userWalletRepository.save(userWallet);
+        return userWallet.getBalance();
+    }
+}
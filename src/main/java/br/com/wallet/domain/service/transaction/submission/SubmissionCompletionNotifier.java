@@ -0,0 +1,39 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class SubmissionCompletionNotifier {
+
+    private final ConcurrentMap<UUID, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    public void await(UUID submissionId, Duration timeout) throws InterruptedException {
+        CompletableFuture<Void> completion = waiters.computeIfAbsent(submissionId, id -> new CompletableFuture<>());
+        try {
+            completion.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            return;
+        } finally {
+            waiters.remove(submissionId, completion);
+        }
+    }
+
+    public void completed(Collection<UUID> submissionIds) {
+        for (UUID submissionId : submissionIds) {
+            CompletableFuture<Void> completion = waiters.remove(submissionId);
+            if (completion != null) {
+                completion.complete(null);
+            }
+        }
+    }
+}
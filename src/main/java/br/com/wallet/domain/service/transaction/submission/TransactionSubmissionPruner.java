@@ -0,0 +1,57 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class TransactionSubmissionPruner {
+
+    private static final int PRUNE_BATCH_MULTIPLIER = 10;
+
+    private final TransactionSubmissionRepository transactionSubmissionRepository;
+    private final SubmissionProperties submissionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter prunedCounter;
+
+    public TransactionSubmissionPruner(
+            TransactionSubmissionRepository transactionSubmissionRepository,
+            SubmissionProperties submissionProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.transactionSubmissionRepository = transactionSubmissionRepository;
+        this.submissionProperties = submissionProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.prunedCounter = Counter.builder("wallet.submission.pruned")
+                .description("Finished transaction submissions deleted after the retention period")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.submission.prune-interval:10m}")
+    public int prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(submissionProperties.getRetention());
+        int limit = Math.max(1, submissionProperties.getBatchSize()) * PRUNE_BATCH_MULTIPLIER;
+        int total = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(
+                    status -> transactionSubmissionRepository.deleteFinishedBefore(cutoff, limit));
+            deleted = batch == null ? 0 : batch;
+            total += deleted;
+        } while (deleted == limit);
+        if (total > 0) {
+            prunedCounter.increment(total);
+            log.debug("Pruned {} transaction submissions finished before {}", total, cutoff);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,220 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.transaction.TransactionRetryExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class TransactionSubmissionWorkers implements SmartLifecycle {
+
+    private final TransactionSubmissionRepository transactionSubmissionRepository;
+    private final TransactionService transactionService;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final SubmissionCompletionNotifier submissionCompletionNotifier;
+    private final SubmissionProperties submissionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer queueTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public TransactionSubmissionWorkers(
+            TransactionSubmissionRepository transactionSubmissionRepository,
+            TransactionService transactionService,
+            TransactionRetryExecutor transactionRetryExecutor,
+            SubmissionCompletionNotifier submissionCompletionNotifier,
+            SubmissionProperties submissionProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.transactionSubmissionRepository = transactionSubmissionRepository;
+        this.transactionService = transactionService;
+        this.transactionRetryExecutor = transactionRetryExecutor;
+        this.submissionCompletionNotifier = submissionCompletionNotifier;
+        this.submissionProperties = submissionProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.completedCounter = Counter.builder("wallet.submission.processed")
+                .description("Queued transaction submissions processed")
+                .tag("outcome", "completed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("wallet.submission.processed")
+                .description("Queued transaction submissions processed")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.queueTimer = Timer.builder("wallet.submission.queue.time")
+                .description("Time between a transaction being accepted and being processed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("wallet.submission.batch.size")
+                .description("Transaction submissions processed per batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int partition = 0; partition < partitions(); partition++) {
+            int workerPartition = partition;
+            workers.add(Thread.ofPlatform()
+                    .name("transaction-submission-" + partition)
+                    .daemon()
+                    .start(() -> run(workerPartition)));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(submissionProperties.getPollInterval().multipliedBy(10).toMillis() + 1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    int processPartition(int partition, int limit) {
+        List<TransactionSubmission> submissions = transactionRetryExecutor.execute(() ->
+                transactionTemplate.execute(status -> processInTransaction(partition, limit)));
+        if (submissions == null || submissions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime processedAt = LocalDateTime.now();
+        List<UUID> ids = new ArrayList<>(submissions.size());
+        for (TransactionSubmission submission : submissions) {
+            ids.add(submission.getId());
+            queueTimer.record(Duration.between(submission.getCreatedAt(), processedAt));
+            (submission.getStatus() == TransactionSubmission.SubmissionStatus.COMPLETED
+                    ? completedCounter : failedCounter).increment();
+        }
+        batchSizeSummary.record(submissions.size());
+        submissionCompletionNotifier.completed(ids);
+        return submissions.size();
+    }
+
+    private List<TransactionSubmission> processInTransaction(int partition, int limit) {
+        if (!transactionSubmissionRepository.tryLockPartition(partition)) {
+            return List.of();
+        }
+        List<TransactionSubmission> submissions =
+                transactionSubmissionRepository.claimPending(partition, partitions(), limit);
+        if (submissions.isEmpty()) {
+            return submissions;
+        }
+        List<TransactionBatchResult> results = transactionService.processBatch(submissions.stream()
+                .map(TransactionSubmission::toTransaction)
+                .toList());
+        for (int index = 0; index < submissions.size(); index++) {
+            TransactionBatchResult result = results.get(index);
+            if (result.isSuccess()) {
+                submissions.get(index).complete(result.transaction().getId());
+            } else {
+                submissions.get(index).fail(result.errorMessage());
+            }
+        }
+        return submissions;
+    }
+
+    int failNext(int partition, String errorMessage) {
+        List<TransactionSubmission> submissions = transactionTemplate.execute(status -> {
+            if (!transactionSubmissionRepository.tryLockPartition(partition)) {
+                return List.<TransactionSubmission>of();
+            }
+            List<TransactionSubmission> next = transactionSubmissionRepository.claimPending(partition, partitions(), 1);
+            next.forEach(submission -> submission.fail(errorMessage));
+            return next;
+        });
+        if (submissions == null || submissions.isEmpty()) {
+            return 0;
+        }
+        failedCounter.increment(submissions.size());
+        submissionCompletionNotifier.completed(submissions.stream().map(TransactionSubmission::getId).toList());
+        return submissions.size();
+    }
+
+    private int partitions() {
+        return Math.max(1, submissionProperties.getPartitions());
+    }
+
+    private int batchSize() {
+        return Math.max(1, submissionProperties.getBatchSize());
+    }
+
+    private void run(int partition) {
+        while (running) {
+            try {
+                if (processIsolatingFailures(partition) < batchSize()) {
+                    Thread.sleep(submissionProperties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Failed to process transaction submissions of partition {}, retrying", partition, ex);
+                try {
+                    Thread.sleep(submissionProperties.getPollInterval().toMillis());
+                } catch (InterruptedException interruptedEx) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private int processIsolatingFailures(int partition) {
+        try {
+            return processPartition(partition, batchSize());
+        } catch (RuntimeException batchEx) {
+            log.warn("Batch of partition {} failed, processing the next submission alone", partition, batchEx);
+        }
+        try {
+            return processPartition(partition, 1);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException
+                 | CannotCreateTransactionException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            return failNext(partition, ex.getMessage());
+        }
+    }
+}
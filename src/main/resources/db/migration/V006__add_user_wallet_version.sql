@@ -0,0 +1,2 @@
+ALTER TABLE user_wallet
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
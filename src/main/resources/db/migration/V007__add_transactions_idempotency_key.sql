@@ -0,0 +1,6 @@
+ALTER TABLE transactions
+    ADD COLUMN idempotency_key VARCHAR(64);
+
+CREATE UNIQUE INDEX uk_transactions_idempotency_key
+    ON transactions (idempotency_key)
+    WHERE idempotency_key IS NOT NULL;
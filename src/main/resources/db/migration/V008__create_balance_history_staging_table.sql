@@ -0,0 +1,8 @@
+CREATE TABLE balance_history_staging
+(
+    id          UUID PRIMARY KEY,
+    user_id     UUID           NOT NULL,
+    wallet_id   UUID           NOT NULL,
+    balance     NUMERIC(18, 2) NOT NULL,
+    recorded_at TIMESTAMP      NOT NULL
+);
@@ -0,0 +1,6 @@
+CREATE TABLE balance_engine_checkpoint
+(
+    shard      INTEGER PRIMARY KEY,
+    sequence   BIGINT    NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
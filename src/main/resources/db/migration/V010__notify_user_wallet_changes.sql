@@ -0,0 +1,36 @@
+CREATE OR REPLACE FUNCTION notify_user_wallet_changed() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE' AND (OLD.user_id, OLD.wallet_id) IS DISTINCT FROM (NEW.user_id, NEW.wallet_id) THEN
+        PERFORM pg_notify('user_wallet_changed', json_build_object(
+                'operation', 'DELETE',
+                'userId', OLD.user_id,
+                'walletId', OLD.wallet_id,
+                'changedAt', floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT)::text);
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('user_wallet_changed', json_build_object(
+                'operation', TG_OP,
+                'userId', OLD.user_id,
+                'walletId', OLD.wallet_id,
+                'changedAt', floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT)::text);
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_notify('user_wallet_changed', json_build_object(
+            'operation', TG_OP,
+            'userId', NEW.user_id,
+            'walletId', NEW.wallet_id,
+            'balance', NEW.balance,
+            'version', NEW.version,
+            'changedAt', floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_wallet_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON user_wallet
+    FOR EACH ROW
+EXECUTE FUNCTION notify_user_wallet_changed();
@@ -0,0 +1,9 @@
+CREATE INDEX idx_transactions_wallet_from_user_created
+    ON transactions (wallet_id, from_user_id, created_at DESC, id DESC)
+    INCLUDE (to_user_id, type, amount, related_transaction_id, description)
+    WHERE from_user_id IS NOT NULL;
+
+CREATE INDEX idx_transactions_wallet_to_user_created
+    ON transactions (wallet_id, to_user_id, created_at DESC, id DESC)
+    INCLUDE (from_user_id, type, amount, related_transaction_id, description)
+    WHERE to_user_id IS NOT NULL;
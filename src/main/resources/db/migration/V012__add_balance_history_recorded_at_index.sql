@@ -0,0 +1,5 @@
+CREATE INDEX idx_balance_history_user_wallet_recorded
+    ON balance_history (user_id, wallet_id, recorded_at DESC, id DESC)
+    INCLUDE (balance);
+
+DROP INDEX idx_balance_history_user_wallet;
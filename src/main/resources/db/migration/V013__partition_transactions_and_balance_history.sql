@@ -0,0 +1,99 @@
+CREATE SCHEMA IF NOT EXISTS archive;
+
+CREATE TABLE transaction_idempotency_keys
+(
+    idempotency_key VARCHAR(64) PRIMARY KEY,
+    transaction_id  UUID      NOT NULL,
+    created_at      TIMESTAMP NOT NULL
+);
+
+UPDATE transactions SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+
+INSERT INTO transaction_idempotency_keys (idempotency_key, transaction_id, created_at)
+SELECT idempotency_key, id, created_at
+  FROM transactions
+ WHERE idempotency_key IS NOT NULL;
+
+ALTER TABLE transactions DROP CONSTRAINT fk_related_transaction;
+DROP INDEX uk_transactions_idempotency_key;
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+ALTER TABLE transactions_legacy ALTER COLUMN created_at SET NOT NULL;
+ALTER INDEX idx_transactions_wallet_from_user_created RENAME TO idx_transactions_legacy_wallet_from_user_created;
+ALTER INDEX idx_transactions_wallet_to_user_created RENAME TO idx_transactions_legacy_wallet_to_user_created;
+
+CREATE TABLE transactions
+(
+    id                     UUID           NOT NULL,
+    wallet_id              UUID           NOT NULL,
+    from_user_id           UUID,
+    to_user_id             UUID,
+    type                   VARCHAR(20)    NOT NULL CHECK (type IN ('DEPOSIT', 'WITHDRAW', 'TRANSFER')),
+    amount                 NUMERIC(18, 2) NOT NULL CHECK (amount > 0),
+    description            VARCHAR(255),
+    related_transaction_id UUID,
+    created_at             TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    idempotency_key        VARCHAR(64),
+
+    CONSTRAINT transactions_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_transaction_wallet FOREIGN KEY (wallet_id) REFERENCES wallets (id)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_transactions_wallet_from_user_created
+    ON transactions (wallet_id, from_user_id, created_at DESC, id DESC)
+    INCLUDE (to_user_id, type, amount, related_transaction_id, description)
+    WHERE from_user_id IS NOT NULL;
+
+CREATE INDEX idx_transactions_wallet_to_user_created
+    ON transactions (wallet_id, to_user_id, created_at DESC, id DESC)
+    INCLUDE (from_user_id, type, amount, related_transaction_id, description)
+    WHERE to_user_id IS NOT NULL;
+
+ALTER TABLE balance_history RENAME TO balance_history_legacy;
+ALTER TABLE balance_history_legacy RENAME CONSTRAINT balance_history_pkey TO balance_history_legacy_pkey;
+ALTER INDEX idx_balance_history_user_wallet_recorded RENAME TO idx_balance_history_legacy_user_wallet_recorded;
+
+CREATE TABLE balance_history
+(
+    id          UUID           NOT NULL,
+    user_id     UUID           NOT NULL,
+    wallet_id   UUID           NOT NULL,
+    balance     NUMERIC(18, 2) NOT NULL,
+    recorded_at TIMESTAMP      NOT NULL,
+
+    CONSTRAINT balance_history_pkey PRIMARY KEY (id, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+CREATE INDEX idx_balance_history_user_wallet_recorded
+    ON balance_history (user_id, wallet_id, recorded_at DESC, id DESC)
+    INCLUDE (balance);
+
+DO
+$$
+    DECLARE
+        current_month DATE := date_trunc('month', CURRENT_DATE);
+        legacy_bound DATE;
+        partition_month DATE;
+        parent TEXT;
+    BEGIN
+        FOREACH parent IN ARRAY ARRAY ['transactions', 'balance_history']
+            LOOP
+                EXECUTE format('SELECT date_trunc(''month'', max(%I)) + INTERVAL ''1 month'' FROM %I',
+                               CASE parent WHEN 'transactions' THEN 'created_at' ELSE 'recorded_at' END,
+                               parent || '_legacy')
+                    INTO legacy_bound;
+                legacy_bound := greatest(current_month, coalesce(legacy_bound, current_month));
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                               parent, parent || '_legacy', legacy_bound);
+                EXECUTE format('ALTER TABLE %I RENAME TO %I',
+                               parent || '_legacy', parent || '_p_before_' || to_char(legacy_bound, 'YYYY_MM'));
+                FOR month_offset IN 0..3
+                    LOOP
+                        partition_month := legacy_bound + make_interval(months => month_offset);
+                        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                                       parent || '_p' || to_char(partition_month, 'YYYY_MM'), parent,
+                                       partition_month, partition_month + INTERVAL '1 month');
+                    END LOOP;
+            END LOOP;
+    END
+$$;
@@ -0,0 +1,8 @@
+CREATE TABLE outbox
+(
+    id           UUID PRIMARY KEY,
+    aggregate_id UUID        NOT NULL,
+    event_type   VARCHAR(50) NOT NULL,
+    payload      JSONB       NOT NULL,
+    created_at   TIMESTAMP   NOT NULL
+);
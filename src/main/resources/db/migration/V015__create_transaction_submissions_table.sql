@@ -0,0 +1,27 @@
+CREATE TABLE transaction_submissions
+(
+    id                     UUID PRIMARY KEY,
+    slot                   SMALLINT       NOT NULL,
+    wallet_id              UUID           NOT NULL,
+    destination_wallet_id  UUID,
+    from_user_id           UUID,
+    to_user_id             UUID,
+    type                   VARCHAR(20)    NOT NULL,
+    amount                 DECIMAL(18, 2) NOT NULL,
+    description            VARCHAR(255),
+    related_transaction_id UUID,
+    idempotency_key        VARCHAR(64),
+    status                 VARCHAR(20)    NOT NULL,
+    transaction_id         UUID,
+    error_message          TEXT,
+    created_at             TIMESTAMP      NOT NULL,
+    completed_at           TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uk_transaction_submissions_idempotency_key
+    ON transaction_submissions (idempotency_key)
+    WHERE idempotency_key IS NOT NULL;
+
+CREATE INDEX idx_transaction_submissions_pending
+    ON transaction_submissions (slot, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,16 @@
+ALTER TABLE transactions
+    ADD COLUMN destination_wallet_id UUID;
+
+ALTER TABLE transaction_idempotency_keys
+    ADD COLUMN user_id UUID;
+
+UPDATE transaction_idempotency_keys k
+   SET user_id = CASE WHEN t.type = 'DEPOSIT' THEN t.to_user_id ELSE t.from_user_id END
+  FROM transactions t
+ WHERE t.id = k.transaction_id
+   AND t.created_at = k.created_at;
+
+ALTER TABLE transaction_idempotency_keys
+    ALTER COLUMN user_id SET NOT NULL,
+    DROP CONSTRAINT transaction_idempotency_keys_pkey,
+    ADD CONSTRAINT transaction_idempotency_keys_pkey PRIMARY KEY (user_id, idempotency_key);
@@ -0,0 +1,8 @@
+DROP TRIGGER trg_user_wallet_changed ON user_wallet;
+
+CREATE TRIGGER trg_user_wallet_changed
+    AFTER INSERT OR UPDATE OR DELETE
+    ON user_wallet
+    FOR EACH ROW
+    WHEN (COALESCE(NULLIF(current_setting('wallet.notify_user_wallet_changes', true), ''), 'true') <> 'false')
+EXECUTE FUNCTION notify_user_wallet_changed();
@@ -0,0 +1,14 @@
+ALTER TABLE outbox ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox ADD COLUMN claimed_until TIMESTAMP;
+
+CREATE TABLE outbox_dead_letter
+(
+    id               UUID PRIMARY KEY,
+    aggregate_id     UUID          NOT NULL,
+    event_type       VARCHAR(50)   NOT NULL,
+    payload          JSONB         NOT NULL,
+    created_at       TIMESTAMP     NOT NULL,
+    attempts         INT           NOT NULL,
+    last_error       VARCHAR(1000),
+    dead_lettered_at TIMESTAMP     NOT NULL
+);
@@ -0,0 +1,18 @@
+ALTER TABLE transaction_submissions
+    ADD COLUMN user_id UUID;
+
+UPDATE transaction_submissions
+   SET user_id = CASE WHEN type = 'DEPOSIT' THEN to_user_id ELSE from_user_id END;
+
+ALTER TABLE transaction_submissions
+    ALTER COLUMN user_id SET NOT NULL;
+
+DROP INDEX uk_transaction_submissions_idempotency_key;
+
+CREATE UNIQUE INDEX uk_transaction_submissions_idempotency_key
+    ON transaction_submissions (user_id, idempotency_key)
+    WHERE idempotency_key IS NOT NULL;
+
+CREATE INDEX idx_transaction_submissions_finished
+    ON transaction_submissions (completed_at)
+    WHERE status <> 'PENDING';
@@ -0,0 +1,373 @@
+package br.com.wallet.api.controller;
+
+import br.com.wallet.api.assembler.TransactionAssembler;
+import br.com.wallet.api.model.request.TransactionBatchRequest;
+import br.com.wallet.api.model.request.TransactionRequest;
+import br.com.wallet.api.model.response.TransactionBatchItemResponse;
+import br.com.wallet.api.model.response.TransactionBatchResponse;
+import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.core.idempotency.IdempotencyCache;
+import br.com.wallet.core.idempotency.IdempotencyProperties;
+import br.com.wallet.core.ratelimit.RateLimitProperties;
+import br.com.wallet.core.ratelimit.TransactionRateLimiter;
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.exception.IdempotencyKeyReusedException;
+import br.com.wallet.domain.exception.RateLimitExceededException;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.TransactionSubmissionService;
+import br.com.wallet.domain.service.transaction.TransactionRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionControllerTest {
+
+    private static final String IDEMPOTENCY_KEY = "key-1";
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionAssembler transactionAssembler;
+
+    @Mock
+    private TransactionRetryExecutor transactionRetryExecutor;
+
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache(new IdempotencyProperties());
+
+    @Mock
+    private TransactionSubmissionService transactionSubmissionService;
+
+    @Spy
+    private SubmissionProperties submissionProperties = new SubmissionProperties();
+
+    @Mock
+    private TransactionRateLimiter transactionRateLimiter;
+
+    @InjectMocks
+    private TransactionController transactionController;
+
+    private UUID walletId;
+    private UUID fromUserId;
+    private UUID toUserId;
+
+    @BeforeEach
+    void setUp() {
+        walletId = UUID.randomUUID();
+        fromUserId = UUID.randomUUID();
+        toUserId = UUID.randomUUID();
+        lenient().when(transactionRetryExecutor.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(transactionAssembler.mapToTransactionEntityFromRequest(any()))
+                .thenAnswer(invocation -> Transaction.builder().build());
+    }
+
+    @Test
+    void shouldReplayStoredResponseWhenIdempotencyKeyIsReused() {
+        // Given
+        TransactionRequest request = transferRequest(UUID.randomUUID());
+        TransactionResponse response = transferResponse();
+        when(transactionService.processTransactionWithWallet(any(), eq(walletId), any())).thenReturn(new Transaction());
+        when(transactionAssembler.mapToTransactionResponseFromEntity(any())).thenReturn(response);
+
+        // When
+        ResponseEntity<?> first = transactionController.transfer(request, IDEMPOTENCY_KEY, null);
+        ResponseEntity<?> replay = transactionController.transfer(request, IDEMPOTENCY_KEY, null);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertNull(first.getHeaders().getFirst("Idempotent-Replayed"));
+        assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+        assertEquals("true", replay.getHeaders().getFirst("Idempotent-Replayed"));
+        assertSame(response, replay.getBody());
+        verify(transactionService, times(1)).processTransactionWithWallet(any(), any(), any());
+        verify(transactionRateLimiter, times(1)).acquire(fromUserId, walletId);
+    }
+
+    @Test
+    void shouldReplayStoredResponseEvenWhenRateLimited() {
+        // Given
+        UUID destinationWalletId = UUID.randomUUID();
+        Transaction stored = Transaction.builder().destinationWalletId(destinationWalletId).build();
+        TransactionResponse response = transferResponse();
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.of(stored));
+        when(transactionAssembler.mapToTransactionResponseFromEntity(stored)).thenReturn(response);
+        lenient().doThrow(new RateLimitExceededException("user", fromUserId, Duration.ofSeconds(1)))
+                .when(transactionRateLimiter).acquire(any(), any());
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(destinationWalletId), IDEMPOTENCY_KEY, null);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Idempotent-Replayed"));
+        assertSame(response, result.getBody());
+        verify(transactionRateLimiter, never()).acquire(any(), any());
+    }
+
+    @Test
+    void shouldRejectTransferReusingKeyWithDifferentDestinationWallet() {
+        // Given
+        when(transactionService.processTransactionWithWallet(any(), eq(walletId), any())).thenReturn(new Transaction());
+        when(transactionAssembler.mapToTransactionResponseFromEntity(any())).thenReturn(transferResponse());
+        transactionController.transfer(transferRequest(UUID.randomUUID()), IDEMPOTENCY_KEY, null);
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> transactionController.transfer(transferRequest(UUID.randomUUID()), IDEMPOTENCY_KEY, null));
+        verify(transactionService, times(1)).processTransactionWithWallet(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectStoredTransferWithDifferentDestinationWallet() {
+        // Given
+        Transaction stored = Transaction.builder().destinationWalletId(UUID.randomUUID()).build();
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.of(stored));
+        when(transactionAssembler.mapToTransactionResponseFromEntity(stored)).thenReturn(transferResponse());
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> transactionController.transfer(transferRequest(UUID.randomUUID()), IDEMPOTENCY_KEY, null));
+        verify(transactionService, times(0)).processTransactionWithWallet(any(), any(), any());
+    }
+
+    @Test
+    void shouldReplayConcurrentTransactionWhenKeyInsertViolatesUniqueness() {
+        // Given
+        UUID destinationWalletId = UUID.randomUUID();
+        Transaction stored = Transaction.builder().destinationWalletId(destinationWalletId).build();
+        TransactionResponse response = transferResponse();
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.empty(), Optional.of(stored));
+        when(transactionService.processTransactionWithWallet(any(), eq(walletId), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(transactionAssembler.mapToTransactionResponseFromEntity(stored)).thenReturn(response);
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(destinationWalletId), IDEMPOTENCY_KEY, null);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Idempotent-Replayed"));
+        assertSame(response, result.getBody());
+    }
+
+    @Test
+    void shouldRethrowIntegrityViolationWhenNoTransactionOwnsTheKey() {
+        // Given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("constraint");
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(transactionService.processTransactionWithWallet(any(), eq(walletId), any())).thenThrow(violation);
+
+        // When & Then
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> transactionController.transfer(transferRequest(UUID.randomUUID()), IDEMPOTENCY_KEY, null));
+        assertSame(violation, exception);
+    }
+
+    @Test
+    void shouldScopeIdempotencyKeysByUser() {
+        // Given
+        when(transactionService.processTransactionWithWallet(any(), eq(walletId), any())).thenReturn(new Transaction());
+        when(transactionAssembler.mapToTransactionResponseFromEntity(any())).thenReturn(transferResponse());
+        transactionController.transfer(transferRequest(UUID.randomUUID()), IDEMPOTENCY_KEY, null);
+        TransactionRequest otherUserDeposit = new TransactionRequest(walletId, null, null, UUID.randomUUID(),
+                null, new BigDecimal("10.00"), null, null);
+
+        // When
+        ResponseEntity<?> result = transactionController.deposit(otherUserDeposit, IDEMPOTENCY_KEY, null);
+
+        // Then
+        assertNull(result.getHeaders().getFirst("Idempotent-Replayed"));
+        verify(transactionService, times(2)).processTransactionWithWallet(any(), any(), any());
+    }
+
+    @Test
+    void shouldAcceptAsyncTransferAndPointToItsSubmission() {
+        // Given
+        TransactionSubmission submission = transferSubmission(UUID.randomUUID());
+        when(transactionSubmissionService.submit(any(), isNull())).thenReturn(submission);
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(submission.getDestinationWalletId()), null, RESPOND_ASYNC);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(URI.create("/api/transactions/submissions/" + submission.getId()),
+                result.getHeaders().getLocation());
+        assertEquals(RESPOND_ASYNC, result.getHeaders().getFirst("Preference-Applied"));
+        assertNull(result.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    void shouldReplayAsyncSubmissionWhenIdempotencyKeyIsReused() {
+        // Given
+        TransactionSubmission submission = transferSubmission(UUID.randomUUID());
+        when(transactionSubmissionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(submission));
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(submission.getDestinationWalletId()), IDEMPOTENCY_KEY, RESPOND_ASYNC);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(URI.create("/api/transactions/submissions/" + submission.getId()),
+                result.getHeaders().getLocation());
+        assertEquals("true", result.getHeaders().getFirst("Idempotent-Replayed"));
+        verify(transactionSubmissionService, never()).submit(any(), any());
+        verify(transactionRateLimiter, never()).acquire(any(), any());
+    }
+
+    @Test
+    void shouldRejectAsyncSubmissionReusingKeyWithDifferentAmount() {
+        // Given
+        TransactionSubmission submission = transferSubmission(UUID.randomUUID());
+        submission.setAmount(new BigDecimal("99.00"));
+        when(transactionSubmissionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(submission));
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class, () -> transactionController.transfer(
+                transferRequest(submission.getDestinationWalletId()), IDEMPOTENCY_KEY, RESPOND_ASYNC));
+        verify(transactionSubmissionService, never()).submit(any(), any());
+    }
+
+    @Test
+    void shouldReplaySyncTransactionWhenAsyncRequestReusesItsKey() {
+        // Given
+        UUID destinationWalletId = UUID.randomUUID();
+        Transaction stored = Transaction.builder().destinationWalletId(destinationWalletId).build();
+        TransactionResponse response = transferResponse();
+        when(transactionSubmissionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.of(stored));
+        when(transactionAssembler.mapToTransactionResponseFromEntity(stored)).thenReturn(response);
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(destinationWalletId), IDEMPOTENCY_KEY, RESPOND_ASYNC);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Idempotent-Replayed"));
+        assertSame(response, result.getBody());
+        verify(transactionSubmissionService, never()).submit(any(), any());
+    }
+
+    @Test
+    void shouldReplayAsyncSubmissionWhenSyncRequestReusesItsKey() {
+        // Given
+        TransactionSubmission submission = transferSubmission(UUID.randomUUID());
+        when(transactionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY)).thenReturn(Optional.empty());
+        when(transactionSubmissionService.findByIdempotencyKey(fromUserId, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(submission));
+
+        // When
+        ResponseEntity<?> result = transactionController.transfer(
+                transferRequest(submission.getDestinationWalletId()), IDEMPOTENCY_KEY, null);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals("true", result.getHeaders().getFirst("Idempotent-Replayed"));
+        verify(transactionService, never()).processTransactionWithWallet(any(), any(), any());
+    }
+
+    @Test
+    void shouldChargeBatchOnceInsteadOfOncePerItem() {
+        // Given
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getUser().setRefillPerSecond(0.001);
+        rateLimitProperties.getWallet().setRefillPerSecond(0.001);
+        int items = 2 * Math.max(
+                rateLimitProperties.getUser().getCapacity(), rateLimitProperties.getWallet().getCapacity());
+        ReflectionTestUtils.setField(transactionController, "transactionRateLimiter",
+                new TransactionRateLimiter(rateLimitProperties, new SimpleMeterRegistry()));
+        List<TransactionRequest> requests = new ArrayList<>();
+        List<TransactionBatchResult> results = new ArrayList<>();
+        for (int index = 0; index < items; index++) {
+            requests.add(new TransactionRequest(walletId, null, null, toUserId, Transaction.TransactionType.DEPOSIT,
+                    new BigDecimal("1.00"), "Deposit", null));
+            results.add(TransactionBatchResult.success(new Transaction()));
+        }
+        when(transactionService.processBatch(any())).thenReturn(results);
+        when(transactionAssembler.mapToBatchItemResponse(anyInt(), any())).thenAnswer(invocation ->
+                TransactionBatchItemResponse.processed(invocation.getArgument(0), transferResponse()));
+
+        // When
+        ResponseEntity<TransactionBatchResponse> result =
+                transactionController.batch(new TransactionBatchRequest(requests));
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(items, result.getBody().processed());
+        assertEquals(0, result.getBody().failed());
+        assertThrows(RateLimitExceededException.class, () -> transactionController.batch(
+                new TransactionBatchRequest(List.of(requests.get(0)))).getBody().items().get(0).error());
+    }
+
+    private TransactionSubmission transferSubmission(UUID destinationWalletId) {
+        return TransactionSubmission.builder()
+                .id(UUID.randomUUID())
+                .walletId(walletId)
+                .destinationWalletId(destinationWalletId)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .type(Transaction.TransactionType.TRANSFER)
+                .amount(new BigDecimal("10.00"))
+                .status(TransactionSubmission.SubmissionStatus.PENDING)
+                .build();
+    }
+
+    private TransactionRequest transferRequest(UUID destinationWalletId) {
+        return new TransactionRequest(walletId, destinationWalletId, fromUserId, toUserId, null,
+                new BigDecimal("10.00"), "Transfer", null);
+    }
+
+    private TransactionResponse transferResponse() {
+        return new TransactionResponse(UUID.randomUUID(), walletId, "Wallet", fromUserId, toUserId,
+                Transaction.TransactionType.TRANSFER, new BigDecimal("10.00"), "Transfer", UUID.randomUUID(),
+                LocalDateTime.now());
+    }
+}
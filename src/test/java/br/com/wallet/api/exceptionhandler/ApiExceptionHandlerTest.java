@@ -0,0 +1,52 @@
+package br.com.wallet.api.exceptionhandler;
+
+import br.com.wallet.core.concurrency.DatabaseBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ApiExceptionHandlerTest {
+
+    private final ApiExceptionHandler apiExceptionHandler = new ApiExceptionHandler();
+    private final WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+    @Test
+    void shouldAnswerServiceUnavailableWithRetryAfterWhenNoPermitIsAvailable() {
+        // Given
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new DatabaseBusyException("Timed out after 30000ms waiting for a database permit"));
+
+        // When
+        ResponseEntity<Object> response = apiExceptionHandler.handleDatabaseUnavailable(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        ProblemDetail problemDetail = assertInstanceOf(ProblemDetail.class, response.getBody());
+        assertEquals(503, problemDetail.getStatus());
+        assertEquals("Database busy", problemDetail.getTitle());
+    }
+
+    @Test
+    void shouldAnswerServiceUnavailableWhenConnectionCannotBeObtained() {
+        // Given
+        DataAccessResourceFailureException ex = new DataAccessResourceFailureException("Connection refused");
+
+        // When
+        ResponseEntity<Object> response = apiExceptionHandler.handleDatabaseUnavailable(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
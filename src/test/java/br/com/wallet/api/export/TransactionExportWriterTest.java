@@ -0,0 +1,78 @@
+package br.com.wallet.api.export;
+
+import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.domain.model.Transaction;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionExportWriterTest {
+
+    private ObjectMapper objectMapper;
+    private TransactionExportWriter transactionExportWriter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        transactionExportWriter = new TransactionExportWriter(objectMapper);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLineForNdjson() throws Exception {
+        // Given
+        TransactionResponse first = buildResponse("Deposit");
+        TransactionResponse second = buildResponse("Withdraw");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        transactionExportWriter.write(TransactionExportFormat.NDJSON, Stream.of(first, second), outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode secondLine = objectMapper.readTree(lines[1]);
+        assertEquals(second.id().toString(), secondLine.get("id").asText());
+        assertEquals("Withdraw", secondLine.get("description").asText());
+    }
+
+    @Test
+    void shouldWriteHeaderAndQuoteFieldsWithSeparatorsForCsv() {
+        // Given
+        TransactionResponse transaction = buildResponse("Rent, \"June\"");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        transactionExportWriter.write(TransactionExportFormat.CSV, Stream.of(transaction), outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,walletId,walletName,fromUserId,toUserId,type,amount,description,relatedTransactionId,createdAt",
+                lines[0]);
+        assertEquals(transaction.id() + "," + transaction.walletId() + ",Main Wallet,," + transaction.toUserId()
+                + ",DEPOSIT,10.50,\"Rent, \"\"June\"\"\",," + transaction.createdAt(), lines[1]);
+    }
+
+    @Test
+    void shouldRejectUnsupportedFormat() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> TransactionExportFormat.of("xml"));
+    }
+
+    private TransactionResponse buildResponse(String description) {
+        return new TransactionResponse(UUID.randomUUID(), UUID.randomUUID(), "Main Wallet", null, UUID.randomUUID(),
+                Transaction.TransactionType.DEPOSIT, new BigDecimal("10.50"), description, null,
+                LocalDateTime.of(2024, 5, 1, 10, 30));
+    }
+}
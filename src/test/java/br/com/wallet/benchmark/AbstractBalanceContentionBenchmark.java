@@ -0,0 +1,151 @@
+package br.com.wallet.benchmark;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import br.com.wallet.domain.service.transaction.TransactionRetryExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+abstract class AbstractBalanceContentionBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 250;
+    private static final int SPREAD_USER_WALLETS = 64;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final BigDecimal OPERATION_AMOUNT = new BigDecimal("1.00");
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRetryExecutor transactionRetryExecutor;
+
+    protected abstract String strategyName();
+
+    @Test
+    void shouldReportLatencyForContendedDepositsAndWithdrawalsOnHotWallet() throws Exception {
+        UserWallet hotUserWallet = createFundedUserWallet();
+
+        LatencyReport report = run(strategyName() + " hot wallet", operation -> hotUserWallet);
+
+        report.print();
+        assertEquals(Money.of(INITIAL_BALANCE), balanceOf(hotUserWallet));
+    }
+
+    @Test
+    void shouldReportLatencyForDepositsAndWithdrawalsSpreadAcrossUserWallets() throws Exception {
+        List<UserWallet> userWallets = new ArrayList<>();
+        for (int index = 0; index < SPREAD_USER_WALLETS; index++) {
+            userWallets.add(createFundedUserWallet());
+        }
+
+        LatencyReport report = run(strategyName() + " spread wallets",
+                operation -> userWallets.get((operation / 2) % SPREAD_USER_WALLETS));
+
+        report.print();
+        for (UserWallet userWallet : userWallets) {
+            assertEquals(Money.of(INITIAL_BALANCE), balanceOf(userWallet));
+        }
+    }
+
+    private LatencyReport run(String name, IntFunction<UserWallet> targetSelector) throws Exception {
+        long[] latencies = new long[THREADS * OPERATIONS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int offset = thread * OPERATIONS_PER_THREAD;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+                    UserWallet userWallet = targetSelector.apply(offset + operation);
+                    long begin = System.nanoTime();
+                    if (operation % 2 == 0) {
+                        deposit(userWallet.getWallet().getId(), userWallet.getUserId(), OPERATION_AMOUNT);
+                    } else {
+                        withdraw(userWallet.getWallet().getId(), userWallet.getUserId(), OPERATION_AMOUNT);
+                    }
+                    latencies[offset + operation] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return LatencyReport.of(name, elapsed, latencies);
+    }
+
+    private UserWallet createFundedUserWallet() {
+        Wallet wallet = walletService.save(Wallet.builder().name("benchmark-" + UUID.randomUUID()).build());
+        UserWallet userWallet = userWalletService.save(
+                UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build());
+        deposit(wallet.getId(), userWallet.getUserId(), INITIAL_BALANCE);
+        return userWallet;
+    }
+
+    protected Money balanceOf(UserWallet userWallet) {
+        return userWalletService.findByUserIdAndWalletId(userWallet.getUserId(), userWallet.getWallet().getId())
+                .getBalance();
+    }
+
+    private void deposit(UUID walletId, UUID userId, BigDecimal amount) {
+        Transaction transaction = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(userId)
+                .amount(amount)
+                .build();
+        transactionRetryExecutor.execute(() -> transactionService.processTransactionWithWallet(
+                copyOf(transaction), walletId, transactionService::deposit));
+    }
+
+    private void withdraw(UUID walletId, UUID userId, BigDecimal amount) {
+        Transaction transaction = Transaction.builder()
+                .type(Transaction.TransactionType.WITHDRAW)
+                .fromUserId(userId)
+                .amount(amount)
+                .build();
+        transactionRetryExecutor.execute(() -> transactionService.processTransactionWithWallet(
+                copyOf(transaction), walletId, transactionService::withdraw));
+    }
+
+    private Transaction copyOf(Transaction transaction) {
+        return Transaction.builder()
+                .type(transaction.getType())
+                .fromUserId(transaction.getFromUserId())
+                .toUserId(transaction.getToUserId())
+                .amount(transaction.getAmount())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.wallet.benchmark;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import br.com.wallet.integration.EmbeddedPostgresSupport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+abstract class AbstractConcurrentClientsBenchmark {
+
+    private static final int CLIENTS = 5_000;
+    private static final int REQUESTS_PER_CLIENT = 4;
+    private static final int USER_WALLETS = 256;
+    private static final BigDecimal DEPOSIT_AMOUNT = new BigDecimal("1.00");
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        embeddedPostgres = EmbeddedPostgresSupport.start(registry);
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    protected abstract String threadModel();
+
+    @Test
+    void shouldReportThroughputAndLatencyForConcurrentDepositClients() throws Exception {
+        List<UserWallet> userWallets = new ArrayList<>();
+        for (int index = 0; index < USER_WALLETS; index++) {
+            Wallet wallet = walletService.save(Wallet.builder().name("load-" + UUID.randomUUID()).build());
+            userWallets.add(userWalletService.save(
+                    UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build()));
+        }
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicIntegerArray successesPerWallet = new AtomicIntegerArray(USER_WALLETS);
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> clients = new ArrayList<>();
+        URI depositUri = URI.create("http://localhost:" + port + "/api/transactions/deposit");
+
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .executor(executor)
+                     .build()) {
+            for (int client = 0; client < CLIENTS; client++) {
+                int offset = client * REQUESTS_PER_CLIENT;
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                        int walletIndex = (offset + request) % USER_WALLETS;
+                        UserWallet userWallet = userWallets.get(walletIndex);
+                        long begin = System.nanoTime();
+                        boolean succeeded = deposit(httpClient, depositUri, userWallet);
+                        latencies[offset + request] = System.nanoTime() - begin;
+                        if (succeeded) {
+                            successesPerWallet.incrementAndGet(walletIndex);
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            elapsed = System.nanoTime() - begin;
+        }
+
+        LatencyReport.of(threadModel() + " " + CLIENTS + " clients", elapsed, latencies).print();
+        System.out.printf("[%s %d clients] failed requests=%d%n", threadModel(), CLIENTS, failures.get());
+        for (int index = 0; index < USER_WALLETS; index++) {
+            UserWallet userWallet = userWallets.get(index);
+            BigDecimal expected = DEPOSIT_AMOUNT.multiply(BigDecimal.valueOf(successesPerWallet.get(index)));
+            Money balance = userWalletService
+                    .findByUserIdAndWalletId(userWallet.getUserId(), userWallet.getWallet().getId())
+                    .getBalance();
+            assertEquals(Money.of(expected), balance);
+        }
+    }
+
+    private boolean deposit(HttpClient httpClient, URI depositUri, UserWallet userWallet) {
+        String body = "{\"walletId\":\"" + userWallet.getWallet().getId() + "\","
+                + "\"toUserId\":\"" + userWallet.getUserId() + "\","
+                + "\"type\":\"DEPOSIT\",\"amount\":" + DEPOSIT_AMOUNT + "}";
+        HttpRequest request = HttpRequest.newBuilder(depositUri)
+                .timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+}
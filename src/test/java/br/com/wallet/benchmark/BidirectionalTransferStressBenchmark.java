@@ -0,0 +1,126 @@
+package br.com.wallet.benchmark;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "wallet.balance.update-strategy=PESSIMISTIC_LOCK")
+class BidirectionalTransferStressBenchmark {
+
+    private static final int HOT_PAIRS = 4;
+    private static final int THREADS_PER_DIRECTION = 8;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100000.00");
+    private static final BigDecimal TRANSFER_AMOUNT = new BigDecimal("1.00");
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Test
+    void shouldTransferInBothDirectionsBetweenHotPairsWithoutLockFailures() throws Exception {
+        List<UserWallet[]> pairs = new ArrayList<>();
+        for (int pair = 0; pair < HOT_PAIRS; pair++) {
+            pairs.add(new UserWallet[]{createFundedUserWallet(), createFundedUserWallet()});
+        }
+
+        int threads = HOT_PAIRS * THREADS_PER_DIRECTION * 2;
+        long[] latencies = new long[threads * TRANSFERS_PER_THREAD];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+
+        int worker = 0;
+        for (UserWallet[] pair : pairs) {
+            for (int thread = 0; thread < THREADS_PER_DIRECTION * 2; thread++) {
+                UserWallet from = thread % 2 == 0 ? pair[0] : pair[1];
+                UserWallet to = thread % 2 == 0 ? pair[1] : pair[0];
+                int offset = worker++ * TRANSFERS_PER_THREAD;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int transfer = 0; transfer < TRANSFERS_PER_THREAD; transfer++) {
+                        long begin = System.nanoTime();
+                        try {
+                            transfer(from, to);
+                        } catch (RuntimeException ex) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[offset + transfer] = System.nanoTime() - begin;
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : workers) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        LatencyReport.of("bidirectional transfers", elapsed, latencies).print();
+        assertEquals(0, failures.get());
+        for (UserWallet[] pair : pairs) {
+            assertEquals(Money.of(INITIAL_BALANCE), balanceOf(pair[0]));
+            assertEquals(Money.of(INITIAL_BALANCE), balanceOf(pair[1]));
+        }
+    }
+
+    private UserWallet createFundedUserWallet() {
+        Wallet wallet = walletService.save(Wallet.builder().name("stress-" + UUID.randomUUID()).build());
+        UserWallet userWallet = userWalletService.save(
+                UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build());
+        Transaction deposit = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(userWallet.getUserId())
+                .amount(INITIAL_BALANCE)
+                .build();
+        transactionService.processTransactionWithWallet(deposit, wallet.getId(), transactionService::deposit);
+        return userWallet;
+    }
+
+    private void transfer(UserWallet from, UserWallet to) {
+        Transaction transaction = Transaction.builder()
+                .type(Transaction.TransactionType.TRANSFER)
+                .fromUserId(from.getUserId())
+                .toUserId(to.getUserId())
+                .destinationWalletId(to.getWallet().getId())
+                .amount(TRANSFER_AMOUNT)
+                .build();
+        transactionService.processTransactionWithWallet(transaction, from.getWallet().getId(), transactionService::transfer);
+    }
+
+    private Money balanceOf(UserWallet userWallet) {
+        return userWalletService.findByUserIdAndWalletId(userWallet.getUserId(), userWallet.getWallet().getId())
+                .getBalance();
+    }
+}
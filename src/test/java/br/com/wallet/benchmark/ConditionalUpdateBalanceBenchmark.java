@@ -0,0 +1,12 @@
+package br.com.wallet.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "wallet.balance.update-strategy=CONDITIONAL_UPDATE")
+class ConditionalUpdateBalanceBenchmark extends AbstractBalanceContentionBenchmark {
+
+    @Override
+    protected String strategyName() {
+        return "CONDITIONAL_UPDATE";
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.wallet.benchmark;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.service.transaction.engine.BalanceEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "wallet.balance.update-strategy=IN_MEMORY",
+        "wallet.balance.engine.journal-directory=build/benchmark-journal"
+})
+class InMemoryBalanceBenchmark extends AbstractBalanceContentionBenchmark {
+
+    @Autowired
+    private BalanceEngine balanceEngine;
+
+    @Override
+    protected String strategyName() {
+        return "IN_MEMORY";
+    }
+
+    @Override
+    protected Money balanceOf(UserWallet userWallet) {
+        return balanceEngine.balanceOf(UserWalletKey.of(userWallet));
+    }
+}
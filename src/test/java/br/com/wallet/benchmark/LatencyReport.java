@@ -0,0 +1,46 @@
+package br.com.wallet.benchmark;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+final class LatencyReport {
+
+    private final String name;
+    private final long elapsedNanos;
+    private final long[] sortedLatenciesNanos;
+
+    private LatencyReport(String name, long elapsedNanos, long[] latenciesNanos) {
+        this.name = name;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatenciesNanos = latenciesNanos.clone();
+        Arrays.sort(this.sortedLatenciesNanos);
+    }
+
+    static LatencyReport of(String name, long elapsedNanos, long[] latenciesNanos) {
+        return new LatencyReport(name, elapsedNanos, latenciesNanos);
+    }
+
+    int operations() {
+        return sortedLatenciesNanos.length;
+    }
+
+    double throughputPerSecond() {
+        return operations() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    double percentileMillis(double percentile) {
+        if (sortedLatenciesNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.length) - 1;
+        long nanos = sortedLatenciesNanos[Math.max(0, Math.min(index, sortedLatenciesNanos.length - 1))];
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    void print() {
+        System.out.printf(Locale.ROOT, "[%s] ops=%d throughput=%.1f ops/s p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                name, operations(), throughputPerSecond(),
+                percentileMillis(50), percentileMillis(99), percentileMillis(100));
+    }
+}
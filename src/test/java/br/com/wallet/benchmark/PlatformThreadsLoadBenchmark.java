@@ -0,0 +1,17 @@
+package br.com.wallet.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=false",
+                "spring.jpa.show-sql=false",
+                "wallet.rate-limit.enabled=false"})
+class PlatformThreadsLoadBenchmark extends AbstractConcurrentClientsBenchmark {
+
+    @Override
+    protected String threadModel() {
+        return "PLATFORM_THREADS";
+    }
+}
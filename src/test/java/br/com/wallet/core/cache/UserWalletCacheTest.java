@@ -0,0 +1,158 @@
+package br.com.wallet.core.cache;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserWalletCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserWalletCache userWalletCache;
+    private UserWalletKey key;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userWalletCache = new UserWalletCache(new UserWalletCacheProperties(), meterRegistry);
+        key = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldKeepEntryWhenNotificationMatchesCachedBalance() {
+        // Given
+        find(BigDecimal.TEN, 1L);
+
+        // When
+        userWalletCache.apply(change("UPDATE", BigDecimal.TEN, 2L));
+        UserWallet result = find(BigDecimal.ONE, 3L);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(Money.of(BigDecimal.TEN), result.getBalance());
+        assertEquals(2L, result.getVersion());
+        assertEquals(0.0, staleInvalidations());
+    }
+
+    @Test
+    void shouldInvalidateEntryWhenAnotherWriterChangedBalance() {
+        // Given
+        find(BigDecimal.TEN, 1L);
+
+        // When
+        userWalletCache.apply(change("UPDATE", BigDecimal.ONE, 2L));
+        UserWallet result = find(BigDecimal.ONE, 2L);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(Money.of(BigDecimal.ONE), result.getBalance());
+        assertEquals(1.0, staleInvalidations());
+    }
+
+    @Test
+    void shouldIgnoreNotificationOlderThanCachedVersion() {
+        // Given
+        find(BigDecimal.TEN, 5L);
+
+        // When
+        userWalletCache.apply(change("UPDATE", BigDecimal.ONE, 4L));
+        find(BigDecimal.ONE, 4L);
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldInvalidateEntryOnDelete() {
+        // Given
+        find(BigDecimal.TEN, 1L);
+
+        // When
+        userWalletCache.apply(change("DELETE", null, null));
+        find(BigDecimal.TEN, 1L);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldInvalidateEntryWhenNotificationArrivesDuringLoad() throws Exception {
+        // Given
+        Thread notifier = Thread.ofPlatform().unstarted(
+                () -> userWalletCache.apply(change("UPDATE", BigDecimal.ONE, 2L)));
+
+        // When
+        userWalletCache.find(key, () -> {
+            loads.incrementAndGet();
+            notifier.start();
+            pause();
+            return Optional.of(userWallet(BigDecimal.TEN, 1L));
+        });
+        notifier.join();
+        UserWallet result = find(BigDecimal.ONE, 2L);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(Money.of(BigDecimal.ONE), result.getBalance());
+    }
+
+    @Test
+    void shouldNotKeepEntryLoadedWhileCacheWasCleared() {
+        // Given
+        userWalletCache.find(key, () -> {
+            loads.incrementAndGet();
+            userWalletCache.evictAll();
+            return Optional.of(userWallet(BigDecimal.TEN, 1L));
+        });
+
+        // When
+        find(BigDecimal.ONE, 2L);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    private UserWallet find(BigDecimal balance, Long version) {
+        return userWalletCache.find(key, () -> {
+            loads.incrementAndGet();
+            return Optional.of(userWallet(balance, version));
+        }).orElseThrow();
+    }
+
+    private UserWallet userWallet(BigDecimal balance, Long version) {
+        return UserWallet.builder()
+                .id(UUID.randomUUID())
+                .userId(key.userId())
+                .balance(Money.of(balance))
+                .version(version)
+                .build();
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UserWalletChange change(String operation, BigDecimal balance, Long version) {
+        return new UserWalletChange(operation, key.userId(), key.walletId(), Money.of(balance), version,
+                System.currentTimeMillis());
+    }
+
+    private double staleInvalidations() {
+        return meterRegistry.get("wallet.cache.user-wallet.stale.invalidations").counter().count();
+    }
+}
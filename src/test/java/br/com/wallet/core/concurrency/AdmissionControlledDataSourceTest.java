@@ -0,0 +1,81 @@
+package br.com.wallet.core.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new AdmissionControlledDataSource(
+                targetDataSource, 1, true, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    void shouldHoldPermitUntilConnectionIsClosed() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // When
+        Connection first = dataSource.getConnection();
+
+        // Then
+        assertEquals(1, dataSource.inUse());
+        assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("wallet.db.admission.rejected").counter().count());
+
+        first.close();
+        first.close();
+        assertEquals(0, dataSource.inUse());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldReleasePermitWhenTargetFailsToProvideConnection() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When / Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.inUse());
+    }
+
+    @Test
+    void shouldDelegateOtherConnectionCallsToTarget() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        // When
+        Connection admitted = dataSource.getConnection();
+
+        // Then
+        assertEquals(false, admitted.getAutoCommit());
+        verify(connection).getAutoCommit();
+    }
+}
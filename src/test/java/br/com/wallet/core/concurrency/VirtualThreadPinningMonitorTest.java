@@ -0,0 +1,71 @@
+package br.com.wallet.core.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConcurrencyProperties concurrencyProperties;
+
+    @BeforeEach
+    void setUp() {
+        concurrencyProperties = new ConcurrencyProperties();
+    }
+
+    @Test
+    void shouldCountPinnedEventsAndRecordTheirDuration() {
+        // Given
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(concurrencyProperties, meterRegistry);
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(30));
+
+        // When
+        monitor.onPinned(event);
+        monitor.onPinned(event);
+
+        // Then
+        assertEquals(2.0, meterRegistry.get("wallet.virtual.threads.pinned").counter().count());
+        assertEquals(60.0, meterRegistry.get("wallet.virtual.threads.pinned.duration").timer()
+                .totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldStreamPinnedEventsOnlyWhileRunning() {
+        // Given
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(concurrencyProperties, meterRegistry);
+
+        // When
+        monitor.start();
+        boolean runningAfterStart = monitor.isRunning();
+        monitor.stop();
+
+        // Then
+        assertTrue(runningAfterStart);
+        assertFalse(monitor.isRunning());
+    }
+
+    @Test
+    void shouldNotStartWhenDisabled() {
+        // Given
+        concurrencyProperties.getPinning().setEnabled(false);
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(concurrencyProperties, meterRegistry);
+
+        // When
+        monitor.start();
+
+        // Then
+        assertFalse(monitor.isRunning());
+    }
+}
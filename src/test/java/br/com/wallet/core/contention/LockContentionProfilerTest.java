@@ -0,0 +1,99 @@
+package br.com.wallet.core.contention;
+
+import br.com.wallet.domain.model.UserWalletKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LockContentionProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LockContentionProperties lockContentionProperties;
+
+    @BeforeEach
+    void setUp() {
+        lockContentionProperties = new LockContentionProperties();
+        lockContentionProperties.setTrackedKeys(2);
+    }
+
+    @Test
+    void shouldRankKeysByAccumulatedWaitAndKeepTrackedKeysBounded() {
+        // Given
+        LockContentionProfiler profiler = new LockContentionProfiler(lockContentionProperties, meterRegistry);
+        UserWalletKey hot = key();
+        UserWalletKey warm = key();
+        UserWalletKey cold = key();
+
+        // When
+        profiler.profile(List.of(hot), () -> sleepMillis(20));
+        profiler.profile(List.of(hot), () -> sleepMillis(20));
+        profiler.profile(List.of(warm), () -> sleepMillis(5));
+        profiler.profile(List.of(cold), () -> sleepMillis(1));
+
+        // Then
+        List<LockContention> contended = profiler.findMostContended(10);
+        assertEquals(2, contended.size());
+        LockContention hottest = contended.getFirst();
+        assertEquals(hot, hottest.key());
+        assertEquals(2, hottest.acquisitions());
+        assertTrue(hottest.p50WaitMicros() >= 17_000);
+        assertTrue(hottest.p99WaitMicros() <= hottest.maxWaitMicros());
+        assertEquals(cold, contended.get(1).key());
+        assertTrue(contended.get(1).totalWaitErrorMicros() > 0);
+    }
+
+    @Test
+    void shouldCountLockTimeoutsAgainstEveryRequestedKey() {
+        // Given
+        LockContentionProfiler profiler = new LockContentionProfiler(lockContentionProperties, meterRegistry);
+        UserWalletKey source = key();
+        UserWalletKey target = key();
+
+        // When
+        assertThrows(CannotAcquireLockException.class, () -> profiler.profile(List.of(source, target), () -> {
+            throw new CannotAcquireLockException("lock timeout");
+        }));
+        assertThrows(IllegalStateException.class, () -> profiler.profile(List.of(source), () -> {
+            throw new IllegalStateException("unrelated");
+        }));
+
+        // Then
+        List<LockContention> contended = profiler.findMostContended(null);
+        assertEquals(2, contended.size());
+        contended.forEach(response -> {
+            assertEquals(1, response.timeouts());
+            assertEquals(0, response.acquisitions());
+        });
+        assertEquals(1.0, meterRegistry.get("wallet.lock.timeouts").counter().count());
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        // Given
+        LockContentionProfiler profiler = new LockContentionProfiler(lockContentionProperties, meterRegistry);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> profiler.findMostContended(0));
+    }
+
+    private static UserWalletKey key() {
+        return new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    private static Object sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.wallet.core.idempotency;
+
+import br.com.wallet.api.model.response.TransactionResponse;
+import br.com.wallet.domain.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyCacheTest {
+
+    private IdempotencyCache idempotencyCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyCache = new IdempotencyCache(new IdempotencyProperties());
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldReturnStoredResponseForSameUserAndKey() {
+        // Given
+        TransactionResponse response = new TransactionResponse(UUID.randomUUID(), UUID.randomUUID(), "Wallet",
+                null, userId, Transaction.TransactionType.DEPOSIT, BigDecimal.TEN, "Deposit", null,
+                LocalDateTime.now());
+        IdempotentResponse idempotentResponse = new IdempotentResponse(response, null);
+        idempotencyCache.put(userId, "key-1", idempotentResponse);
+
+        // When
+        Optional<IdempotentResponse> result = idempotencyCache.find(userId, "key-1");
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(idempotentResponse, result.get());
+    }
+
+    @Test
+    void shouldNotShareKeysBetweenUsers() {
+        // Given
+        TransactionResponse response = new TransactionResponse(UUID.randomUUID(), UUID.randomUUID(), "Wallet",
+                null, userId, Transaction.TransactionType.DEPOSIT, BigDecimal.TEN, "Deposit", null,
+                LocalDateTime.now());
+        idempotencyCache.put(userId, "key-1", new IdempotentResponse(response, null));
+
+        // When
+        Optional<IdempotentResponse> result = idempotencyCache.find(UUID.randomUUID(), "key-1");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownKey() {
+        // When
+        Optional<IdempotentResponse> result = idempotencyCache.find(userId, "unknown");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+}
@@ -0,0 +1,159 @@
+package br.com.wallet.core.metrics;
+
+import br.com.wallet.domain.model.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics transactionMetrics = new TransactionMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldTagNestedPhasesWithProcessedTransactionType() {
+        // When
+        String result = transactionMetrics.process(Transaction.TransactionType.DEPOSIT, () -> {
+            transactionMetrics.time(TransactionPhase.VALIDATION, () -> {
+            });
+            return transactionMetrics.time(TransactionPhase.BALANCE_UPDATE, () -> "done");
+        });
+
+        // Then
+        assertEquals("done", result);
+        assertEquals(1, phaseCount("validation", "deposit", "success"));
+        assertEquals(1, phaseCount("balance_update", "deposit", "success"));
+        assertEquals(1, phaseCount("process", "deposit", "success"));
+        assertEquals(1.0, meterRegistry.get(TransactionMetrics.PROCESSED_COUNTER)
+                .tag("type", "deposit").tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    void shouldClassifyOutcomeFromException() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> transactionMetrics.process(
+                Transaction.TransactionType.WITHDRAW, () -> transactionMetrics.time(TransactionPhase.VALIDATION, () -> {
+                    throw new IllegalArgumentException("Insufficient balance");
+                })));
+        assertThrows(OptimisticLockingFailureException.class, () -> transactionMetrics.process(
+                Transaction.TransactionType.TRANSFER, () -> {
+                    throw new OptimisticLockingFailureException("Concurrent update");
+                }));
+
+        // Then
+        assertEquals(1, phaseCount("validation", "withdraw", "rejected"));
+        assertEquals(1, phaseCount("process", "withdraw", "rejected"));
+        assertEquals(1, phaseCount("process", "transfer", "conflict"));
+    }
+
+    @Test
+    void shouldRecordProcessOutcomeOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        transactionMetrics.process(Transaction.TransactionType.DEPOSIT, () -> "done");
+
+        // Then
+        assertTrue(meterRegistry.find(TransactionMetrics.PROCESSED_COUNTER).counters().isEmpty());
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1, phaseCount("process", "deposit", "success"));
+    }
+
+    @Test
+    void shouldRecordRolledBackOutcomeWhenTransactionDoesNotCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        transactionMetrics.process(Transaction.TransactionType.TRANSFER, () -> "done");
+        assertThrows(IllegalArgumentException.class, () -> transactionMetrics.process(
+                Transaction.TransactionType.WITHDRAW, () -> {
+                    throw new IllegalArgumentException("Insufficient balance");
+                }));
+
+        // When
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertEquals(1, phaseCount("process", "transfer", "rolled_back"));
+        assertEquals(1, phaseCount("process", "withdraw", "rejected"));
+        assertEquals(1.0, meterRegistry.get(TransactionMetrics.PROCESSED_COUNTER)
+                .tag("type", "transfer").tag("outcome", "rolled_back").counter().count());
+    }
+
+    @Test
+    void shouldTagPhaseWithExplicitType() {
+        // When
+        transactionMetrics.time(TransactionPhase.WALLET_LOOKUP, Transaction.TransactionType.WITHDRAW, () -> "wallet");
+
+        // Then
+        assertEquals(1, phaseCount("wallet_lookup", "withdraw", "success"));
+    }
+
+    @Test
+    void shouldFallBackToUnknownTypeOutsideProcessing() {
+        // When
+        transactionMetrics.time(TransactionPhase.WALLET_LOOKUP, () -> {
+        });
+
+        // Then
+        assertEquals(1, phaseCount("wallet_lookup", "unknown", "success"));
+    }
+
+    @Test
+    void shouldTagPersistWithTypeOfWrittenTransactions() {
+        // Given
+        List<Transaction> transfer = List.of(transaction(Transaction.TransactionType.TRANSFER),
+                transaction(Transaction.TransactionType.TRANSFER));
+        List<Transaction> batch = List.of(transaction(Transaction.TransactionType.DEPOSIT),
+                transaction(Transaction.TransactionType.WITHDRAW));
+
+        // When
+        transactionMetrics.time(TransactionPhase.PERSIST, transfer, () -> {
+        });
+        transactionMetrics.time(TransactionPhase.PERSIST, batch, () -> {
+        });
+
+        // Then
+        assertEquals(1, phaseCount("persist", "transfer", "success"));
+        assertEquals(1, phaseCount("persist", "mixed", "success"));
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private long phaseCount(String phase, String type, String outcome) {
+        return meterRegistry.get(TransactionMetrics.PHASE_TIMER)
+                .tag("phase", phase)
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private Transaction transaction(Transaction.TransactionType type) {
+        return Transaction.builder()
+                .type(type)
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+}
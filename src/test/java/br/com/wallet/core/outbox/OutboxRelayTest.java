@@ -0,0 +1,171 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import br.com.wallet.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxProperties outboxProperties;
+    private OutboxSink sink;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxProperties = new OutboxProperties();
+        outboxProperties.setBatchSize(2);
+        sink = mock(OutboxSink.class);
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxProperties, List.of(sink),
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void shouldPublishClaimedBatchAfterClaimCommitsThenDeleteIt() {
+        // Given
+        List<OutboxEvent> events = List.of(buildEvent(1), buildEvent(1));
+        when(outboxEventRepository.claimBatch(2, CLAIM_TIMEOUT)).thenReturn(events);
+
+        // When
+        int published = outboxRelay.relayBatch(sink);
+
+        // Then
+        assertEquals(2, published);
+        InOrder inOrder = inOrder(outboxEventRepository, transactionManager, sink);
+        inOrder.verify(outboxEventRepository).claimBatch(2, CLAIM_TIMEOUT);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(sink).publish(events);
+        inOrder.verify(outboxEventRepository).deleteClaimed(List.of(events.get(0).getId(), events.get(1).getId()));
+        assertEquals(2.0, meterRegistry.get("wallet.outbox.published").counter().count());
+        assertEquals(2, meterRegistry.get("wallet.outbox.lag").timer().count());
+        assertEquals(1, meterRegistry.get("wallet.outbox.batch.size").summary().count());
+    }
+
+    @Test
+    void shouldNotPublishWhenNothingIsClaimed() {
+        // Given
+        when(outboxEventRepository.claimBatch(2, CLAIM_TIMEOUT)).thenReturn(List.of());
+
+        // When
+        int published = outboxRelay.relayBatch(sink);
+
+        // Then
+        assertEquals(0, published);
+        verify(sink, never()).publish(any());
+        assertEquals(0.0, meterRegistry.get("wallet.outbox.published").counter().count());
+    }
+
+    @Test
+    void shouldReleaseClaimWithBackoffWhenSinkFails() {
+        // Given
+        List<OutboxEvent> events = List.of(buildEvent(1));
+        when(outboxEventRepository.claimBatch(2, CLAIM_TIMEOUT)).thenReturn(events);
+        doThrow(new IllegalStateException("sink down")).when(sink).publish(events);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> outboxRelay.relayBatch(sink));
+        verify(outboxEventRepository).release(eq(List.of(events.getFirst().getId())), any());
+        verify(outboxEventRepository, never()).deleteClaimed(any());
+        verify(outboxEventRepository, never()).deadLetter(any(), anyString());
+    }
+
+    @Test
+    void shouldDeadLetterExhaustedEventAndPublishTheRestOfItsBatch() {
+        // Given
+        OutboxEvent poison = buildEvent(outboxProperties.getMaxAttempts());
+        OutboxEvent healthy = buildEvent(outboxProperties.getMaxAttempts());
+        List<OutboxEvent> events = List.of(poison, healthy);
+        when(outboxEventRepository.claimBatch(2, CLAIM_TIMEOUT)).thenReturn(events);
+        lenient().doThrow(new IllegalArgumentException("bad payload")).when(sink).publish(events);
+        lenient().doThrow(new IllegalArgumentException("bad payload")).when(sink).publish(List.of(poison));
+
+        // When
+        int published = outboxRelay.relayBatch(sink);
+
+        // Then
+        assertEquals(1, published);
+        verify(outboxEventRepository).deadLetter(eq(poison.getId()), anyString());
+        verify(outboxEventRepository).deleteClaimed(List.of(healthy.getId()));
+        assertEquals(1.0, meterRegistry.get("wallet.outbox.dead.lettered").counter().count());
+        assertEquals(1.0, meterRegistry.get("wallet.outbox.published").counter().count());
+    }
+
+    @Test
+    void shouldRetryFailingEventThatHasAttemptsLeft() {
+        // Given
+        OutboxEvent failing = buildEvent(1);
+        OutboxEvent exhausted = buildEvent(outboxProperties.getMaxAttempts());
+        List<OutboxEvent> events = List.of(failing, exhausted);
+        when(outboxEventRepository.claimBatch(2, CLAIM_TIMEOUT)).thenReturn(events);
+        lenient().doThrow(new IllegalStateException("sink down")).when(sink).publish(events);
+        lenient().doThrow(new IllegalStateException("sink down")).when(sink).publish(List.of(failing));
+
+        // When
+        int published = outboxRelay.relayBatch(sink);
+
+        // Then
+        assertEquals(1, published);
+        verify(outboxEventRepository).release(eq(List.of(failing.getId())), any());
+        verify(outboxEventRepository, never()).deadLetter(eq(failing.getId()), anyString());
+        verify(outboxEventRepository).deleteClaimed(List.of(exhausted.getId()));
+    }
+
+    @Test
+    void shouldResolveSinkByConfiguredType() {
+        // Given
+        outboxProperties.setSink(OutboxSinkType.FILE);
+        when(sink.canHandle(OutboxSinkType.FILE)).thenReturn(true);
+
+        // When
+        OutboxSink resolved = outboxRelay.resolveSink();
+
+        // Then
+        assertSame(sink, resolved);
+    }
+
+    private OutboxEvent buildEvent(int attempts) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .eventType("transaction.deposit")
+                .payload("{}")
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .attempts(attempts)
+                .build();
+    }
+}
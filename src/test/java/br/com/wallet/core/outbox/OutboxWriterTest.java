@@ -0,0 +1,92 @@
+package br.com.wallet.core.outbox;
+
+import br.com.wallet.domain.model.OutboxEvent;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private OutboxProperties outboxProperties;
+    private OutboxWriter outboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        outboxProperties = new OutboxProperties();
+        outboxWriter = new OutboxWriter(outboxEventRepository, outboxProperties, objectMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOneEventPerTransaction() throws Exception {
+        // Given
+        Transaction deposit = buildTransaction(Transaction.TransactionType.DEPOSIT);
+        Transaction withdraw = buildTransaction(Transaction.TransactionType.WITHDRAW);
+
+        // When
+        outboxWriter.write(List.of(deposit, withdraw));
+
+        // Then
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).insertAll(captor.capture());
+        List<OutboxEvent> events = captor.getValue();
+        assertEquals(2, events.size());
+        assertEquals(deposit.getId(), events.get(0).getAggregateId());
+        assertEquals("transaction.deposit", events.get(0).getEventType());
+        assertEquals("transaction.withdraw", events.get(1).getEventType());
+        assertNotNull(events.get(0).getId());
+        assertNotNull(events.get(0).getCreatedAt());
+
+        JsonNode payload = objectMapper.readTree(events.get(0).getPayload());
+        assertEquals(deposit.getId().toString(), payload.get("id").asText());
+        assertEquals(deposit.getWallet().getId().toString(), payload.get("walletId").asText());
+        assertEquals("DEPOSIT", payload.get("type").asText());
+    }
+
+    @Test
+    void shouldSkipWritingWhenOutboxIsDisabled() {
+        // Given
+        outboxProperties.setEnabled(false);
+
+        // When
+        outboxWriter.write(List.of(buildTransaction(Transaction.TransactionType.DEPOSIT)));
+
+        // Then
+        verify(outboxEventRepository, never()).insertAll(any());
+    }
+
+    private Transaction buildTransaction(Transaction.TransactionType type) {
+        Transaction transaction = Transaction.builder()
+                .wallet(Wallet.builder().id(UUID.randomUUID()).build())
+                .toUserId(UUID.randomUUID())
+                .type(type)
+                .amount(BigDecimal.TEN)
+                .build();
+        transaction.assignIdentity();
+        return transaction;
+    }
+}
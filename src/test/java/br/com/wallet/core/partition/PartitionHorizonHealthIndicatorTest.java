@@ -0,0 +1,70 @@
+package br.com.wallet.core.partition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionHorizonHealthIndicatorTest {
+
+    @Mock
+    private PartitionMaintenanceJob partitionMaintenanceJob;
+
+    @Spy
+    private PartitionProperties partitionProperties = new PartitionProperties();
+
+    @InjectMocks
+    private PartitionHorizonHealthIndicator partitionHorizonHealthIndicator;
+
+    @Test
+    void shouldBeUpWhenEveryTableCoversTheHorizon() {
+        // Given
+        when(partitionMaintenanceJob.findShortHorizons(any())).thenReturn(Map.of());
+
+        // When
+        Health health = partitionHorizonHealthIndicator.health();
+
+        // Then
+        assertEquals(Status.UP, health.getStatus());
+    }
+
+    @Test
+    void shouldBeDownWithTheShortTablesWhenPartitionsRunOut() {
+        // Given
+        Map<String, LocalDate> shortHorizons = Map.of("transactions", LocalDate.of(2024, 6, 1));
+        when(partitionMaintenanceJob.findShortHorizons(any())).thenReturn(shortHorizons);
+
+        // When
+        Health health = partitionHorizonHealthIndicator.health();
+
+        // Then
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals(shortHorizons, health.getDetails().get("shortHorizons"));
+    }
+
+    @Test
+    void shouldSkipHorizonCheckWhenPartitionMaintenanceIsDisabled() {
+        // Given
+        partitionProperties.setEnabled(false);
+
+        // When
+        Health health = partitionHorizonHealthIndicator.health();
+
+        // Then
+        assertEquals(Status.UP, health.getStatus());
+        verifyNoInteractions(partitionMaintenanceJob);
+    }
+}
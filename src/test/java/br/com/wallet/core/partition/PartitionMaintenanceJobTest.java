@@ -0,0 +1,211 @@
+package br.com.wallet.core.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceJobTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PartitionProperties partitionProperties;
+    private PartitionMaintenanceJob partitionMaintenanceJob;
+
+    @BeforeEach
+    void setUp() {
+        partitionProperties = new PartitionProperties();
+        partitionMaintenanceJob = new PartitionMaintenanceJob(partitionProperties, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void shouldResolveUpperBoundFromPartitionName() {
+        // When & Then
+        assertEquals(Optional.of(LocalDate.of(2024, 6, 1)), PartitionMaintenanceJob.upperBound("transactions_p2024_05"));
+        assertEquals(Optional.of(LocalDate.of(2024, 5, 1)),
+                PartitionMaintenanceJob.upperBound("balance_history_p_before_2024_05"));
+        assertEquals(Optional.empty(), PartitionMaintenanceJob.upperBound("transactions_default"));
+    }
+
+    @Test
+    void shouldCreateUpcomingPartitionsAndArchiveExpiredOnes() {
+        // Given
+        YearMonth currentMonth = YearMonth.now();
+        String expired = "transactions_p" + currentMonth.minusMonths(25).format(SUFFIX);
+        String retained = "transactions_p" + currentMonth.minusMonths(23).format(SUFFIX);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        givenPartitions("transactions", partition(expired), partition(retained));
+        givenPartitions("balance_history");
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        verify(jdbcTemplate, times(8)).execute(startsWith("CREATE TABLE IF NOT EXISTS "));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS transactions_p"
+                + currentMonth.plusMonths(3).format(SUFFIX) + " PARTITION OF transactions"));
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION " + expired + " CONCURRENTLY");
+        verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA archive");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE transactions DETACH PARTITION " + retained + " CONCURRENTLY");
+    }
+
+    @Test
+    void shouldNotCreateMonthlyPartitionsInsideLegacyRange() {
+        // Given
+        YearMonth currentMonth = YearMonth.now();
+        String legacy = "transactions_p_before_" + currentMonth.plusMonths(2).format(SUFFIX);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        givenPartitions("transactions", partition(legacy));
+        givenPartitions("balance_history");
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS transactions_p"
+                + currentMonth.format(SUFFIX)));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS transactions_p"
+                + currentMonth.plusMonths(1).format(SUFFIX)));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS transactions_p"
+                + currentMonth.plusMonths(2).format(SUFFIX)));
+        verify(jdbcTemplate, times(6)).execute(startsWith("CREATE TABLE IF NOT EXISTS "));
+    }
+
+    @Test
+    void shouldDropExpiredPartitionsWhenConfigured() {
+        // Given
+        partitionProperties.setRetentionAction(PartitionProperties.RetentionAction.DROP);
+        partitionProperties.setBalanceHistoryRetention(Period.ofMonths(1));
+        String expired = "balance_history_p_before_" + YearMonth.now().minusMonths(1).format(SUFFIX);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        givenPartitions("transactions");
+        givenPartitions("balance_history", partition(expired));
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE balance_history DETACH PARTITION " + expired + " CONCURRENTLY");
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+    }
+
+    @Test
+    void shouldFinalizeInterruptedDetachInsteadOfDetachingAgain() {
+        // Given
+        String pending = "transactions_p" + YearMonth.now().minusMonths(25).format(SUFFIX);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        givenPartitions("transactions", new PartitionMaintenanceJob.Partition(pending, true));
+        givenPartitions("balance_history");
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION " + pending + " FINALIZE");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE transactions DETACH PARTITION " + pending + " CONCURRENTLY");
+        verify(jdbcTemplate).execute("ALTER TABLE " + pending + " SET SCHEMA archive");
+    }
+
+    @Test
+    void shouldKeepRetiringOtherPartitionsWhenOneDetachFails() {
+        // Given
+        partitionProperties.setRetentionAction(PartitionProperties.RetentionAction.DROP);
+        String blocked = "transactions_p" + YearMonth.now().minusMonths(26).format(SUFFIX);
+        String expired = "transactions_p" + YearMonth.now().minusMonths(25).format(SUFFIX);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(true);
+        givenPartitions("transactions", partition(blocked), partition(expired));
+        givenPartitions("balance_history");
+        doThrow(new CannotAcquireLockException("lock timeout")).when(jdbcTemplate)
+                .execute("ALTER TABLE transactions DETACH PARTITION " + blocked + " CONCURRENTLY");
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).execute("DROP TABLE " + blocked);
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+    }
+
+    @Test
+    void shouldReportTablesWhosePartitionsEndBeforeTheMinimumHorizon() {
+        // Given
+        YearMonth currentMonth = YearMonth.of(2024, 5);
+        givenPartitions("transactions", partition("transactions_p_before_2024_05"), partition("transactions_p2024_05"));
+        givenPartitions("balance_history", partition("balance_history_p2024_05"), partition("balance_history_p2024_06"));
+
+        // When
+        Map<String, LocalDate> shortHorizons = partitionMaintenanceJob.findShortHorizons(currentMonth);
+
+        // Then
+        assertEquals(Map.of("transactions", LocalDate.of(2024, 6, 1)), shortHorizons);
+    }
+
+    @Test
+    void shouldSkipStartupMaintenanceAndHorizonCheckWhenDisabled() {
+        // Given
+        partitionProperties.setEnabled(false);
+
+        // When
+        partitionMaintenanceJob.onApplicationReady();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void shouldSkipMaintenanceWhenAnotherNodeHoldsTheLock() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(false);
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(String table, PartitionMaintenanceJob.Partition... partitions) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(table))).thenReturn(List.of(partitions));
+    }
+
+    private static PartitionMaintenanceJob.Partition partition(String name) {
+        return new PartitionMaintenanceJob.Partition(name, false);
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.wallet.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(100);
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReportWaitForNextToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 10, START);
+
+        // When
+        long first = bucket.tryAcquire(START);
+        long second = bucket.tryAcquire(START);
+        long third = bucket.tryAcquire(START);
+        long rejected = bucket.tryAcquire(START);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, third);
+        assertEquals(INTERVAL, rejected);
+    }
+
+    @Test
+    void shouldRefillTokensOverTime() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 10, START);
+        bucket.tryAcquire(START);
+
+        // When
+        long tooEarly = bucket.tryAcquire(START + INTERVAL / 2);
+        long afterRefill = bucket.tryAcquire(START + INTERVAL);
+
+        // Then
+        assertEquals(INTERVAL / 2, tooEarly);
+        assertEquals(0, afterRefill);
+    }
+
+    @Test
+    void shouldReturnRefundedToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 10, START);
+        bucket.tryAcquire(START);
+
+        // When
+        bucket.refund(START);
+
+        // Then
+        assertEquals(0, bucket.tryAcquire(START));
+    }
+
+    @Test
+    void shouldChargeWeightCappedAtCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 10, START);
+
+        // When
+        long heavy = bucket.tryAcquire(START, 100);
+        long rejected = bucket.tryAcquire(START);
+
+        // Then
+        assertEquals(0, heavy);
+        assertEquals(INTERVAL, rejected);
+    }
+
+    @Test
+    void shouldReportWaitUntilEnoughTokensForWeight() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 10, START);
+        bucket.tryAcquire(START, 2);
+
+        // When
+        long rejected = bucket.tryAcquire(START, 2);
+        bucket.refund(START, 2);
+        long afterRefund = bucket.tryAcquire(START, 3);
+
+        // Then
+        assertEquals(INTERVAL, rejected);
+        assertEquals(0, afterRefund);
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 10, START));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, START));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 10, START).tryAcquire(START, 0));
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.wallet.core.ratelimit;
+
+import br.com.wallet.domain.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitProperties rateLimitProperties;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.getUser().setCapacity(2);
+        rateLimitProperties.getUser().setRefillPerSecond(0.001);
+        rateLimitProperties.getWallet().setCapacity(3);
+        rateLimitProperties.getWallet().setRefillPerSecond(0.001);
+    }
+
+    @Test
+    void shouldRejectUserAboveCapacityWithRetryAfter() {
+        // Given
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID userId = UUID.randomUUID();
+        UUID walletId = UUID.randomUUID();
+        limiter.acquire(userId, walletId);
+        limiter.acquire(userId, walletId);
+
+        // When
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire(userId, walletId));
+
+        // Then
+        assertTrue(ex.getRetryAfter().toSeconds() > 0);
+        assertEquals(1.0, meterRegistry.get("wallet.rate.limit.rejected").tag("scope", "user").counter().count());
+    }
+
+    @Test
+    void shouldRejectUserHammeringOneWalletAndRefundUserToken() {
+        // Given
+        rateLimitProperties.getUser().setCapacity(5);
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID walletId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        limiter.acquire(userId, walletId);
+        limiter.acquire(userId, walletId);
+        limiter.acquire(userId, walletId);
+
+        // When
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(userId, walletId));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("wallet.rate.limit.rejected").tag("scope", "wallet").counter().count());
+        assertDoesNotThrow(() -> limiter.acquire(userId, UUID.randomUUID()));
+        assertDoesNotThrow(() -> limiter.acquire(userId, UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldNotLetOneUserExhaustSharedWalletForOthers() {
+        // Given
+        rateLimitProperties.getUser().setCapacity(5);
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID walletId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            limiter.acquire(userId, walletId);
+        }
+
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(userId, walletId));
+        assertDoesNotThrow(() -> limiter.acquire(UUID.randomUUID(), walletId));
+    }
+
+    @Test
+    void shouldChargeWeightedAcquireUpToBucketCapacity() {
+        // Given
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID userId = UUID.randomUUID();
+        UUID walletId = UUID.randomUUID();
+
+        // When
+        limiter.acquire(userId, walletId, 10);
+
+        // Then
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(userId, UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldRefundWholeWeightToUserWhenWalletRejects() {
+        // Given
+        rateLimitProperties.getUser().setCapacity(5);
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID userId = UUID.randomUUID();
+        UUID walletId = UUID.randomUUID();
+        limiter.acquire(userId, walletId);
+
+        // When
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(userId, walletId, 3));
+
+        // Then
+        assertDoesNotThrow(() -> limiter.acquire(userId, UUID.randomUUID(), 4));
+    }
+
+    @Test
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        rateLimitProperties.setEnabled(false);
+        TransactionRateLimiter limiter = new TransactionRateLimiter(rateLimitProperties, meterRegistry);
+        UUID userId = UUID.randomUUID();
+
+        // When / Then
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertDoesNotThrow(() -> limiter.acquire(userId, UUID.randomUUID()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.wallet.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertBetweenBigDecimalAndMinorUnitsWithoutLosingScale() {
+        // When
+        Money money = Money.of(new BigDecimal("10.5"));
+
+        // Then
+        assertEquals(1050, money.minorUnits());
+        assertEquals(new BigDecimal("10.50"), money.toBigDecimal());
+        assertEquals(Money.of(new BigDecimal("10.50")), money);
+        assertSame(Money.ZERO, Money.of(new BigDecimal("0.000")));
+    }
+
+    @Test
+    void shouldRejectAmountsThatDoNotFitTheColumn() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1.005")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("10000000000000000.00")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void shouldRejectArithmeticOverflow() {
+        // Given
+        Money maximum = Money.ofMinorUnits(Money.MAX_MINOR_UNITS);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> maximum.plus(Money.ofMinorUnits(1)));
+        assertThrows(IllegalArgumentException.class, () -> maximum.negate().minus(Money.ofMinorUnits(1)));
+    }
+
+    @Test
+    void shouldCompareAndSubtractBalances() {
+        // Given
+        Money balance = Money.of(new BigDecimal("5.00"));
+        Money amount = Money.of(new BigDecimal("7.25"));
+
+        // When
+        Money result = balance.minus(amount);
+
+        // Then
+        assertTrue(balance.isLessThan(amount));
+        assertTrue(result.isNegative());
+        assertEquals(new BigDecimal("-2.25"), result.toBigDecimal());
+        assertEquals("-2.25", result.toString());
+    }
+}
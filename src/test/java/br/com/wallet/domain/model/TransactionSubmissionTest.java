@@ -0,0 +1,70 @@
+package br.com.wallet.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionSubmissionTest {
+
+    @Test
+    void shouldPartitionDepositsByReceivingUserAndWallet() {
+        // Given
+        UUID walletId = UUID.randomUUID();
+        UUID toUserId = UUID.randomUUID();
+        Transaction deposit = buildTransaction(walletId, null, toUserId, Transaction.TransactionType.DEPOSIT);
+
+        // When
+        TransactionSubmission submission = TransactionSubmission.pending(deposit, "key-1");
+
+        // Then
+        assertEquals(toUserId, submission.getUserId());
+        assertEquals(TransactionSubmission.slotOf(toUserId, walletId), submission.getSlot());
+    }
+
+    @Test
+    void shouldPartitionTransfersBySendingUserAndWallet() {
+        // Given
+        UUID walletId = UUID.randomUUID();
+        UUID fromUserId = UUID.randomUUID();
+        Transaction transfer = buildTransaction(walletId, fromUserId, UUID.randomUUID(),
+                Transaction.TransactionType.TRANSFER);
+
+        // When
+        TransactionSubmission submission = TransactionSubmission.pending(transfer, null);
+
+        // Then
+        assertEquals(fromUserId, submission.getUserId());
+        assertEquals(TransactionSubmission.slotOf(fromUserId, walletId), submission.getSlot());
+    }
+
+    @Test
+    void shouldCarryIdempotencyKeyBackIntoTransaction() {
+        // Given
+        UUID walletId = UUID.randomUUID();
+        Transaction withdraw = buildTransaction(walletId, UUID.randomUUID(), null,
+                Transaction.TransactionType.WITHDRAW);
+        TransactionSubmission submission = TransactionSubmission.pending(withdraw, "key-1");
+
+        // When
+        Transaction transaction = submission.toTransaction();
+
+        // Then
+        assertEquals("key-1", transaction.getIdempotencyKey());
+        assertEquals(walletId, transaction.getWallet().getId());
+        assertEquals(withdraw.getFromUserId(), transaction.getFromUserId());
+    }
+
+    private Transaction buildTransaction(UUID walletId, UUID fromUserId, UUID toUserId,
+                                         Transaction.TransactionType type) {
+        return Transaction.builder()
+                .wallet(Wallet.builder().id(walletId).build())
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .type(type)
+                .amount(BigDecimal.TEN)
+                .build();
+    }
+}
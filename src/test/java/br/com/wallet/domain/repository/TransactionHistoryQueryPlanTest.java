@@ -0,0 +1,155 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import br.com.wallet.integration.EmbeddedPostgresSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+class TransactionHistoryQueryPlanTest {
+
+    private static final long ROWS = 10_000_000L;
+    private static final String SENT_INDEX = "idx_transactions_wallet_from_user_created";
+    private static final String RECEIVED_INDEX = "idx_transactions_wallet_to_user_created";
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID walletId;
+    private UUID userId;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        embeddedPostgres = EmbeddedPostgresSupport.start(registry);
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @BeforeAll
+    void setUp() {
+        walletId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO wallets (id, name) VALUES (?, ?)", walletId, "history-plan-regression");
+        userId = jdbcTemplate.queryForObject("SELECT md5('user-42')::uuid", UUID.class);
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, wallet_id, from_user_id, to_user_id, type, amount, description, created_at)
+                SELECT gen_random_uuid(),
+                       ?,
+                       CASE WHEN g % 3 = 0 THEN NULL ELSE md5('user-' || (g % 10000))::uuid END,
+                       CASE WHEN g % 3 = 1 THEN NULL ELSE md5('user-' || ((g * 7) % 10000))::uuid END,
+                       CASE g % 3 WHEN 0 THEN 'DEPOSIT' WHEN 1 THEN 'WITHDRAW' ELSE 'TRANSFER' END,
+                       (g % 1000) + 1,
+                       'seed',
+                       TIMESTAMP '2020-01-01' + g * INTERVAL '1 second'
+                  FROM generate_series(1, ?) g
+                """, walletId, ROWS);
+        jdbcTemplate.execute("VACUUM ANALYZE transactions");
+    }
+
+    @Test
+    void shouldReadFirstHistoryPageFromCoveringIndexesOnly() throws Exception {
+        // Given
+        TransactionHistoryFilter filter = new TransactionHistoryFilter(walletId, userId, null, null, null, null, null);
+
+        // When
+        List<JsonNode> scans = explain(TransactionHistoryQuery.of(filter, null, 51));
+
+        // Then
+        assertIndexOnly(scans);
+    }
+
+    @Test
+    void shouldReadFilteredHistoryPageAfterCursorFromCoveringIndexesOnly() throws Exception {
+        // Given
+        UUID after = jdbcTemplate.queryForObject("""
+                SELECT id FROM transactions WHERE wallet_id = ? AND to_user_id = ?
+                 ORDER BY created_at DESC, id DESC OFFSET 100 LIMIT 1
+                """, UUID.class, walletId, userId);
+        TransactionHistoryFilter filter = new TransactionHistoryFilter(walletId, userId,
+                Transaction.TransactionType.TRANSFER, BigDecimal.ONE, new BigDecimal("900"),
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        // When
+        List<JsonNode> scans = explain(TransactionHistoryQuery.of(filter, after, 51));
+
+        // Then
+        assertIndexOnly(scans);
+    }
+
+    private List<JsonNode> explain(TransactionHistoryQuery query) throws Exception {
+        String sql = query.sql().replaceAll("\\?\\d+", "?");
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class,
+                query.parameters().toArray());
+        List<JsonNode> scans = new ArrayList<>();
+        collectTransactionScans(objectMapper.readTree(plan).get(0).get("Plan"), scans);
+        return scans;
+    }
+
+    private void collectTransactionScans(JsonNode node, List<JsonNode> scans) {
+        if (node.path("Relation Name").asText().startsWith("transactions")) {
+            scans.add(node);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectTransactionScans(child, scans);
+        }
+    }
+
+    private void assertIndexOnly(List<JsonNode> scans) {
+        assertFalse(scans.stream().anyMatch(scan -> "Seq Scan".equals(scan.path("Node Type").asText())));
+        for (String index : List.of(SENT_INDEX, RECEIVED_INDEX)) {
+            Set<String> indexNames = indexWithPartitions(index);
+            List<String> nodeTypes = scans.stream()
+                    .filter(scan -> indexNames.contains(scan.path("Index Name").asText()))
+                    .map(scan -> scan.path("Node Type").asText())
+                    .distinct()
+                    .toList();
+            assertEquals(List.of("Index Only Scan"), nodeTypes, "Unexpected access path for " + index);
+        }
+    }
+
+    private Set<String> indexWithPartitions(String index) {
+        Set<String> names = new HashSet<>(jdbcTemplate.queryForList("""
+                SELECT child.relname
+                  FROM pg_inherits inheritance
+                  JOIN pg_class child ON child.oid = inheritance.inhrelid
+                 WHERE inheritance.inhparent = ?::regclass
+                """, String.class, index));
+        names.add(index);
+        return names;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionHistoryFilter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionHistoryQueryTest {
+
+    private final UUID walletId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldQuerySentAndReceivedBranchesNewestFirst() {
+        // Given
+        TransactionHistoryFilter filter = new TransactionHistoryFilter(walletId, userId, null, null, null, null, null);
+
+        // When
+        TransactionHistoryQuery query = TransactionHistoryQuery.of(filter, null, 51);
+
+        // Then
+        assertTrue(query.sql().contains("t.wallet_id = ?1 AND t.from_user_id = ?2"));
+        assertTrue(query.sql().contains("t.wallet_id = ?4 AND t.to_user_id = ?5"));
+        assertTrue(query.sql().endsWith("ORDER BY h.created_at DESC, h.id DESC LIMIT ?7"));
+        assertFalse(query.sql().contains("SELECT c.created_at"));
+        assertEquals(List.of(walletId, userId, 51, walletId, userId, 51, 51), query.parameters());
+    }
+
+    @Test
+    void shouldBindOptionalFiltersAndCursorInBothBranches() {
+        // Given
+        UUID after = UUID.randomUUID();
+        TransactionHistoryFilter filter = new TransactionHistoryFilter(walletId, userId,
+                Transaction.TransactionType.TRANSFER, BigDecimal.ONE, BigDecimal.TEN, null, null);
+
+        // When
+        TransactionHistoryQuery query = TransactionHistoryQuery.of(filter, after, 11);
+
+        // Then
+        assertTrue(query.sql().contains("t.type = ?3 AND t.amount >= ?4 AND t.amount <= ?5"));
+        assertTrue(query.sql().contains("(t.created_at, t.id) < (SELECT c.created_at, c.id FROM transactions c WHERE c.id = ?6)"));
+        assertEquals(List.of(walletId, userId, "TRANSFER", BigDecimal.ONE, BigDecimal.TEN, after, 11,
+                walletId, userId, "TRANSFER", BigDecimal.ONE, BigDecimal.TEN, after, 11, 11), query.parameters());
+    }
+
+    @Test
+    void shouldRejectInvertedAmountRange() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new TransactionHistoryFilter(
+                walletId, userId, null, BigDecimal.TEN, BigDecimal.ONE, null, null));
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import br.com.wallet.integration.EmbeddedPostgresSupport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("integration")
+@SpringBootTest
+class TransactionPersistenceTest {
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Wallet wallet;
+    private UUID fromUserId;
+    private UUID toUserId;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        embeddedPostgres = EmbeddedPostgresSupport.start(registry);
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        wallet = walletService.save(Wallet.builder().name("persistence-" + UUID.randomUUID()).build());
+        fromUserId = userWalletService.save(
+                UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build()).getUserId();
+        toUserId = userWalletService.save(
+                UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build()).getUserId();
+    }
+
+    @Test
+    void shouldInsertTransferPairAndReadItBack() {
+        // Given
+        Transaction source = transfer("insert-" + UUID.randomUUID());
+        source.assignIdentity();
+        Transaction target = Transaction.builder()
+                .wallet(wallet)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .type(Transaction.TransactionType.TRANSFER)
+                .amount(source.getAmount())
+                .description(source.getDescription())
+                .relatedTransaction(source)
+                .destinationWalletId(wallet.getId())
+                .createdAt(source.getCreatedAt())
+                .build();
+        target.assignIdentity();
+        source.setRelatedTransaction(target);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> transactionRepository.insertAll(List.of(source, target)));
+
+        // Then
+        transactionTemplate.executeWithoutResult(status -> {
+            Transaction storedSource = transactionRepository.findById(source.getId()).orElseThrow();
+            Transaction storedTarget = transactionRepository.findById(target.getId()).orElseThrow();
+            assertEquals(wallet.getId(), storedSource.getWallet().getId());
+            assertEquals(fromUserId, storedSource.getFromUserId());
+            assertEquals(toUserId, storedSource.getToUserId());
+            assertEquals(Transaction.TransactionType.TRANSFER, storedSource.getType());
+            assertEquals(0, new BigDecimal("25.50").compareTo(storedSource.getAmount()));
+            assertEquals("Persisted transfer", storedSource.getDescription());
+            assertEquals(target.getId(), storedSource.getRelatedTransaction().getId());
+            assertEquals(source.getId(), storedTarget.getRelatedTransaction().getId());
+            assertEquals(wallet.getId(), storedSource.getDestinationWalletId());
+            assertEquals(source.getIdempotencyKey(), storedSource.getIdempotencyKey());
+            assertNull(storedTarget.getIdempotencyKey());
+            assertEquals(source.getCreatedAt().truncatedTo(ChronoUnit.MICROS), storedSource.getCreatedAt());
+            assertEquals(storedSource.getCreatedAt(), storedTarget.getCreatedAt());
+        });
+        List<Map<String, Object>> keys = jdbcTemplate.queryForList(
+                "SELECT user_id, transaction_id FROM transaction_idempotency_keys WHERE idempotency_key = ?",
+                source.getIdempotencyKey());
+        assertEquals(1, keys.size());
+        assertEquals(fromUserId, keys.get(0).get("user_id"));
+        assertEquals(source.getId(), keys.get(0).get("transaction_id"));
+    }
+
+    @Test
+    void shouldPersistProcessedTransferAndFindItByIdempotencyKey() {
+        // Given
+        Transaction deposit = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(fromUserId)
+                .amount(new BigDecimal("100.00"))
+                .build();
+        transactionService.processTransactionWithWallet(deposit, wallet.getId(), transactionService::deposit);
+        String idempotencyKey = "processed-" + UUID.randomUUID();
+
+        // When
+        Transaction processed = transactionService.processTransactionWithWallet(
+                transfer(idempotencyKey), wallet.getId(), transactionService::transfer);
+
+        // Then
+        Transaction replayed = transactionService.findByIdempotencyKey(fromUserId, idempotencyKey).orElseThrow();
+        assertEquals(processed.getId(), replayed.getId());
+        assertEquals(wallet.getId(), replayed.getDestinationWalletId());
+        assertTrue(transactionService.findByIdempotencyKey(toUserId, idempotencyKey).isEmpty());
+        Long legs = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM transactions WHERE id = ? OR related_transaction_id = ?",
+                Long.class, processed.getId(), processed.getId());
+        assertEquals(2L, legs);
+    }
+
+    private Transaction transfer(String idempotencyKey) {
+        return Transaction.builder()
+                .wallet(wallet)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .type(Transaction.TransactionType.TRANSFER)
+                .amount(new BigDecimal("25.50"))
+                .description("Persisted transfer")
+                .idempotencyKey(idempotencyKey)
+                .destinationWalletId(wallet.getId())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
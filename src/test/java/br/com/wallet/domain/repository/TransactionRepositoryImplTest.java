@@ -0,0 +1,76 @@
+package br.com.wallet.domain.repository;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.Wallet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionRepositoryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    private TransactionRepositoryImpl transactionRepositoryImpl;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepositoryImpl = new TransactionRepositoryImpl();
+        ReflectionTestUtils.setField(transactionRepositoryImpl, "entityManager", entityManager);
+    }
+
+    @Test
+    void shouldWriteLinkedTransferLegsWithOneStatement() {
+        // Given
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        Wallet wallet = Wallet.builder().id(UUID.randomUUID()).build();
+        Transaction source = buildTransfer(wallet);
+        Transaction target = buildTransfer(wallet);
+        source.setRelatedTransaction(target);
+        target.setRelatedTransaction(source);
+
+        // When
+        transactionRepositoryImpl.insertAll(List.of(source, target));
+
+        // Then
+        verify(entityManager, times(1)).createNativeQuery(contains("VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9, ?10, ?11), (?12,"));
+        verify(query, times(1)).executeUpdate();
+        verify(query).setParameter(eq(8), eq(target.getId()));
+        verify(query).setParameter(eq(19), eq(source.getId()));
+        verify(query, times(22)).setParameter(anyInt(), any());
+    }
+
+    private Transaction buildTransfer(Wallet wallet) {
+        Transaction transaction = Transaction.builder()
+                .wallet(wallet)
+                .fromUserId(UUID.randomUUID())
+                .toUserId(UUID.randomUUID())
+                .type(Transaction.TransactionType.TRANSFER)
+                .amount(BigDecimal.ONE)
+                .build();
+        transaction.assignIdentity();
+        return transaction;
+    }
+}
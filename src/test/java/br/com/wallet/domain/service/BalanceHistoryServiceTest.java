@@ -0,0 +1,88 @@
+package br.com.wallet.domain.service;
+
+import br.com.wallet.domain.model.BalanceAt;
+import br.com.wallet.domain.model.BalanceSeriesBucket;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHistoryServiceTest {
+
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @InjectMocks
+    private BalanceHistoryService balanceHistoryService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID walletId = UUID.randomUUID();
+
+    @Test
+    void shouldReturnLatestBalanceRecordedAtOrBeforeInstant() {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2024, 5, 1, 12, 0);
+        BalanceAt balance = new BalanceAt(userId, walletId, at, BigDecimal.TEN, at.minusMinutes(3));
+        when(balanceHistoryRepository.findBalanceAt(userId, walletId, at)).thenReturn(Optional.of(balance));
+
+        // When
+        BalanceAt result = balanceHistoryService.findBalanceAt(userId, walletId, at);
+
+        // Then
+        assertEquals(balance, result);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoBalanceWasRecordedBeforeInstant() {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(balanceHistoryRepository.findBalanceAt(userId, walletId, at)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> balanceHistoryService.findBalanceAt(userId, walletId, at));
+    }
+
+    @Test
+    void shouldQuerySeriesWhenBucketCountIsWithinLimit() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        when(balanceHistoryRepository.findSeries(userId, walletId, BalanceSeriesBucket.HOUR, from, to))
+                .thenReturn(List.of());
+
+        // When
+        balanceHistoryService.findSeries(userId, walletId, BalanceSeriesBucket.HOUR, from, to);
+
+        // Then
+        verify(balanceHistoryRepository).findSeries(userId, walletId, BalanceSeriesBucket.HOUR, from, to);
+    }
+
+    @Test
+    void shouldRejectSeriesWithTooManyBuckets() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = from.plusMinutes(BalanceHistoryService.MAX_SERIES_POINTS + 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> balanceHistoryService.findSeries(userId, walletId, BalanceSeriesBucket.MINUTE, from, to));
+        verify(balanceHistoryRepository, never()).findSeries(any(), any(), any(), any(), any());
+    }
+}
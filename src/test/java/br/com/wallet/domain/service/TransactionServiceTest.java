@@ -1,9 +1,17 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.domain.model.CursorPage;
 import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionSummary;
+import br.com.wallet.domain.model.UserWalletKey;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.repository.TransactionRepository;
+import br.com.wallet.domain.service.transaction.BalanceManager;
+import br.com.wallet.domain.service.transaction.SavepointExecutor;
 import br.com.wallet.domain.service.transaction.TransactionProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,19 +19,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +63,15 @@ class TransactionServiceTest {
     @Mock
     private TransactionProcessor transferProcessor;
 
+    @Mock
+    private BalanceManager balanceManager;
+
+    @Mock
+    private SavepointExecutor savepointExecutor;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -81,6 +108,9 @@ class TransactionServiceTest {
         Mockito.lenient().when(transferProcessor.canProcess(Transaction.TransactionType.WITHDRAW)).thenReturn(false);
         Mockito.lenient().when(transferProcessor.canProcess(Transaction.TransactionType.TRANSFER)).thenReturn(true);
 
+        Mockito.lenient().when(savepointExecutor.execute(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
         // Set up the transactionProcessors list in the TransactionService
         List<TransactionProcessor> processors = new ArrayList<>();
         processors.add(depositProcessor);
@@ -304,17 +334,126 @@ class TransactionServiceTest {
     }
 
     @Test
-    void shouldReturnAllTransactionsWhenFindingAll() {
+    void shouldLockAllUserWalletsOnceAndProcessEachItemWhenProcessingBatch() {
+        // Given
+        Transaction deposit = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(toUserId)
+                .wallet(Wallet.builder().id(walletId).build())
+                .amount(new BigDecimal("10.00"))
+                .build();
+        Transaction withdraw = Transaction.builder()
+                .type(Transaction.TransactionType.WITHDRAW)
+                .fromUserId(fromUserId)
+                .wallet(Wallet.builder().id(walletId).build())
+                .amount(new BigDecimal("5.00"))
+                .build();
+
+        when(walletService.findAllByIds(Set.of(walletId))).thenReturn(Map.of(walletId, wallet));
+        when(depositProcessor.process(deposit)).thenReturn(deposit);
+        when(withdrawProcessor.process(withdraw)).thenReturn(withdraw);
+
+        // When
+        List<TransactionBatchResult> results = transactionService.processBatch(List.of(deposit, withdraw));
+
+        // Then
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(wallet, deposit.getWallet());
+        verify(balanceManager).lockAll(Set.of(
+                new UserWalletKey(toUserId, walletId),
+                new UserWalletKey(fromUserId, walletId)));
+    }
+
+    @Test
+    void shouldReportItemFailureAndKeepProcessingWhenBatchItemIsRejected() {
+        // Given
+        Transaction withdraw = Transaction.builder()
+                .type(Transaction.TransactionType.WITHDRAW)
+                .fromUserId(fromUserId)
+                .wallet(Wallet.builder().id(walletId).build())
+                .amount(new BigDecimal("500.00"))
+                .build();
+        Transaction deposit = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(toUserId)
+                .wallet(Wallet.builder().id(walletId).build())
+                .amount(new BigDecimal("10.00"))
+                .build();
+
+        when(walletService.findAllByIds(Set.of(walletId))).thenReturn(Map.of(walletId, wallet));
+        when(withdrawProcessor.process(withdraw)).thenThrow(new IllegalArgumentException("Insufficient balance"));
+        when(depositProcessor.process(deposit)).thenReturn(deposit);
+
+        // When
+        List<TransactionBatchResult> results = transactionService.processBatch(List.of(withdraw, deposit));
+
+        // Then
+        assertFalse(results.get(0).isSuccess());
+        assertEquals("Insufficient balance", results.get(0).errorMessage());
+        assertTrue(results.get(1).isSuccess());
+        verify(savepointExecutor, times(2)).execute(any());
+    }
+
+    @Test
+    void shouldFailItemWithoutProcessingWhenBatchWalletDoesNotExist() {
+        // Given
+        UUID unknownWalletId = UUID.randomUUID();
+        Transaction deposit = Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .toUserId(toUserId)
+                .wallet(Wallet.builder().id(unknownWalletId).build())
+                .amount(new BigDecimal("10.00"))
+                .build();
+
+        when(walletService.findAllByIds(Set.of(unknownWalletId))).thenReturn(Map.of());
+
+        // When
+        List<TransactionBatchResult> results = transactionService.processBatch(List.of(deposit));
+
+        // Then
+        assertFalse(results.get(0).isSuccess());
+        assertEquals("Wallet not found with id: " + unknownWalletId, results.get(0).errorMessage());
+        verify(depositProcessor, never()).process(any());
+    }
+
+    @Test
+    void shouldReturnFirstPageWithNextCursorWhenMoreTransactionsExist() {
+        // Given
+        TransactionSummary first = buildSummary();
+        TransactionSummary second = buildSummary();
+        TransactionSummary third = buildSummary();
+        when(transactionRepository.findSummariesAfter(new UUID(0L, 0L), Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+
+        // When
+        CursorPage<TransactionSummary> result = transactionService.findAll(null, 2);
+
+        // Then
+        assertEquals(List.of(first, second), result.items());
+        assertEquals(second.id(), result.nextCursor());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutNextCursor() {
         // Given
-        List<Transaction> transactions = List.of(transaction);
-        when(transactionRepository.findAll()).thenReturn(transactions);
+        UUID after = UUID.randomUUID();
+        TransactionSummary summary = buildSummary();
+        when(transactionRepository.findSummariesAfter(after, Limit.of(3))).thenReturn(List.of(summary));
 
         // When
-        List<Transaction> result = transactionService.findAll();
+        CursorPage<TransactionSummary> result = transactionService.findAll(after, 2);
 
         // Then
-        assertEquals(transactions, result);
-        verify(transactionRepository).findAll();
+        assertEquals(List.of(summary), result.items());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void shouldRejectLimitAboveMaximum() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> transactionService.findAll(null, CursorPage.MAX_LIMIT + 1));
     }
 
     @Test
@@ -341,4 +480,9 @@ class TransactionServiceTest {
         assertThrows(EntityNotFoundException.class, () -> transactionService.findById(id));
         verify(transactionRepository).findById(id);
     }
-}
\ No newline at end of file
+
+    private TransactionSummary buildSummary() {
+        return new TransactionSummary(UUID.randomUUID(), UUID.randomUUID(), "Wallet", null, UUID.randomUUID(),
+                Transaction.TransactionType.DEPOSIT, BigDecimal.TEN, "Deposit", null, null);
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.wallet.domain.service;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import br.com.wallet.domain.service.transaction.submission.SubmissionCompletionNotifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSubmissionServiceTest {
+
+    @Mock
+    private TransactionSubmissionRepository transactionSubmissionRepository;
+
+    @Mock
+    private SubmissionCompletionNotifier submissionCompletionNotifier;
+
+    @Spy
+    private SubmissionProperties submissionProperties = new SubmissionProperties();
+
+    @InjectMocks
+    private TransactionSubmissionService transactionSubmissionService;
+
+    private UUID submissionId;
+
+    @BeforeEach
+    void setUp() {
+        submissionId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldReturnFinishedSubmissionWithoutWaiting() throws InterruptedException {
+        // Given
+        TransactionSubmission completed = buildSubmission(TransactionSubmission.SubmissionStatus.COMPLETED);
+        when(transactionSubmissionRepository.findById(submissionId)).thenReturn(Optional.of(completed));
+
+        // When
+        TransactionSubmission result = transactionSubmissionService.awaitCompletion(submissionId, Duration.ofSeconds(5));
+
+        // Then
+        assertSame(completed, result);
+        verify(submissionCompletionNotifier, never()).await(any(), any());
+    }
+
+    @Test
+    void shouldReloadSubmissionOnceWorkersNotifyCompletion() throws InterruptedException {
+        // Given
+        TransactionSubmission pending = buildSubmission(TransactionSubmission.SubmissionStatus.PENDING);
+        TransactionSubmission completed = buildSubmission(TransactionSubmission.SubmissionStatus.COMPLETED);
+        when(transactionSubmissionRepository.findById(submissionId))
+                .thenReturn(Optional.of(pending), Optional.of(completed));
+
+        // When
+        TransactionSubmission result = transactionSubmissionService.awaitCompletion(submissionId, Duration.ofSeconds(5));
+
+        // Then
+        assertSame(completed, result);
+        verify(submissionCompletionNotifier, times(1)).await(eq(submissionId), any());
+    }
+
+    @Test
+    void shouldReturnPendingSubmissionWhenWaitElapses() throws InterruptedException {
+        // Given
+        TransactionSubmission pending = buildSubmission(TransactionSubmission.SubmissionStatus.PENDING);
+        when(transactionSubmissionRepository.findById(submissionId)).thenReturn(Optional.of(pending));
+        doAnswer(invocation -> {
+            Thread.sleep(invocation.<Duration>getArgument(1).toMillis());
+            return null;
+        }).when(submissionCompletionNotifier).await(eq(submissionId), any());
+
+        // When
+        TransactionSubmission result = transactionSubmissionService.awaitCompletion(submissionId, Duration.ofMillis(50));
+
+        // Then
+        assertSame(pending, result);
+        assertFalse(result.isDone());
+    }
+
+    @Test
+    void shouldStopWaitingWhenInterrupted() throws InterruptedException {
+        // Given
+        TransactionSubmission pending = buildSubmission(TransactionSubmission.SubmissionStatus.PENDING);
+        when(transactionSubmissionRepository.findById(submissionId)).thenReturn(Optional.of(pending));
+        doAnswer(invocation -> {
+            throw new InterruptedException();
+        }).when(submissionCompletionNotifier).await(eq(submissionId), any());
+
+        // When
+        TransactionSubmission result = transactionSubmissionService.awaitCompletion(submissionId, Duration.ofSeconds(5));
+
+        // Then
+        assertSame(pending, result);
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void shouldRejectWaitOutsideConfiguredBounds() {
+        // Given
+        submissionProperties.setMaxWait(Duration.ofSeconds(10));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionSubmissionService.awaitCompletion(submissionId, Duration.ofSeconds(11)));
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionSubmissionService.awaitCompletion(submissionId, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void shouldScopeIdempotencyKeyLookupByUser() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        TransactionSubmission submission = buildSubmission(TransactionSubmission.SubmissionStatus.PENDING);
+        when(transactionSubmissionRepository.findByUserIdAndIdempotencyKey(userId, "key-1"))
+                .thenReturn(Optional.of(submission));
+
+        // When
+        Optional<TransactionSubmission> result = transactionSubmissionService.findByIdempotencyKey(userId, "key-1");
+
+        // Then
+        assertEquals(Optional.of(submission), result);
+    }
+
+    private TransactionSubmission buildSubmission(TransactionSubmission.SubmissionStatus status) {
+        return TransactionSubmission.builder()
+                .id(submissionId)
+                .status(status)
+                .build();
+    }
+}
@@ -1,23 +1,33 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.cache.UserWalletCache;
+import br.com.wallet.core.cache.UserWalletCacheProperties;
 import br.com.wallet.domain.exception.DuplicateUserWalletException;
+import br.com.wallet.domain.model.CursorPage;
+import br.com.wallet.domain.model.Money;
 import br.com.wallet.domain.model.UserWallet;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.repository.UserWalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +39,9 @@ class UserWalletServiceTest {
     @Mock
     private WalletService walletService;
 
+    @Spy
+    private UserWalletCache userWalletCache = new UserWalletCache(new UserWalletCacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserWalletService userWalletService;
 
@@ -51,7 +64,7 @@ class UserWalletServiceTest {
                 .id(UUID.randomUUID())
                 .userId(userId)
                 .wallet(wallet)
-                .balance(BigDecimal.ZERO)
+                .balance(Money.ZERO)
                 .build();
     }
 
@@ -59,7 +72,7 @@ class UserWalletServiceTest {
     void shouldSaveUserWalletWhenUserWalletAssociationIsUnique() {
         // Given
         when(userWalletRepository.findByUserIdAndWalletId(userId, walletId)).thenReturn(Optional.empty());
-        when(walletService.findById(walletId)).thenReturn(wallet);
+        when(walletService.getReference(walletId)).thenReturn(wallet);
         when(userWalletRepository.save(any(UserWallet.class))).thenReturn(userWallet);
 
         // When
@@ -88,7 +101,7 @@ class UserWalletServiceTest {
                 .id(id)
                 .userId(userId)
                 .wallet(wallet)
-                .balance(BigDecimal.TEN)
+                .balance(Money.of(BigDecimal.TEN))
                 .build();
 
         UserWallet updatedUserWallet = UserWallet.builder()
@@ -117,7 +130,7 @@ class UserWalletServiceTest {
                 .id(id)
                 .userId(userId)
                 .wallet(wallet)
-                .balance(BigDecimal.TEN)
+                .balance(Money.of(BigDecimal.TEN))
                 .build();
 
         UserWallet updatedUserWallet = UserWallet.builder()
@@ -147,7 +160,7 @@ class UserWalletServiceTest {
                 .id(id)
                 .userId(userId)
                 .wallet(wallet)
-                .balance(BigDecimal.TEN)
+                .balance(Money.of(BigDecimal.TEN))
                 .build();
 
         UserWallet anotherUserWallet = UserWallet.builder()
@@ -167,4 +180,56 @@ class UserWalletServiceTest {
         // When & Then
         assertThrows(DuplicateUserWalletException.class, () -> userWalletService.update(id, updatedUserWallet));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeRepeatedUserWalletLookupsFromCache() {
+        // Given
+        when(userWalletRepository.findByUserIdAndWalletId(userId, walletId)).thenReturn(Optional.of(userWallet));
+        when(walletService.findById(walletId)).thenReturn(wallet);
+
+        // When
+        UserWallet first = userWalletService.findByUserIdAndWalletId(userId, walletId);
+        UserWallet second = userWalletService.findByUserIdAndWalletId(userId, walletId);
+
+        // Then
+        assertEquals(userWallet.getId(), first.getId());
+        assertEquals(walletId, second.getWallet().getId());
+        verify(userWalletRepository, times(1)).findByUserIdAndWalletId(userId, walletId);
+    }
+
+    @Test
+    void shouldReloadUserWalletsAfterDelete() {
+        // Given
+        when(userWalletRepository.findByUserId(userId)).thenReturn(List.of(userWallet));
+        when(userWalletRepository.findById(userWallet.getId())).thenReturn(Optional.of(userWallet));
+        when(walletService.findById(walletId)).thenReturn(wallet);
+        userWalletService.findByUserId(userId);
+
+        // When
+        userWalletService.delete(userWallet.getId());
+        userWalletService.findByUserId(userId);
+
+        // Then
+        verify(userWalletRepository, times(2)).findByUserId(userId);
+    }
+
+    @Test
+    void shouldPageUserWalletsOfUserInIdOrder() {
+        // Given
+        UserWallet first = UserWallet.builder().id(new UUID(1L, 0L)).userId(userId).wallet(wallet).build();
+        UserWallet second = UserWallet.builder().id(new UUID(2L, 0L)).userId(userId).wallet(wallet).build();
+        UserWallet third = UserWallet.builder().id(new UUID(3L, 0L)).userId(userId).wallet(wallet).build();
+        when(userWalletRepository.findByUserId(userId)).thenReturn(List.of(third, first, second));
+        when(walletService.findById(walletId)).thenReturn(wallet);
+
+        // When
+        CursorPage<UserWallet> firstPage = userWalletService.findByUserId(userId, null, 2);
+        CursorPage<UserWallet> secondPage = userWalletService.findByUserId(userId, firstPage.nextCursor(), 2);
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.items().stream().map(UserWallet::getId).toList());
+        assertEquals(second.getId(), firstPage.nextCursor());
+        assertEquals(List.of(third.getId()), secondPage.items().stream().map(UserWallet::getId).toList());
+        assertNull(secondPage.nextCursor());
+    }
+}
@@ -1,21 +1,29 @@
 package br.com.wallet.domain.service;
 
+import br.com.wallet.core.cache.WalletCache;
+import br.com.wallet.core.cache.WalletCacheProperties;
 import br.com.wallet.domain.exception.DuplicateWalletNameException;
 import br.com.wallet.domain.model.Wallet;
 import br.com.wallet.domain.repository.WalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +32,9 @@ public class WalletServiceTest {
     @Mock
     private WalletRepository walletRepository;
 
+    @Spy
+    private WalletCache walletCache = new WalletCache(new WalletCacheProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private WalletService walletService;
 
@@ -136,4 +147,63 @@ public class WalletServiceTest {
         // When & Then
         assertThrows(DuplicateWalletNameException.class, () -> walletService.update(id, updatedWallet));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeRepeatedFindByIdFromCache() {
+        // Given
+        when(walletRepository.findById(wallet.getId())).thenReturn(Optional.of(wallet));
+
+        // When
+        Wallet first = walletService.findById(wallet.getId());
+        Wallet second = walletService.findById(wallet.getId());
+
+        // Then
+        assertEquals(wallet, first);
+        assertEquals(wallet, second);
+        verify(walletRepository, times(1)).findById(wallet.getId());
+    }
+
+    @Test
+    void shouldReloadWalletAfterDelete() {
+        // Given
+        when(walletRepository.findById(wallet.getId())).thenReturn(Optional.of(wallet));
+        walletService.findById(wallet.getId());
+
+        // When
+        walletService.delete(wallet.getId());
+
+        // Then
+        assertEquals(wallet, walletService.findById(wallet.getId()));
+        verify(walletRepository, times(2)).findById(wallet.getId());
+        verify(walletRepository).delete(wallet);
+    }
+
+    @Test
+    void shouldHandOutCopiesOfCachedWallet() {
+        // Given
+        when(walletRepository.findById(wallet.getId())).thenReturn(Optional.of(wallet));
+        walletService.findById(wallet.getId());
+
+        // When
+        Wallet cached = walletService.findById(wallet.getId());
+        cached.setName("Changed by caller");
+
+        // Then
+        assertNotSame(wallet, cached);
+        assertEquals(walletName, walletService.findById(wallet.getId()).getName());
+    }
+
+    @Test
+    void shouldReturnRepositoryReferenceForAssociations() {
+        // Given
+        Wallet reference = Wallet.builder().id(wallet.getId()).build();
+        when(walletRepository.findById(wallet.getId())).thenReturn(Optional.of(wallet));
+        when(walletRepository.getReferenceById(wallet.getId())).thenReturn(reference);
+
+        // When
+        Wallet result = walletService.getReference(wallet.getId());
+
+        // Then
+        assertSame(reference, result);
+    }
+}
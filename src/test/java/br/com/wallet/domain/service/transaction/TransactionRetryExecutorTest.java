@@ -0,0 +1,70 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionRetryExecutorTest {
+
+    private TransactionRetryExecutor transactionRetryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        BalanceProperties balanceProperties = new BalanceProperties();
+        balanceProperties.getRetry().setMaxAttempts(3);
+        balanceProperties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        balanceProperties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+        transactionRetryExecutor = new TransactionRetryExecutor(balanceProperties);
+    }
+
+    @Test
+    void shouldRetryAndReturnResultWhenOptimisticConflictIsTransient() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = transactionRetryExecutor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("UserWallet", "id");
+            }
+            return "done";
+        });
+
+        // Then
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void shouldRethrowWhenOptimisticConflictPersistsAfterMaxAttempts() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transactionRetryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("UserWallet", "id");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void shouldNotRetryWhenFailureIsNotAnOptimisticConflict() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> transactionRetryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Insufficient balance");
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
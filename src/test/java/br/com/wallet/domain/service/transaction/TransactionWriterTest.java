@@ -0,0 +1,83 @@
+package br.com.wallet.domain.service.transaction;
+
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.core.outbox.OutboxWriter;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionWriterTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private TransactionWriter transactionWriter;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldInsertImmediatelyWithoutActiveTransaction() {
+        // Given
+        Transaction transaction = buildDeposit();
+
+        // When
+        transactionWriter.write(List.of(transaction));
+
+        // Then
+        assertNotNull(transaction.getId());
+        assertNotNull(transaction.getCreatedAt());
+        verify(transactionRepository).insertAll(List.of(transaction));
+        verify(outboxWriter).write(List.of(transaction));
+    }
+
+    @Test
+    void shouldInsertImmediatelyInsideActiveTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        Transaction first = buildDeposit();
+        Transaction second = buildDeposit();
+
+        // When
+        transactionWriter.write(List.of(first, second));
+
+        // Then
+        verify(transactionRepository).insertAll(List.of(first, second));
+        verify(outboxWriter).write(List.of(first, second));
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private Transaction buildDeposit() {
+        return Transaction.builder()
+                .type(Transaction.TransactionType.DEPOSIT)
+                .amount(BigDecimal.TEN)
+                .build();
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.BalanceUpdateMode;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceEngineTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private BalanceProjectionWriter balanceProjectionWriter;
+
+    private final BalanceProperties balanceProperties = new BalanceProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BalanceEngine balanceEngine;
+
+    @BeforeEach
+    void setUp() {
+        balanceProperties.setUpdateStrategy(BalanceUpdateMode.IN_MEMORY);
+        balanceProperties.getEngine().setShards(1);
+        balanceProperties.getEngine().setJournalDirectory(directory.toString());
+        balanceProperties.getEngine().setJournalSize(DataSize.ofBytes(16L * BalanceJournal.RECORD_SIZE));
+        lenient().when(balanceProjectionWriter.findCheckpoints()).thenReturn(Map.of());
+        balanceEngine = newEngine();
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceEngine.stop();
+    }
+
+    @Test
+    void shouldReplayJournalRecordsPastCheckpointOnStart() throws Exception {
+        // Given
+        UserWalletKey key = randomKey();
+        List<JournalRecord> records = List.of(
+                committed(1, JournalRecord.Type.CREDIT, key, money("10.00"), 1L),
+                committed(2, JournalRecord.Type.DEBIT, key, money("4.00"), 2L),
+                committed(3, JournalRecord.Type.CREDIT, key, money("1.00"), 3L));
+        writeJournal(records);
+        when(balanceProjectionWriter.findCheckpoints()).thenReturn(Map.of(0, 1L));
+        when(balanceProjectionWriter.project(anyList())).thenReturn(Map.of(0, 3L));
+
+        // When
+        balanceEngine.start();
+
+        // Then
+        verify(balanceProjectionWriter).project(List.of(
+                new ShardRecord(0, records.get(1)), new ShardRecord(0, records.get(2))));
+    }
+
+    @Test
+    void shouldNotReplayChangesThatNeverCommittedAfterCrash() {
+        // Given
+        UserWalletKey committed = randomKey();
+        UserWalletKey uncommitted = randomKey();
+        when(userWalletRepository.findByUserIdAndWalletId(any(), any()))
+                .thenAnswer(invocation -> Optional.of(UserWallet.builder().balance(money("100.00")).build()));
+        balanceEngine.start();
+        balanceEngine.confirm(balanceEngine.credit(committed, money("20.00"), "not found"));
+        balanceEngine.credit(uncommitted, money("30.00"), "not found");
+        balanceEngine.stop();
+        clearInvocations(balanceProjectionWriter);
+
+        // When
+        balanceEngine = newEngine();
+        balanceEngine.start();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShardRecord>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceProjectionWriter).project(captor.capture());
+        List<ShardRecord> replayed = captor.getValue();
+        assertEquals(1, replayed.size());
+        assertEquals(committed, replayed.get(0).record().key());
+        assertEquals(money("20.00"), replayed.get(0).record().amount());
+        assertEquals(1.0, meterRegistry.get("wallet.balance.engine.recovery.in.doubt").counter().count());
+    }
+
+    @Test
+    void shouldReplayOnlyCommittedRecords() throws Exception {
+        // Given
+        UserWalletKey key = randomKey();
+        JournalRecord credit = JournalRecord.prepared(1, JournalRecord.Type.CREDIT, key, null, money("10.00"), 1L);
+        JournalRecord debit = JournalRecord.prepared(2, JournalRecord.Type.DEBIT, key, null, money("4.00"), 2L);
+        JournalRecord committedCredit = credit.resolve(3, JournalRecord.Status.COMMITTED, 3L);
+        writeJournal(List.of(credit, debit, committedCredit, debit.resolve(4, JournalRecord.Status.ABORTED, 4L),
+                JournalRecord.prepared(5, JournalRecord.Type.CREDIT, key, null, money("7.00"), 5L)));
+        when(balanceProjectionWriter.project(anyList())).thenReturn(Map.of(0, 3L));
+
+        // When
+        balanceEngine.start();
+
+        // Then
+        verify(balanceProjectionWriter).project(List.of(new ShardRecord(0, committedCredit)));
+        assertEquals(1.0, meterRegistry.get("wallet.balance.engine.recovery.in.doubt").counter().count());
+    }
+
+    @Test
+    void shouldApplyTransferToBothBalancesOnlyOnceConfirmed() {
+        // Given
+        UserWalletKey source = randomKey();
+        UserWalletKey target = randomKey();
+        when(userWalletRepository.findByUserIdAndWalletId(any(), any()))
+                .thenAnswer(invocation -> Optional.of(UserWallet.builder().balance(money("100.00")).build()));
+        balanceEngine.start();
+        PreparedChange<TransferBalances> change = balanceEngine.transfer(source, target, money("60.00"));
+        assertEquals(money("100.00"), balanceEngine.balanceOf(source));
+        assertEquals(money("100.00"), balanceEngine.balanceOf(target));
+
+        // When
+        balanceEngine.confirm(change);
+
+        // Then
+        assertEquals(money("40.00"), balanceEngine.balanceOf(source));
+        assertEquals(money("160.00"), balanceEngine.balanceOf(target));
+    }
+
+    @Test
+    void shouldReleaseReservationAndJournalAbortWhenChangeIsReverted() throws Exception {
+        // Given
+        UserWalletKey source = randomKey();
+        UserWalletKey target = randomKey();
+        when(userWalletRepository.findByUserIdAndWalletId(any(), any()))
+                .thenAnswer(invocation -> Optional.of(UserWallet.builder().balance(money("100.00")).build()));
+        balanceEngine.start();
+        PreparedChange<TransferBalances> change = balanceEngine.transfer(source, target, money("60.00"));
+
+        // When
+        balanceEngine.revert(change);
+        PreparedChange<Money> debit = balanceEngine.debit(source, money("100.00"), "not found");
+        balanceEngine.revert(debit);
+        balanceEngine.stop();
+
+        // Then
+        assertEquals(money("0.00"), debit.result());
+        assertEquals(List.of(JournalRecord.Status.PREPARED, JournalRecord.Status.ABORTED,
+                        JournalRecord.Status.PREPARED, JournalRecord.Status.ABORTED),
+                readJournal().stream().map(JournalRecord::status).toList());
+        verify(balanceProjectionWriter, never()).project(anyList());
+    }
+
+    @Test
+    void shouldSkipRecordThatKeepsFailingToProject() throws Exception {
+        // Given
+        UserWalletKey key = randomKey();
+        writeJournal(List.of(
+                committed(1, JournalRecord.Type.CREDIT, key, money("10.00"), 1L),
+                committed(2, JournalRecord.Type.DEBIT, key, money("4.00"), 2L)));
+        when(balanceProjectionWriter.project(anyList())).thenAnswer(invocation -> {
+            List<ShardRecord> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).record().sequence() == 2) {
+                throw new IllegalStateException("check constraint violated");
+            }
+            return Map.of(0, 1L);
+        });
+
+        // When
+        balanceEngine.start();
+
+        // Then
+        verify(balanceProjectionWriter).advanceCheckpoints(Map.of(0, 2L));
+        assertEquals(1.0, meterRegistry.get("wallet.balance.engine.projection.dead.lettered").counter().count());
+    }
+
+    private BalanceEngine newEngine() {
+        return new BalanceEngine(balanceProperties, userWalletRepository, balanceProjectionWriter, meterRegistry);
+    }
+
+    private void writeJournal(List<JournalRecord> records) throws Exception {
+        try (BalanceJournal journal = BalanceJournal.open(
+                directory.resolve("shard-0.journal"), 16L * BalanceJournal.RECORD_SIZE, false)) {
+            records.forEach(journal::append);
+        }
+    }
+
+    private List<JournalRecord> readJournal() throws Exception {
+        try (BalanceJournal journal = BalanceJournal.open(
+                directory.resolve("shard-0.journal"), 16L * BalanceJournal.RECORD_SIZE, false)) {
+            return journal.readAll();
+        }
+    }
+
+    private static JournalRecord committed(
+            long sequence, JournalRecord.Type type, UserWalletKey key, Money amount, long timestamp) {
+        return new JournalRecord(sequence, type, key, null, amount, timestamp,
+                JournalRecord.Status.COMMITTED, sequence - 1);
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+
+    private static UserWalletKey randomKey() {
+        return new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+    }
+}
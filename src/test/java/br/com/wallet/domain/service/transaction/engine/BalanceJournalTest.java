@@ -0,0 +1,103 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BalanceJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldReadBackAppendedRecordsAfterReopening() throws Exception {
+        // Given
+        Path path = directory.resolve("shard-0.journal");
+        JournalRecord credit = JournalRecord.prepared(1, JournalRecord.Type.CREDIT, randomKey(), null,
+                Money.of(new BigDecimal("10.50")), 1_000L);
+        JournalRecord transfer = JournalRecord.prepared(2, JournalRecord.Type.TRANSFER, randomKey(), randomKey(),
+                Money.of(new BigDecimal("3.25")), 2_000L);
+        JournalRecord committed = transfer.resolve(3, JournalRecord.Status.COMMITTED, 3_000L);
+        JournalRecord aborted = credit.resolve(4, JournalRecord.Status.ABORTED, 4_000L);
+        try (BalanceJournal journal = BalanceJournal.open(path, 4L * BalanceJournal.RECORD_SIZE, false)) {
+            journal.append(credit);
+            journal.append(transfer);
+            journal.append(committed);
+            journal.append(aborted);
+        }
+
+        // When
+        List<JournalRecord> records;
+        try (BalanceJournal journal = BalanceJournal.open(path, 4L * BalanceJournal.RECORD_SIZE, false)) {
+            records = journal.readAll();
+        }
+
+        // Then
+        assertEquals(List.of(credit, transfer, committed, aborted), records);
+        assertEquals(2, records.get(2).preparedSequence());
+        assertEquals(1, records.get(3).preparedSequence());
+    }
+
+    @Test
+    void shouldSkipRecordWithInvalidChecksum() throws Exception {
+        // Given
+        Path path = directory.resolve("shard-1.journal");
+        try (BalanceJournal journal = BalanceJournal.open(path, 2L * BalanceJournal.RECORD_SIZE, false)) {
+            journal.append(JournalRecord.prepared(1, JournalRecord.Type.DEBIT, randomKey(), null, Money.of(BigDecimal.ONE), 1L));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(20);
+            file.write(0x7F);
+        }
+
+        // When
+        List<JournalRecord> records;
+        try (BalanceJournal journal = BalanceJournal.open(path, 2L * BalanceJournal.RECORD_SIZE, false)) {
+            records = journal.readAll();
+        }
+
+        // Then
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    void shouldRequireResetWhenJournalIsFull() throws Exception {
+        // Given
+        Path path = directory.resolve("shard-2.journal");
+        try (BalanceJournal journal = BalanceJournal.open(path, BalanceJournal.RECORD_SIZE, false)) {
+            journal.append(JournalRecord.prepared(1, JournalRecord.Type.CREDIT, randomKey(), null, Money.of(BigDecimal.ONE), 1L));
+
+            // When & Then
+            assertFalse(journal.hasRoom());
+            assertThrows(IllegalStateException.class, () -> journal.append(
+                    JournalRecord.prepared(2, JournalRecord.Type.CREDIT, randomKey(), null, Money.of(BigDecimal.ONE), 2L)));
+
+            journal.reset();
+            assertTrue(journal.hasRoom());
+            assertFalse(journal.hasRoom(2));
+        }
+    }
+
+    @Test
+    void shouldIgnoreEmptySlots() {
+        // When & Then
+        assertNull(BalanceJournal.decode(new byte[BalanceJournal.RECORD_SIZE]));
+    }
+
+    private UserWalletKey randomKey() {
+        return new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.BalanceEngineCheckpoint;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.BalanceEngineCheckpointRepository;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceProjectionWriterTest {
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Mock
+    private BalanceEngineCheckpointRepository balanceEngineCheckpointRepository;
+
+    @InjectMocks
+    private BalanceProjectionWriter balanceProjectionWriter;
+
+    @Test
+    void shouldApplyAggregatedDeltasAndRebuildIntermediateBalances() {
+        // Given
+        UserWalletKey source = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        UserWalletKey target = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        List<ShardRecord> records = List.of(
+                new ShardRecord(0, committed(1, JournalRecord.Type.CREDIT, source, null, money("100.00"), 1L)),
+                new ShardRecord(0, committed(2, JournalRecord.Type.TRANSFER, source, target, money("30.00"), 2L)),
+                new ShardRecord(1, committed(7, JournalRecord.Type.DEBIT, target, null, money("5.00"), 3L)));
+        when(userWalletRepository.applyBalanceDeltas(Map.of(source, money("70.00"), target, money("25.00"))))
+                .thenReturn(Map.of(source, money("170.00"), target, money("45.00")));
+        when(balanceEngineCheckpointRepository.findAllById(any())).thenReturn(new ArrayList<>());
+
+        // When
+        Map<Integer, Long> projected = balanceProjectionWriter.project(records);
+
+        // Then
+        assertEquals(Map.of(0, 2L, 1, 7L), projected);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(balanceHistoryRepository).insertAll(historyCaptor.capture());
+        List<BigDecimal> balances = historyCaptor.getValue().stream().map(BalanceHistory::getBalance).toList();
+        assertEquals(List.of(new BigDecimal("200.00"), new BigDecimal("170.00"), new BigDecimal("50.00"),
+                new BigDecimal("45.00")), balances);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<BalanceEngineCheckpoint>> checkpointCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(balanceEngineCheckpointRepository).saveAll(checkpointCaptor.capture());
+        List<BalanceEngineCheckpoint> checkpoints = new ArrayList<>();
+        checkpointCaptor.getValue().forEach(checkpoints::add);
+        assertEquals(2, checkpoints.size());
+    }
+
+    private static JournalRecord committed(
+            long sequence, JournalRecord.Type type, UserWalletKey key, UserWalletKey targetKey, Money amount, long timestamp) {
+        return new JournalRecord(sequence, type, key, targetKey, amount, timestamp,
+                JournalRecord.Status.COMMITTED, sequence - 1);
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+}
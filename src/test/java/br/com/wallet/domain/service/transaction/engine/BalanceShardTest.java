@@ -0,0 +1,189 @@
+package br.com.wallet.domain.service.transaction.engine;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BalanceShardTest {
+
+    private static final String NOT_FOUND_MESSAGE = "UserWallet not found with userId: ";
+
+    @TempDir
+    private Path directory;
+
+    private final Map<UserWalletKey, Integer> loads = new HashMap<>();
+    private final List<ShardRecord> projected = new ArrayList<>();
+    private BalanceShard shard;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (shard != null) {
+            shard.close();
+        }
+    }
+
+    @Test
+    void shouldJournalPreparedCreditButApplyAndProjectItOnlyWhenConfirmed() throws Exception {
+        // Given
+        shard = newShard(100);
+        UserWalletKey key = randomKey();
+
+        // When
+        PreparedChange<Money> change = shard.credit(key, money("50.00"), NOT_FOUND_MESSAGE);
+
+        // Then
+        assertEquals(money("150.00"), change.result());
+        assertEquals(money("100.00"), shard.balanceOf(key, NOT_FOUND_MESSAGE));
+        assertTrue(projected.isEmpty());
+        assertEquals(List.of(JournalRecord.Status.PREPARED), statuses(readJournal()));
+        shard.confirm(change.sequence());
+        assertEquals(money("150.00"), shard.balanceOf(key, NOT_FOUND_MESSAGE));
+        assertEquals(1, projected.size());
+        JournalRecord committed = projected.get(0).record();
+        assertEquals(new JournalRecord(2, JournalRecord.Type.CREDIT, key, null, money("50.00"),
+                committed.timestamp(), JournalRecord.Status.COMMITTED, change.sequence()), committed);
+        assertEquals(List.of(JournalRecord.Status.PREPARED, JournalRecord.Status.COMMITTED), statuses(readJournal()));
+    }
+
+    @Test
+    void shouldReleaseReservationAndJournalAbortWhenDebitIsReverted() throws Exception {
+        // Given
+        shard = newShard(100);
+        UserWalletKey key = randomKey();
+        PreparedChange<Money> change = shard.debit(key, null, money("40.00"), NOT_FOUND_MESSAGE);
+
+        // When
+        shard.revert(change.sequence());
+
+        // Then
+        assertEquals(money("0.00"), shard.debit(key, null, money("100.00"), NOT_FOUND_MESSAGE).result());
+        assertTrue(projected.isEmpty());
+        List<JournalRecord> journal = readJournal();
+        assertEquals(List.of(JournalRecord.Status.PREPARED, JournalRecord.Status.ABORTED,
+                JournalRecord.Status.PREPARED), statuses(journal));
+        assertEquals(change.sequence(), journal.get(1).preparedSequence());
+    }
+
+    @Test
+    void shouldReserveDebitUntilItIsConfirmed() {
+        // Given
+        shard = newShard(100);
+        UserWalletKey key = randomKey();
+        PreparedChange<Money> change = shard.debit(key, null, money("80.00"), NOT_FOUND_MESSAGE);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> shard.debit(key, null, money("30.00"), NOT_FOUND_MESSAGE));
+        assertEquals("Insufficient balance", exception.getMessage());
+        assertEquals(money("100.00"), shard.balanceOf(key, NOT_FOUND_MESSAGE));
+        shard.confirm(change.sequence());
+        assertEquals(money("20.00"), shard.balanceOf(key, NOT_FOUND_MESSAGE));
+        assertEquals(money("0.00"), shard.debit(key, null, money("20.00"), NOT_FOUND_MESSAGE).result());
+    }
+
+    @Test
+    void shouldNotLetDebitSpendUncommittedCredit() {
+        // Given
+        shard = newShard(100);
+        UserWalletKey key = randomKey();
+        PreparedChange<Money> change = shard.credit(key, money("50.00"), NOT_FOUND_MESSAGE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> shard.debit(key, null, money("120.00"), NOT_FOUND_MESSAGE));
+        shard.revert(change.sequence());
+        assertEquals(money("100.00"), shard.balanceOf(key, NOT_FOUND_MESSAGE));
+    }
+
+    @Test
+    void shouldRejectMarkerForUnknownPreparedRecord() {
+        // Given
+        shard = newShard(100);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> shard.confirm(42));
+    }
+
+    @Test
+    void shouldEvictOnlySettledBalancesWhenFull() {
+        // Given
+        shard = newShard(1);
+        UserWalletKey settled = randomKey();
+        UserWalletKey unsettled = randomKey();
+        shard.balanceOf(settled, NOT_FOUND_MESSAGE);
+        shard.credit(unsettled, money("25.00"), NOT_FOUND_MESSAGE);
+
+        // When
+        shard.balanceOf(randomKey(), NOT_FOUND_MESSAGE);
+
+        // Then
+        assertEquals(money("100.00"), shard.balanceOf(unsettled, NOT_FOUND_MESSAGE));
+        assertEquals(1, loads.get(unsettled));
+        shard.balanceOf(settled, NOT_FOUND_MESSAGE);
+        assertEquals(2, loads.get(settled));
+    }
+
+    @Test
+    void shouldEvictBalanceOnceItsProjectionSettles() {
+        // Given
+        shard = newShard(1);
+        UserWalletKey key = randomKey();
+        shard.confirm(shard.credit(key, money("25.00"), NOT_FOUND_MESSAGE).sequence());
+
+        // When
+        shard.settle(List.of(key));
+        shard.balanceOf(randomKey(), NOT_FOUND_MESSAGE);
+
+        // Then
+        shard.balanceOf(key, NOT_FOUND_MESSAGE);
+        assertEquals(2, loads.get(key));
+    }
+
+    private BalanceShard newShard(int maxBalances) {
+        try {
+            BalanceJournal journal = BalanceJournal.open(
+                    directory.resolve("shard-0.journal"), 8L * BalanceJournal.RECORD_SIZE, false);
+            return new BalanceShard(0, journal, 0, maxBalances, key -> {
+                loads.merge(key, 1, Integer::sum);
+                return Optional.of(money("100.00"));
+            }, projected::add);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private List<JournalRecord> readJournal() throws IOException {
+        try (BalanceJournal journal = BalanceJournal.open(
+                directory.resolve("shard-0.journal"), 8L * BalanceJournal.RECORD_SIZE, false)) {
+            return journal.readAll();
+        }
+    }
+
+    private static List<JournalRecord.Status> statuses(List<JournalRecord> records) {
+        return records.stream().map(JournalRecord::status).toList();
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+
+    private static UserWalletKey randomKey() {
+        return new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+    }
+}
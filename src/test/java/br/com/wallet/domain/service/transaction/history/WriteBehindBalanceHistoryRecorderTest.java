@@ -0,0 +1,230 @@
+package br.com.wallet.domain.service.transaction.history;
+
+import br.com.wallet.core.balance.BalanceProperties;
+import br.com.wallet.domain.model.BalanceHistory;
+import br.com.wallet.domain.repository.BalanceHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBalanceHistoryRecorderTest {
+
+    @Mock
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BalanceProperties balanceProperties;
+    private WriteBehindBalanceHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        balanceProperties = new BalanceProperties();
+        balanceProperties.getHistory().setBatchSize(2);
+        balanceProperties.getHistory().setQueueCapacity(10);
+        balanceProperties.getHistory().setMaxAttempts(2);
+        recorder = new WriteBehindBalanceHistoryRecorder(
+                balanceHistoryRepository, balanceProperties, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldWriteQueuedHistoriesInBatchesOfConfiguredSize() {
+        // Given
+        recorder.record(buildBalanceHistory(BigDecimal.ONE));
+        recorder.record(buildBalanceHistory(BigDecimal.TWO));
+        recorder.record(buildBalanceHistory(BigDecimal.TEN));
+
+        // When
+        int firstBatch = recorder.flushAndMeasure();
+        int secondBatch = recorder.flushAndMeasure();
+
+        // Then
+        assertEquals(2, firstBatch);
+        assertEquals(1, secondBatch);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(balanceHistoryRepository, times(2)).insertAll(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(BigDecimal.TEN, captor.getAllValues().get(1).getFirst().getBalance());
+        assertEquals(0, recorder.pendingCount());
+    }
+
+    @Test
+    void shouldNotWriteWhenQueueIsEmpty() {
+        // When
+        int written = recorder.flushAndMeasure();
+
+        // Then
+        assertEquals(0, written);
+        verify(balanceHistoryRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldOnlyHandleWriteBehindMode() {
+        // When & Then
+        assertTrue(recorder.canHandle(BalanceHistoryMode.WRITE_BEHIND));
+        assertFalse(recorder.canHandle(BalanceHistoryMode.STAGED));
+        assertFalse(recorder.canHandle(BalanceHistoryMode.SYNCHRONOUS));
+    }
+
+    @Test
+    void shouldRejectCommitWithoutTakingConnectionWhenQueueStaysFull() {
+        // Given
+        useFullQueue();
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(buildBalanceHistory(BigDecimal.TWO));
+
+        // When
+        assertThrows(DataAccessResourceFailureException.class, () -> beforeCommit());
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        verify(balanceHistoryRepository, never()).insertAll(any());
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1, meterRegistry.counter("wallet.balance.history.rejected").count());
+    }
+
+    @Test
+    void shouldReleaseReservedSlotWhenTransactionRollsBack() {
+        // Given
+        useSingleSlotQueue();
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(buildBalanceHistory(BigDecimal.ONE));
+        beforeCommit();
+
+        // When
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(buildBalanceHistory(BigDecimal.TWO));
+        beforeCommit();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(0, meterRegistry.counter("wallet.balance.history.rejected").count());
+    }
+
+    @Test
+    void shouldDeadLetterOutsideTransactionWhenQueueStaysFull() {
+        // Given
+        useFullQueue();
+
+        // When
+        recorder.record(buildBalanceHistory(BigDecimal.TWO));
+
+        // Then
+        verify(balanceHistoryRepository, never()).insertAll(any());
+        assertEquals(1, recorder.pendingCount());
+        assertEquals(1, meterRegistry.counter("wallet.balance.history.dead.lettered").count());
+    }
+
+    @Test
+    void shouldKeepRetryingBatchWhileDatabaseIsUnavailable() {
+        // Given
+        recorder.record(buildBalanceHistory(BigDecimal.ONE));
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(balanceHistoryRepository).insertAll(any());
+
+        // When & Then
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> recorder.flushAndMeasure());
+        }
+        assertEquals(0, meterRegistry.counter("wallet.balance.history.dead.lettered").count());
+    }
+
+    @Test
+    void shouldDeadLetterRowsThatKeepFailingAfterMaxAttempts() {
+        // Given
+        BalanceHistory valid = buildBalanceHistory(BigDecimal.ONE);
+        BalanceHistory invalid = buildBalanceHistory(BigDecimal.TWO);
+        recorder.record(valid);
+        recorder.record(invalid);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("check constraint");
+        lenient().doThrow(violation).when(balanceHistoryRepository).insertAll(List.of(valid, invalid));
+        lenient().doThrow(violation).when(balanceHistoryRepository).insertAll(List.of(invalid));
+
+        // When
+        assertThrows(DataIntegrityViolationException.class, () -> recorder.flushAndMeasure());
+        int written = recorder.flushAndMeasure();
+
+        // Then
+        assertEquals(1, written);
+        verify(balanceHistoryRepository).insertAll(List.of(valid));
+        assertEquals(1, meterRegistry.counter("wallet.balance.history.dead.lettered").count());
+        assertEquals(0, recorder.flushAndMeasure());
+    }
+
+    private void useSingleSlotQueue() {
+        balanceProperties.getHistory().setQueueCapacity(1);
+        balanceProperties.getHistory().setEnqueueTimeout(Duration.ZERO);
+        recorder = new WriteBehindBalanceHistoryRecorder(
+                balanceHistoryRepository, balanceProperties, transactionManager, meterRegistry);
+    }
+
+    private void useFullQueue() {
+        useSingleSlotQueue();
+        recorder.record(buildBalanceHistory(BigDecimal.ONE));
+    }
+
+    private void beforeCommit() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+    }
+
+    private void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private BalanceHistory buildBalanceHistory(BigDecimal balance) {
+        return BalanceHistory.builder()
+                .userId(UUID.randomUUID())
+                .wallet(UUID.randomUUID())
+                .balance(balance)
+                .recordedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.wallet.domain.service.transaction.processor;
+
+import br.com.wallet.core.metrics.TransactionMetrics;
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.transaction.BalanceManager;
+import br.com.wallet.domain.service.transaction.TransactionValidator;
+import br.com.wallet.domain.service.transaction.TransactionWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TransferProcessorTest {
+
+    @Mock
+    private TransactionWriter transactionWriter;
+
+    @Mock
+    private BalanceManager balanceManager;
+
+    @Spy
+    private TransactionValidator transactionValidator;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private TransferProcessor transferProcessor;
+
+    private Transaction transaction;
+    private UUID sourceWalletId;
+    private UUID destinationWalletId;
+
+    @BeforeEach
+    void setUp() {
+        sourceWalletId = UUID.randomUUID();
+        destinationWalletId = UUID.randomUUID();
+        transaction = Transaction.builder()
+                .wallet(Wallet.builder().id(sourceWalletId).build())
+                .destinationWalletId(destinationWalletId)
+                .fromUserId(UUID.randomUUID())
+                .toUserId(UUID.randomUUID())
+                .type(Transaction.TransactionType.TRANSFER)
+                .amount(BigDecimal.TEN)
+                .build();
+    }
+
+    @Test
+    void shouldPersistBothLinkedLegsWithSingleInsert() {
+        // When
+        Transaction result = transferProcessor.process(transaction);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionWriter).write(captor.capture());
+        verifyNoMoreInteractions(transactionWriter);
+
+        List<Transaction> legs = captor.getValue();
+        assertEquals(2, legs.size());
+        Transaction sourceLeg = legs.get(0);
+        Transaction targetLeg = legs.get(1);
+        assertSame(transaction, result);
+        assertSame(sourceLeg, result);
+        assertNotNull(sourceLeg.getId());
+        assertNotNull(targetLeg.getId());
+        assertSame(targetLeg, sourceLeg.getRelatedTransaction());
+        assertSame(sourceLeg, targetLeg.getRelatedTransaction());
+        assertEquals(sourceLeg.getCreatedAt(), targetLeg.getCreatedAt());
+        verify(balanceManager).transferBetweenUserWallets(
+                new UserWalletKey(transaction.getFromUserId(), sourceWalletId),
+                new UserWalletKey(transaction.getToUserId(), destinationWalletId),
+                Money.of(BigDecimal.TEN));
+    }
+
+    @Test
+    void shouldNotPersistWhenDestinationWalletIsMissing() {
+        // Given
+        transaction.setDestinationWalletId(null);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> transferProcessor.process(transaction));
+        verify(transactionWriter, never()).write(any());
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateBalanceUpdateStrategyTest {
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @InjectMocks
+    private ConditionalUpdateBalanceUpdateStrategy strategy;
+
+    private UserWalletKey source;
+    private UserWalletKey target;
+    private Money amount;
+
+    @BeforeEach
+    void setUp() {
+        UserWalletKey first = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        UserWalletKey second = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        source = first.compareTo(second) < 0 ? first : second;
+        target = source == first ? second : first;
+        amount = Money.of(new BigDecimal("10.00"));
+    }
+
+    @Test
+    void shouldReturnNewBalanceWhenCreditingExistingUserWallet() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.toBigDecimal()))
+                .thenReturn(Optional.of(new BigDecimal("110.00")));
+
+        // When
+        Money balance = strategy.credit(source, amount, "UserWallet not found with userId: ");
+
+        // Then
+        assertEquals(Money.of(new BigDecimal("110.00")), balance);
+    }
+
+    @Test
+    void shouldThrowInsufficientBalanceWhenDebitIsRejectedForExistingUserWallet() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.negate().toBigDecimal()))
+                .thenReturn(Optional.empty());
+        when(userWalletRepository.existsByUserIdAndWalletId(source.userId(), source.walletId())).thenReturn(true);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> strategy.debit(source, amount, "UserWallet not found with userId: "));
+        assertEquals("Insufficient balance", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenDebitIsRejectedForMissingUserWallet() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.negate().toBigDecimal()))
+                .thenReturn(Optional.empty());
+        when(userWalletRepository.existsByUserIdAndWalletId(source.userId(), source.walletId())).thenReturn(false);
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class,
+                () -> strategy.debit(source, amount, "UserWallet not found with userId: "));
+    }
+
+    @Test
+    void shouldDebitSourceAndCreditTargetWhenTransferring() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.negate().toBigDecimal()))
+                .thenReturn(Optional.of(new BigDecimal("90.00")));
+        when(userWalletRepository.applyBalanceDelta(target.userId(), target.walletId(), amount.toBigDecimal()))
+                .thenReturn(Optional.of(new BigDecimal("10.00")));
+
+        // When
+        TransferBalances balances = strategy.transfer(source, target, amount);
+
+        // Then
+        assertEquals(Money.of(new BigDecimal("90.00")), balances.sourceBalance());
+        assertEquals(Money.of(new BigDecimal("10.00")), balances.targetBalance());
+    }
+
+    @Test
+    void shouldThrowWithoutCompensatingWhenTransferTargetDoesNotExist() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.negate().toBigDecimal()))
+                .thenReturn(Optional.of(new BigDecimal("90.00")));
+        when(userWalletRepository.applyBalanceDelta(target.userId(), target.walletId(), amount.toBigDecimal()))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> strategy.transfer(source, target, amount));
+        verify(userWalletRepository, never())
+                .applyBalanceDelta(source.userId(), source.walletId(), amount.toBigDecimal());
+    }
+
+    @Test
+    void shouldThrowInsufficientBalanceWithoutCompensatingWhenSourceIsDebitedSecond() {
+        // Given
+        when(userWalletRepository.applyBalanceDelta(source.userId(), source.walletId(), amount.toBigDecimal()))
+                .thenReturn(Optional.of(new BigDecimal("110.00")));
+        when(userWalletRepository.applyBalanceDelta(target.userId(), target.walletId(), amount.negate().toBigDecimal()))
+                .thenReturn(Optional.empty());
+        when(userWalletRepository.existsByUserIdAndWalletId(target.userId(), target.walletId())).thenReturn(true);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> strategy.transfer(target, source, amount));
+        verify(userWalletRepository, never())
+                .applyBalanceDelta(source.userId(), source.walletId(), amount.negate().toBigDecimal());
+    }
+}
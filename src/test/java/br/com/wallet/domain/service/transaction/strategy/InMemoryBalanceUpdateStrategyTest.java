@@ -0,0 +1,110 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import br.com.wallet.domain.service.transaction.engine.BalanceEngine;
+import br.com.wallet.domain.service.transaction.engine.PreparedChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBalanceUpdateStrategyTest {
+
+    private static final Money AMOUNT = Money.of(new BigDecimal("15.00"));
+
+    @Mock
+    private BalanceEngine balanceEngine;
+
+    @InjectMocks
+    private InMemoryBalanceUpdateStrategy inMemoryBalanceUpdateStrategy;
+
+    private UserWalletKey source;
+    private UserWalletKey target;
+
+    @BeforeEach
+    void setUp() {
+        source = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        target = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldConfirmCreditOnlyAfterCommit() {
+        // Given
+        PreparedChange<Money> change = new PreparedChange<>(AMOUNT, 0, 1);
+        when(balanceEngine.credit(source, AMOUNT, "not found")).thenReturn(change);
+        TransactionSynchronizationManager.initSynchronization();
+        Money balance = inMemoryBalanceUpdateStrategy.credit(source, AMOUNT, "not found");
+        verify(balanceEngine, never()).confirm(any());
+
+        // When
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then
+        assertEquals(AMOUNT, balance);
+        verify(balanceEngine).confirm(change);
+        verify(balanceEngine, never()).revert(any());
+    }
+
+    @Test
+    void shouldRevertTransferOnRollback() {
+        // Given
+        PreparedChange<TransferBalances> change = new PreparedChange<>(new TransferBalances(AMOUNT, AMOUNT), 0, 1);
+        when(balanceEngine.transfer(source, target, AMOUNT)).thenReturn(change);
+        TransactionSynchronizationManager.initSynchronization();
+        inMemoryBalanceUpdateStrategy.transfer(source, target, AMOUNT);
+
+        // When
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        verify(balanceEngine).revert(change);
+        verify(balanceEngine, never()).confirm(any());
+    }
+
+    @Test
+    void shouldConfirmDebitImmediatelyWithoutTransaction() {
+        // Given
+        PreparedChange<Money> change = new PreparedChange<>(AMOUNT, 0, 1);
+        when(balanceEngine.debit(source, AMOUNT, "not found")).thenReturn(change);
+
+        // When
+        inMemoryBalanceUpdateStrategy.debit(source, AMOUNT, "not found");
+
+        // Then
+        verify(balanceEngine).confirm(change);
+        verify(balanceEngine, never()).revert(any());
+    }
+
+    private void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.wallet.domain.service.transaction.strategy;
+
+import br.com.wallet.domain.model.Money;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.UserWalletKey;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.repository.UserWalletRepository;
+import br.com.wallet.domain.service.transaction.TransactionValidator;
+import br.com.wallet.domain.service.transaction.TransferBalances;
+import br.com.wallet.domain.service.transaction.UserWalletFinder;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PessimisticLockBalanceUpdateStrategyTest {
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private UserWalletFinder userWalletFinder;
+
+    @Spy
+    private TransactionValidator transactionValidator;
+
+    @InjectMocks
+    private PessimisticLockBalanceUpdateStrategy strategy;
+
+    private UserWalletKey source;
+    private UserWalletKey target;
+    private UserWallet sourceUserWallet;
+    private UserWallet targetUserWallet;
+
+    @BeforeEach
+    void setUp() {
+        source = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        target = new UserWalletKey(UUID.randomUUID(), UUID.randomUUID());
+        sourceUserWallet = UserWallet.builder()
+                .userId(source.userId())
+                .wallet(Wallet.builder().id(source.walletId()).build())
+                .balance(Money.of(new BigDecimal("100.00")))
+                .build();
+        targetUserWallet = UserWallet.builder()
+                .userId(target.userId())
+                .wallet(Wallet.builder().id(target.walletId()).build())
+                .balance(Money.of(new BigDecimal("5.00")))
+                .build();
+    }
+
+    @Test
+    void shouldLockBothUserWalletsInSingleCallWhenTransferring() {
+        // Given
+        Map<UserWalletKey, UserWallet> locked = Map.of(source, sourceUserWallet, target, targetUserWallet);
+        when(userWalletFinder.lockAll(List.of(source, target))).thenReturn(locked);
+        when(userWalletFinder.getLockedUserWalletOrThrow(locked, source, "Source UserWallet not found with userId: "))
+                .thenReturn(sourceUserWallet);
+        when(userWalletFinder.getLockedUserWalletOrThrow(locked, target, "Target UserWallet not found with userId: "))
+                .thenReturn(targetUserWallet);
+
+        // When
+        TransferBalances balances = strategy.transfer(source, target, Money.of(new BigDecimal("30.00")));
+
+        // Then
+        assertEquals(Money.of(new BigDecimal("70.00")), balances.sourceBalance());
+        assertEquals(Money.of(new BigDecimal("35.00")), balances.targetBalance());
+        verify(userWalletFinder, never()).getUserWalletWithLockOrThrow(any(), any(), anyString());
+    }
+
+    @Test
+    void shouldNotTouchBalancesWhenTransferTargetIsMissing() {
+        // Given
+        Map<UserWalletKey, UserWallet> locked = Map.of(source, sourceUserWallet);
+        when(userWalletFinder.lockAll(List.of(source, target))).thenReturn(locked);
+        when(userWalletFinder.getLockedUserWalletOrThrow(locked, source, "Source UserWallet not found with userId: "))
+                .thenReturn(sourceUserWallet);
+        when(userWalletFinder.getLockedUserWalletOrThrow(locked, target, "Target UserWallet not found with userId: "))
+                .thenThrow(new EntityNotFoundException("Target UserWallet not found"));
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class,
+                () -> strategy.transfer(source, target, Money.of(new BigDecimal("30.00"))));
+        assertEquals(Money.of(new BigDecimal("100.00")), sourceUserWallet.getBalance());
+        verify(userWalletRepository, never()).save(any());
+    }
+}
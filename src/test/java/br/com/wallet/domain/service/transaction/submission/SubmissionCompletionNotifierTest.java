@@ -0,0 +1,60 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionCompletionNotifierTest {
+
+    private final SubmissionCompletionNotifier notifier = new SubmissionCompletionNotifier();
+
+    @Test
+    void shouldWakeWaiterWhenSubmissionCompletes() throws Exception {
+        // Given
+        UUID submissionId = UUID.randomUUID();
+        CompletableFuture<Long> waited = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                notifier.await(submissionId, Duration.ofSeconds(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return System.nanoTime() - start;
+        });
+
+        // When
+        while (!waited.isDone()) {
+            notifier.completed(List.of(submissionId));
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertTrue(waited.get(5, TimeUnit.SECONDS) < Duration.ofSeconds(30).toNanos());
+    }
+
+    @Test
+    void shouldReturnWhenTimeoutElapsesWithoutCompletion() {
+        // Given
+        UUID submissionId = UUID.randomUUID();
+        long start = System.nanoTime();
+
+        // When
+        assertDoesNotThrow(() -> notifier.await(submissionId, Duration.ofMillis(50)));
+
+        // Then
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void shouldIgnoreCompletionWithoutWaiters() {
+        // When & Then
+        assertDoesNotThrow(() -> notifier.completed(List.of(UUID.randomUUID())));
+    }
+}
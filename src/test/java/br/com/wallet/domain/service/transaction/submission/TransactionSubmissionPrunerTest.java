@@ -0,0 +1,74 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSubmissionPrunerTest {
+
+    @Mock
+    private TransactionSubmissionRepository transactionSubmissionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TransactionSubmissionPruner pruner;
+
+    @BeforeEach
+    void setUp() {
+        SubmissionProperties submissionProperties = new SubmissionProperties();
+        submissionProperties.setBatchSize(10);
+        submissionProperties.setRetention(Duration.ofHours(2));
+        pruner = new TransactionSubmissionPruner(transactionSubmissionRepository, submissionProperties,
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void shouldDeleteFinishedSubmissionsOlderThanRetentionInBatches() {
+        // Given
+        when(transactionSubmissionRepository.deleteFinishedBefore(any(), eq(100))).thenReturn(100, 100, 7);
+
+        // When
+        int pruned = pruner.prune();
+
+        // Then
+        assertEquals(207, pruned);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(transactionSubmissionRepository, times(3)).deleteFinishedBefore(cutoff.capture(), eq(100));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusHours(2).plusMinutes(1)));
+        assertEquals(207.0, meterRegistry.get("wallet.submission.pruned").counter().count());
+    }
+
+    @Test
+    void shouldStopWhenNothingIsLeftToPrune() {
+        // Given
+        when(transactionSubmissionRepository.deleteFinishedBefore(any(), eq(100))).thenReturn(0);
+
+        // When
+        int pruned = pruner.prune();
+
+        // Then
+        assertEquals(0, pruned);
+        verify(transactionSubmissionRepository, times(1)).deleteFinishedBefore(any(), eq(100));
+    }
+}
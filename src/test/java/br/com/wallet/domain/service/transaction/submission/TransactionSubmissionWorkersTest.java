@@ -0,0 +1,165 @@
+package br.com.wallet.domain.service.transaction.submission;
+
+import br.com.wallet.core.submission.SubmissionProperties;
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.TransactionBatchResult;
+import br.com.wallet.domain.model.TransactionSubmission;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.repository.TransactionSubmissionRepository;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.transaction.TransactionRetryExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSubmissionWorkersTest {
+
+    @Mock
+    private TransactionSubmissionRepository transactionSubmissionRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private TransactionRetryExecutor transactionRetryExecutor;
+
+    @Mock
+    private SubmissionCompletionNotifier submissionCompletionNotifier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SubmissionProperties submissionProperties;
+    private TransactionSubmissionWorkers workers;
+
+    @BeforeEach
+    void setUp() {
+        submissionProperties = new SubmissionProperties();
+        submissionProperties.setPartitions(4);
+        workers = new TransactionSubmissionWorkers(transactionSubmissionRepository, transactionService,
+                transactionRetryExecutor, submissionCompletionNotifier, submissionProperties,
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void shouldProcessClaimedSubmissionsInOrderAsOneBatch() {
+        // Given
+        TransactionSubmission first = buildSubmission();
+        TransactionSubmission second = buildSubmission();
+        Transaction processed = Transaction.builder().id(UUID.randomUUID()).build();
+        stubRetryExecutor();
+        when(transactionSubmissionRepository.tryLockPartition(1)).thenReturn(true);
+        when(transactionSubmissionRepository.claimPending(1, 4, 100)).thenReturn(List.of(first, second));
+        when(transactionService.processBatch(any())).thenReturn(List.of(
+                TransactionBatchResult.success(processed),
+                TransactionBatchResult.failure("Insufficient balance")));
+
+        // When
+        int count = workers.processPartition(1, 100);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(TransactionSubmission.SubmissionStatus.COMPLETED, first.getStatus());
+        assertEquals(processed.getId(), first.getTransactionId());
+        assertEquals(TransactionSubmission.SubmissionStatus.FAILED, second.getStatus());
+        assertEquals("Insufficient balance", second.getErrorMessage());
+        verify(submissionCompletionNotifier).completed(List.of(first.getId(), second.getId()));
+        assertEquals(1.0, meterRegistry.get("wallet.submission.processed").tag("outcome", "completed").counter().count());
+        assertEquals(1.0, meterRegistry.get("wallet.submission.processed").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCarryIdempotencyKeyIntoProcessedTransaction() {
+        // Given
+        TransactionSubmission submission = buildSubmission("key-1");
+        stubRetryExecutor();
+        when(transactionSubmissionRepository.tryLockPartition(0)).thenReturn(true);
+        when(transactionSubmissionRepository.claimPending(0, 4, 100)).thenReturn(List.of(submission));
+        when(transactionService.processBatch(any())).thenReturn(List.of(
+                TransactionBatchResult.success(Transaction.builder().id(UUID.randomUUID()).build())));
+
+        // When
+        workers.processPartition(0, 100);
+
+        // Then
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionService).processBatch(captor.capture());
+        assertEquals("key-1", captor.getValue().getFirst().getIdempotencyKey());
+    }
+
+    @Test
+    void shouldSkipPartitionLockedByAnotherNode() {
+        // Given
+        stubRetryExecutor();
+        when(transactionSubmissionRepository.tryLockPartition(2)).thenReturn(false);
+
+        // When
+        int count = workers.processPartition(2, 100);
+
+        // Then
+        assertEquals(0, count);
+        verify(transactionSubmissionRepository, never()).claimPending(anyInt(), anyInt(), anyInt());
+        verify(transactionService, never()).processBatch(any());
+    }
+
+    @Test
+    void shouldMarkNextSubmissionAsFailed() {
+        // Given
+        TransactionSubmission submission = buildSubmission();
+        when(transactionSubmissionRepository.tryLockPartition(0)).thenReturn(true);
+        when(transactionSubmissionRepository.claimPending(0, 4, 1)).thenReturn(List.of(submission));
+
+        // When
+        int count = workers.failNext(0, "User wallet not found");
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(TransactionSubmission.SubmissionStatus.FAILED, submission.getStatus());
+        assertEquals("User wallet not found", submission.getErrorMessage());
+        verify(submissionCompletionNotifier).completed(List.of(submission.getId()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRetryExecutor() {
+        when(transactionRetryExecutor.execute(any())).thenAnswer(invocation ->
+                ((Supplier<Object>) invocation.getArgument(0)).get());
+    }
+
+    private TransactionSubmission buildSubmission() {
+        return buildSubmission(null);
+    }
+
+    private TransactionSubmission buildSubmission(String idempotencyKey) {
+        Transaction transaction = Transaction.builder()
+                .wallet(Wallet.builder().id(UUID.randomUUID()).build())
+                .toUserId(UUID.randomUUID())
+                .type(Transaction.TransactionType.DEPOSIT)
+                .amount(BigDecimal.TEN)
+                .build();
+        TransactionSubmission submission = TransactionSubmission.pending(transaction, idempotencyKey);
+        submission.setId(UUID.randomUUID());
+        submission.setCreatedAt(LocalDateTime.now());
+        return submission;
+    }
+}
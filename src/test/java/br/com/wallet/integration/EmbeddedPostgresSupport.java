@@ -0,0 +1,21 @@
+package br.com.wallet.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+
+public final class EmbeddedPostgresSupport {
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    public static EmbeddedPostgres start(DynamicPropertyRegistry registry) throws IOException {
+        EmbeddedPostgres embeddedPostgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> embeddedPostgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        return embeddedPostgres;
+    }
+}
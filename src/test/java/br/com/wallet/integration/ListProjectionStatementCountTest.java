@@ -0,0 +1,124 @@
+package br.com.wallet.integration;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("integration")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ListProjectionStatementCountTest {
+
+    private static final int ROWS = 60;
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID walletId;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        embeddedPostgres = EmbeddedPostgresSupport.start(registry);
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Wallet wallet = walletService.save(Wallet.builder().name("projection-" + UUID.randomUUID()).build());
+        walletId = wallet.getId();
+        for (int row = 0; row < ROWS; row++) {
+            UserWallet userWallet = userWalletService.save(
+                    UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build());
+            Transaction deposit = Transaction.builder()
+                    .type(Transaction.TransactionType.DEPOSIT)
+                    .toUserId(userWallet.getUserId())
+                    .amount(BigDecimal.ONE)
+                    .build();
+            transactionService.processTransactionWithWallet(deposit, walletId, transactionService::deposit);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void shouldListTransactionsWithOneStatementForAnyPageSize(int limit) {
+        // Given
+        statistics.clear();
+
+        // When
+        int size = transactionService.findAll(null, limit).items().size();
+
+        // Then
+        assertEquals(limit, size);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void shouldListUserWalletsWithOneStatementForAnyPageSize(int limit) {
+        // Given
+        statistics.clear();
+
+        // When
+        int size = userWalletService.findAll(null, limit).items().size();
+
+        // Then
+        assertEquals(limit, size);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void shouldListUserWalletsOfWalletWithOneStatementForAnyPageSize(int limit) {
+        // Given
+        statistics.clear();
+
+        // When
+        int size = userWalletService.findByWalletId(walletId, null, limit).items().size();
+
+        // Then
+        assertEquals(limit, size);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.wallet.integration;
+
+import br.com.wallet.core.partition.PartitionHorizonHealthIndicator;
+import br.com.wallet.core.partition.PartitionMaintenanceJob;
+import br.com.wallet.core.partition.PartitionProperties;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("integration")
+@SpringBootTest
+class PartitionMaintenanceTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    @Autowired
+    private PartitionMaintenanceJob partitionMaintenanceJob;
+
+    @Autowired
+    private PartitionHorizonHealthIndicator partitionHorizonHealthIndicator;
+
+    @Autowired
+    private PartitionProperties partitionProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        embeddedPostgres = EmbeddedPostgresSupport.start(registry);
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @AfterEach
+    void restoreRetention() {
+        partitionProperties.setBalanceHistoryRetention(new PartitionProperties().getBalanceHistoryRetention());
+    }
+
+    @Test
+    void shouldDetachExpiredPartitionConcurrentlyAndMoveItToArchive() {
+        // Given
+        String expired = partitionsOf("balance_history").stream()
+                .filter(partition -> partition.contains("_p_before_"))
+                .findFirst()
+                .orElseThrow();
+        jdbcTemplate.update("INSERT INTO balance_history (id, user_id, wallet_id, balance, recorded_at)"
+                        + " VALUES (?, ?, ?, ?, ?)", UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                BigDecimal.TEN, LocalDateTime.of(2020, 1, 1, 0, 0));
+        partitionProperties.setBalanceHistoryRetention(Period.ZERO);
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        assertFalse(partitionsOf("balance_history").contains(expired));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM archive." + expired, Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM balance_history WHERE recorded_at < ?", Integer.class,
+                YearMonth.now().atDay(1).atStartOfDay()));
+    }
+
+    @Test
+    void shouldReportShortHorizonUntilMaintenanceRecreatesUpcomingPartitions() {
+        // Given
+        YearMonth currentMonth = YearMonth.now();
+        for (int offset = 1; offset <= partitionProperties.getPremadeMonths(); offset++) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS transactions_p" + currentMonth.plusMonths(offset).format(SUFFIX));
+        }
+        assertTrue(partitionMaintenanceJob.findShortHorizons(currentMonth).containsKey("transactions"));
+        assertEquals(Status.DOWN, partitionHorizonHealthIndicator.health().getStatus());
+
+        // When
+        partitionMaintenanceJob.maintain();
+
+        // Then
+        assertTrue(partitionMaintenanceJob.findShortHorizons(currentMonth).isEmpty());
+        assertEquals(Status.UP, partitionHorizonHealthIndicator.health().getStatus());
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = ?::regclass
+                """, String.class, table);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.wallet.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("integration")
+class PartitionMigrationTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private EmbeddedPostgres embeddedPostgres;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void startEmbeddedPostgres() throws IOException {
+        embeddedPostgres = EmbeddedPostgres.builder().start();
+        dataSource = embeddedPostgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @Test
+    void shouldPartitionTablesHoldingCurrentMonthRows() {
+        // Given
+        migrate("12");
+        UUID walletId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO wallets (id, name) VALUES (?, ?)", walletId, "legacy");
+        insertTransaction(walletId, LocalDateTime.of(2020, 1, 1, 0, 0));
+        insertTransaction(walletId, now);
+        jdbcTemplate.update("INSERT INTO balance_history (id, user_id, wallet_id, balance, recorded_at)"
+                + " VALUES (?, ?, ?, ?, ?)", UUID.randomUUID(), UUID.randomUUID(), walletId, BigDecimal.TEN, now);
+
+        // When
+        migrate(null);
+
+        // Then
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM transactions", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM balance_history", Integer.class));
+        assertTrue(partitionsOf("transactions").contains("transactions_p_before_" + nextMonth.format(SUFFIX)));
+        assertTrue(partitionsOf("transactions").contains("transactions_p" + nextMonth.format(SUFFIX)));
+        assertTrue(partitionsOf("balance_history").contains("balance_history_p_before_" + nextMonth.format(SUFFIX)));
+        insertTransaction(walletId, nextMonth.atDay(1).atStartOfDay());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM transactions_p" + nextMonth.format(SUFFIX), Integer.class));
+    }
+
+    @Test
+    void shouldStartMonthlyPartitionsAtCurrentMonthWhenTablesAreEmpty() {
+        // When
+        migrate(null);
+
+        // Then
+        YearMonth currentMonth = YearMonth.now();
+        assertTrue(partitionsOf("transactions").contains("transactions_p_before_" + currentMonth.format(SUFFIX)));
+        assertTrue(partitionsOf("transactions").contains("transactions_p" + currentMonth.format(SUFFIX)));
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .target(target == null ? "latest" : target)
+                .load()
+                .migrate();
+    }
+
+    private void insertTransaction(UUID walletId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO transactions (id, wallet_id, to_user_id, type, amount, created_at)"
+                        + " VALUES (?, ?, ?, 'DEPOSIT', ?, ?)",
+                UUID.randomUUID(), walletId, UUID.randomUUID(), BigDecimal.TEN, createdAt);
+    }
+
+    private List<String> partitionsOf(String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = ?::regclass
+                """, String.class, table);
+    }
+}
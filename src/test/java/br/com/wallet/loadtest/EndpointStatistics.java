@@ -0,0 +1,65 @@
+package br.com.wallet.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointStatistics {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final LoadTestOperation operation;
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram serviceTimes = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder ioErrors = new LongAdder();
+
+    EndpointStatistics(LoadTestOperation operation) {
+        this.operation = operation;
+    }
+
+    void record(int status, long latencyNanos, long serviceTimeNanos) {
+        latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        serviceTimes.recordValue(Math.min(serviceTimeNanos, HIGHEST_TRACKABLE_NANOS));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordIoError() {
+        ioErrors.increment();
+    }
+
+    void reset() {
+        latencies.reset();
+        serviceTimes.reset();
+        statusCounts.clear();
+        ioErrors.reset();
+    }
+
+    String format(double elapsedSeconds) {
+        long requests = latencies.getTotalCount();
+        Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+        return String.format(Locale.ROOT,
+                "%-55s requests=%-8d throughput=%9.1f req/s p50=%8.2f p90=%8.2f p99=%8.2f p99.9=%8.2f max=%8.2f ms"
+                        + " service(p50=%.2f p99=%.2f ms) statuses=%s ioErrors=%d",
+                operation.endpoint(), requests, requests / elapsedSeconds,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                millis(serviceTimes.getValueAtPercentile(50)),
+                millis(serviceTimes.getValueAtPercentile(99)),
+                statuses, ioErrors.sum());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
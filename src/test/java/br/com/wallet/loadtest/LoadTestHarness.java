@@ -0,0 +1,237 @@
+package br.com.wallet.loadtest;
+
+import br.com.wallet.domain.model.Transaction;
+import br.com.wallet.domain.model.UserWallet;
+import br.com.wallet.domain.model.Wallet;
+import br.com.wallet.domain.service.TransactionService;
+import br.com.wallet.domain.service.UserWalletService;
+import br.com.wallet.domain.service.WalletService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.commons.collections4.ListUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("loadtest")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.root=WARN"})
+class LoadTestHarness {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000.00");
+    private static final BigDecimal OPERATION_AMOUNT = new BigDecimal("1.00");
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    private final Map<UUID, Integer> walletIndexes = new HashMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private UserWalletService userWalletService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("wallet.rate-limit.enabled", () -> System.getProperty("loadtest.rate-limit", "false"));
+        if (!SETTINGS.embeddedPostgres()) {
+            return;
+        }
+        embeddedPostgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url",
+                () -> embeddedPostgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopEmbeddedPostgres() throws IOException {
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @Test
+    void shouldDriveConfiguredTrafficMixAndReportLatencyPerEndpoint() throws Exception {
+        List<UserWallet> userWallets = seed();
+        Map<LoadTestOperation, EndpointStatistics> statistics = new EnumMap<>(LoadTestOperation.class);
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            statistics.put(operation, new EndpointStatistics(operation));
+        }
+        ZipfianGenerator keys = new ZipfianGenerator(userWallets.size(), SETTINGS.zipfTheta());
+        LoadTestOperation[] operations = weightedOperations();
+
+        long warmupEndsAt = System.nanoTime() + SETTINGS.warmup().toNanos();
+        long endsAt = warmupEndsAt + SETTINGS.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(30))
+                     .executor(executor)
+                     .build()) {
+            Semaphore inFlight = new Semaphore(SETTINGS.concurrency());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long startedAt = System.nanoTime();
+            boolean warmingUp = true;
+            for (long arrival = 0; ; arrival++) {
+                long intendedStart = startedAt + SETTINGS.intendedStartOffsetNanos(arrival);
+                if (intendedStart >= endsAt) {
+                    break;
+                }
+                if (warmingUp && intendedStart >= warmupEndsAt) {
+                    statistics.values().forEach(EndpointStatistics::reset);
+                    warmingUp = false;
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.max(0, intendedStart - System.nanoTime()));
+                inFlight.acquire();
+                LoadTestOperation operation = operations[random.nextInt(operations.length)];
+                UserWallet source = userWallets.get(keys.next(random));
+                UserWallet target = userWallets.get(transferTargetIndex(keys.next(random), source));
+                executor.execute(() -> {
+                    try {
+                        send(httpClient, operation, source, target, intendedStart, statistics.get(operation));
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(SETTINGS.concurrency());
+        }
+
+        double elapsedSeconds = SETTINGS.duration().toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf("[load test] %s%n", SETTINGS);
+        statistics.values().forEach(endpoint -> System.out.println("[load test] " + endpoint.format(elapsedSeconds)));
+        assertTrue(elapsedSeconds > 0);
+    }
+
+    private List<UserWallet> seed() {
+        List<UserWallet> userWallets = new ArrayList<>(SETTINGS.userWallets());
+        for (int walletIndex = 0; walletIndex < SETTINGS.wallets(); walletIndex++) {
+            Wallet wallet = walletService.save(Wallet.builder().name("loadtest-" + UUID.randomUUID()).build());
+            walletIndexes.put(wallet.getId(), walletIndex);
+            for (int userIndex = 0; userIndex < SETTINGS.usersPerWallet(); userIndex++) {
+                userWallets.add(userWalletService.save(
+                        UserWallet.builder().userId(UUID.randomUUID()).wallet(wallet).build()));
+            }
+        }
+        for (List<UserWallet> chunk : ListUtils.partition(userWallets, SEED_CHUNK_SIZE)) {
+            transactionService.processBatch(chunk.stream()
+                    .map(userWallet -> Transaction.builder()
+                            .wallet(userWallet.getWallet())
+                            .toUserId(userWallet.getUserId())
+                            .type(Transaction.TransactionType.DEPOSIT)
+                            .amount(INITIAL_BALANCE)
+                            .build())
+                    .toList());
+        }
+        return userWallets;
+    }
+
+    private int transferTargetIndex(int index, UserWallet source) {
+        if (SETTINGS.wallets() > 1 && index / SETTINGS.usersPerWallet() == indexOfWallet(source)) {
+            return (index + SETTINGS.usersPerWallet()) % SETTINGS.userWallets();
+        }
+        return index;
+    }
+
+    private int indexOfWallet(UserWallet userWallet) {
+        return walletIndexes.get(userWallet.getWallet().getId());
+    }
+
+    private LoadTestOperation[] weightedOperations() {
+        List<LoadTestOperation> operations = new ArrayList<>();
+        SETTINGS.mix().forEach((operation, weight) -> {
+            for (int index = 0; index < weight; index++) {
+                operations.add(operation);
+            }
+        });
+        return operations.toArray(LoadTestOperation[]::new);
+    }
+
+    private void send(
+            HttpClient httpClient,
+            LoadTestOperation operation,
+            UserWallet source,
+            UserWallet target,
+            long intendedStart,
+            EndpointStatistics statistics) throws InterruptedException {
+        HttpRequest request = buildRequest(operation, source, target);
+        long begin = System.nanoTime();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            long end = System.nanoTime();
+            statistics.record(status, end - intendedStart, end - begin);
+        } catch (IOException ex) {
+            statistics.recordIoError();
+        }
+    }
+
+    private HttpRequest buildRequest(LoadTestOperation operation, UserWallet source, UserWallet target) {
+        String baseUrl = "http://localhost:" + port;
+        return switch (operation) {
+            case DEPOSIT -> post(baseUrl + "/api/transactions/deposit",
+                    "{\"walletId\":\"" + source.getWallet().getId() + "\",\"toUserId\":\"" + source.getUserId()
+                            + "\",\"amount\":" + OPERATION_AMOUNT + "}");
+            case WITHDRAW -> post(baseUrl + "/api/transactions/withdraw",
+                    "{\"walletId\":\"" + source.getWallet().getId() + "\",\"fromUserId\":\"" + source.getUserId()
+                            + "\",\"amount\":" + OPERATION_AMOUNT + "}");
+            case TRANSFER -> post(baseUrl + "/api/transactions/transfer",
+                    "{\"walletId\":\"" + source.getWallet().getId() + "\",\"fromUserId\":\"" + source.getUserId()
+                            + "\",\"destinationWalletId\":\"" + target.getWallet().getId()
+                            + "\",\"toUserId\":\"" + target.getUserId()
+                            + "\",\"amount\":" + OPERATION_AMOUNT + "}");
+            case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/user-wallets/user/" + source.getUserId()
+                            + "/wallet/" + source.getWallet().getId()))
+                    .timeout(Duration.ofMinutes(2))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.wallet.loadtest;
+
+enum LoadTestOperation {
+    DEPOSIT("POST /api/transactions/deposit"),
+    WITHDRAW("POST /api/transactions/withdraw"),
+    TRANSFER("POST /api/transactions/transfer"),
+    READ("GET /api/user-wallets/user/{userId}/wallet/{walletId}");
+
+    private final String endpoint;
+
+    LoadTestOperation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.wallet.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+record LoadTestSettings(
+        boolean embeddedPostgres,
+        int wallets,
+        int usersPerWallet,
+        int concurrency,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        double zipfTheta,
+        Map<LoadTestOperation, Integer> mix
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Boolean.parseBoolean(property("embedded-postgres", "true")),
+                Integer.parseInt(property("wallets", "100")),
+                Integer.parseInt(property("users-per-wallet", "100")),
+                Integer.parseInt(property("concurrency", "256")),
+                Double.parseDouble(property("rate", "2000")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                Double.parseDouble(property("zipf-theta", "0.99")),
+                parseMix(property("mix", "deposit:35,withdraw:20,transfer:15,read:30")));
+    }
+
+    int userWallets() {
+        return wallets * usersPerWallet;
+    }
+
+    long intendedStartOffsetNanos(long arrival) {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Load test rate must be positive: " + rate);
+        }
+        return Math.round(arrival * (TimeUnit.SECONDS.toNanos(1) / rate));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load test mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load test mix weights cannot be negative: " + entry);
+            }
+            weights.put(LoadTestOperation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Load test mix must have at least one positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.wallet.loadtest;
+
+import java.util.random.RandomGenerator;
+
+final class ZipfianGenerator {
+
+    private final int items;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    ZipfianGenerator(int items, double theta) {
+        if (items < 1) {
+            throw new IllegalArgumentException("Zipfian generator needs at least one item");
+        }
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("Zipfian theta must be between 0 and 1 (exclusive)");
+        }
+        this.items = items;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(items, theta);
+        double zeta2 = zeta(Math.min(2, items), theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    int next(RandomGenerator random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, items - 1);
+        }
+        int rank = (int) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(rank, items - 1);
+    }
+
+    private static double zeta(int items, double theta) {
+        double sum = 0;
+        for (int rank = 1; rank <= items; rank++) {
+            sum += 1 / Math.pow(rank, theta);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.wallet.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfianGeneratorTest {
+
+    @Test
+    void shouldConcentrateDrawsOnHotKeysWithinBounds() {
+        // Given
+        ZipfianGenerator generator = new ZipfianGenerator(10_000, 0.99);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[10_000];
+
+        // When
+        for (int draw = 0; draw < 100_000; draw++) {
+            counts[generator.next(random)]++;
+        }
+
+        // Then
+        int hottestTen = 0;
+        for (int index = 0; index < 10; index++) {
+            hottestTen += counts[index];
+        }
+        assertTrue(counts[0] > counts[100]);
+        assertTrue(hottestTen > 20_000);
+    }
+
+    @Test
+    void shouldParseTrafficMix() {
+        // When
+        Map<LoadTestOperation, Integer> mix = LoadTestSettings.parseMix("deposit:50, read:50");
+
+        // Then
+        assertEquals(50, mix.get(LoadTestOperation.DEPOSIT));
+        assertEquals(50, mix.get(LoadTestOperation.READ));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("deposit:0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("deposit"));
+    }
+}